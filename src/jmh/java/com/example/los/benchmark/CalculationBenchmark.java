@@ -0,0 +1,82 @@
+package com.example.los.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMICalculationResponse;
+import com.example.los.application.dto.InterestCalculationRequest;
+import com.example.los.application.dto.InterestCalculationResponse;
+import com.example.los.application.service.CalculationService;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+/**
+ * Quote path benchmarks: EMI with and without the full schedule across tenures,
+ * and compound interest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CalculationBenchmark {
+
+    @Param({"12", "36", "60", "120", "240", "360", "480"})
+    private int tenureMonths;
+
+    private CalculationService calculationService;
+    private EMICalculationRequest emiRequest;
+    private InterestCalculationRequest interestRequest;
+
+    @Setup
+    public void setUp() {
+        CalculationProperties calculationProperties = new CalculationProperties();
+        AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(calculationProperties);
+        calculationService = new CalculationService(new AmortizationEngine(annuityFactorCache), annuityFactorCache,
+                calculationProperties);
+
+        emiRequest = EMICalculationRequest.builder()
+                .principalAmount(new BigDecimal("250000.00"))
+                .annualInterestRate(new BigDecimal("7.2500"))
+                .tenureMonths(tenureMonths)
+                .startDate(LocalDate.of(2025, 1, 31))
+                .build();
+
+        interestRequest = InterestCalculationRequest.builder()
+                .principalAmount(new BigDecimal("250000.00"))
+                .annualInterestRate(new BigDecimal("7.2500"))
+                .timeYears(BigDecimal.valueOf(tenureMonths / 12))
+                .build();
+    }
+
+    @Benchmark
+    public EMICalculationResponse calculateEMI() {
+        return calculationService.calculateEMI(emiRequest);
+    }
+
+    @Benchmark
+    public EMICalculationResponse calculateEMISummary() {
+        return calculationService.calculateEMISummary(emiRequest);
+    }
+
+    @Benchmark
+    public InterestCalculationResponse calculateCompoundInterest() {
+        return calculationService.calculateCompoundInterest(interestRequest);
+    }
+}
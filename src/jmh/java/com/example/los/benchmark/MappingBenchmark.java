@@ -0,0 +1,143 @@
+package com.example.los.benchmark;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.los.application.dto.ApprovalWorkflowResponse;
+import com.example.los.application.dto.CustomerResponse;
+import com.example.los.application.dto.LoanApplicationResponse;
+import com.example.los.application.dto.ProductResponse;
+import com.example.los.application.service.ApprovalWorkflowService;
+import com.example.los.application.service.CustomerService;
+import com.example.los.application.service.LoanApplicationService;
+import com.example.los.application.service.ProductService;
+import com.example.los.domain.entity.MProduct;
+import com.example.los.domain.entity.TCustomer;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.entity.TLoanApproval;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+
+/**
+ * Entity to response mapping of the services, invoked directly through method
+ * handles on the private mapToResponse methods. Repositories the mappers do
+ * not touch are left null.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    private MethodHandle loanApplicationMapper;
+    private MethodHandle productMapper;
+    private MethodHandle customerMapper;
+    private MethodHandle approvalMapper;
+
+    private TLoanApplication loanApplication;
+    private MProduct product;
+    private TCustomer customer;
+    private TLoanApproval approval;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        loanApplication = new TLoanApplication();
+        loanApplication.setId(1L);
+        loanApplication.setCustomerId(10L);
+        loanApplication.setProductId(20L);
+        loanApplication.setApplicationNo("APP-000001");
+        loanApplication.setLoanAmount(new BigDecimal("25000.00"));
+        loanApplication.setTenureMonth(36);
+        loanApplication.setStatusCode(ApplicationStatus.UNDER_REVIEW);
+        loanApplication.setCreatedAt(Instant.now());
+
+        product = new MProduct();
+        product.setId(20L);
+        product.setProductCode("PL-STD");
+        product.setProductNameEn("Personal Loan");
+        product.setMinAmount(new BigDecimal("1000.00"));
+        product.setMaxAmount(new BigDecimal("50000.00"));
+        product.setTenureMonth(36);
+        product.setStatus("ACTIVE");
+
+        customer = new TCustomer();
+        customer.setId(10L);
+        customer.setNameEn("Benchmark Customer");
+        customer.setPhone("012345678");
+        customer.setCreatedAt(Instant.now());
+
+        approval = new TLoanApproval();
+        approval.setId(100L);
+        approval.setLoanApplicationId(1L);
+        approval.setApprovalLevel(1);
+        approval.setApproverRole("LOAN_OFFICER");
+        approval.setStatus(ApprovalStatus.PENDING);
+        approval.setCreatedAt(Instant.now());
+
+        List<TLoanApplication> customerApplications = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            customerApplications.add(loanApplication);
+        }
+        LoanApplicationRepository loanApplicationRepository = mock(LoanApplicationRepository.class);
+        when(loanApplicationRepository.findByCustomerId(anyLong())).thenReturn(customerApplications);
+
+        loanApplicationMapper = mapper(new LoanApplicationService(null, null, null, null, null, null, null, null, null, null, null),
+                LoanApplicationResponse.class, TLoanApplication.class);
+        productMapper = mapper(new ProductService(null), ProductResponse.class, MProduct.class);
+        customerMapper = mapper(new CustomerService(null, loanApplicationRepository),
+                CustomerResponse.class, TCustomer.class);
+        approvalMapper = mapper(new ApprovalWorkflowService(null, null, null, null, null, null, null, null, null),
+                ApprovalWorkflowResponse.class, TLoanApproval.class, TLoanApplication.class);
+    }
+
+    private static MethodHandle mapper(Object service, Class<?> returnType, Class<?>... parameterTypes)
+            throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(service.getClass(), MethodHandles.lookup());
+        return lookup.findVirtual(service.getClass(), "mapToResponse", MethodType.methodType(returnType, parameterTypes))
+                .bindTo(service);
+    }
+
+    @Benchmark
+    public Object loanApplicationMapToResponse() throws Throwable {
+        return loanApplicationMapper.invoke(loanApplication);
+    }
+
+    @Benchmark
+    public Object productMapToResponse() throws Throwable {
+        return productMapper.invoke(product);
+    }
+
+    @Benchmark
+    public Object customerMapToResponse() throws Throwable {
+        return customerMapper.invoke(customer);
+    }
+
+    @Benchmark
+    public Object approvalMapToResponse() throws Throwable {
+        return approvalMapper.invoke(approval, loanApplication);
+    }
+}
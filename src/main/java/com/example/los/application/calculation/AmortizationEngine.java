@@ -0,0 +1,193 @@
+package com.example.los.application.calculation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Fixed-point amortization math.
+ *
+ * Money is carried as long minor units (cents) and the monthly rate as a long
+ * scaled by 10^10, which is exactly the scale-10 monthly rate the BigDecimal
+ * formulas have always used. Every result is rounded HALF_UP to the cent and is
+ * identical to evaluating the original BigDecimal formula exactly:
+ * EMI = [P x R x (1+R)^N] / [(1+R)^N - 1]
+ *
+ * Annuity factors come from {@link AnnuityFactorCache} whenever the tenure is
+ * short enough to be tabulated.
+ */
+@Component
+public class AmortizationEngine {
+
+    public static final int RATE_SCALE = 10;
+    public static final long RATE_ONE = 10_000_000_000L;
+
+    private static final BigDecimal TWELVE = BigDecimal.valueOf(12);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /** Largest cent amount that is still exact as a double. */
+    private static final long MAX_EXACT_CENTS = 1L << 53;
+
+    /**
+     * Relative error budget for the binary fast path. The real error of the
+     * squaring chain is a few hundred ulps at most; anything closer than this to
+     * a half-cent boundary is resolved with exact arithmetic instead.
+     */
+    private static final double RELATIVE_TOLERANCE = 1e-11;
+
+    private final AnnuityFactorCache annuityFactorCache;
+
+    public AmortizationEngine(AnnuityFactorCache annuityFactorCache) {
+        this.annuityFactorCache = annuityFactorCache;
+    }
+
+    /**
+     * Monthly rate (annual rate / 12 / 100, rounded HALF_UP to 10 places at each
+     * step) as a long scaled by 10^10.
+     */
+    public long monthlyRateUnits(BigDecimal annualInterestRate) {
+        return annualInterestRate
+                .divide(TWELVE, RATE_SCALE, RoundingMode.HALF_UP)
+                .divide(HUNDRED, RATE_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+    }
+
+    /**
+     * True when the amount has no fraction below one cent and fits the fast path.
+     */
+    public boolean isWholeCents(BigDecimal amount) {
+        int scale = amount.scale() <= 2 ? amount.scale() : amount.stripTrailingZeros().scale();
+        return scale <= 2 && amount.abs().compareTo(BigDecimal.valueOf(MAX_EXACT_CENTS, 2)) < 0;
+    }
+
+    public long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    public static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Equated monthly installment in cents for a principal in cents.
+     * A zero rate amortizes straight-line.
+     */
+    public long emiCents(long principalCents, long monthlyRateUnits, int tenureMonths) {
+        if (monthlyRateUnits == 0) {
+            return divideHalfUp(principalCents, tenureMonths);
+        }
+        if (principalCents < MAX_EXACT_CENTS) {
+            long fast = fastEmiCents(principalCents, monthlyRateUnits, tenureMonths);
+            if (fast >= 0) {
+                return fast;
+            }
+        }
+        return toCents(exactEmi(fromCents(principalCents), monthlyRateUnits, tenureMonths));
+    }
+
+    /**
+     * EMI for an arbitrary principal, used when the principal carries sub-cent
+     * digits. Exact, so only suitable off the hot path.
+     */
+    public BigDecimal exactEmi(BigDecimal principal, long monthlyRateUnits, int tenureMonths) {
+        if (monthlyRateUnits == 0) {
+            return principal.divide(BigDecimal.valueOf(tenureMonths), 2, RoundingMode.HALF_UP);
+        }
+        BigDecimal monthlyRate = BigDecimal.valueOf(monthlyRateUnits, RATE_SCALE);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(tenureMonths);
+        return principal.multiply(monthlyRate).multiply(growth)
+                .divide(growth.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Interest accrued on a balance for one month, rounded HALF_UP to the cent.
+     */
+    public long interestCents(long balanceCents, long monthlyRateUnits) {
+        return mulDivHalfUp(balanceCents, monthlyRateUnits, RATE_ONE);
+    }
+
+    /**
+     * (1+R)^N - 1 by exponentiation by squaring on the excess over one, which
+     * keeps full relative precision for small rates and short tenures where
+     * forming (1+R)^N and subtracting one would cancel.
+     */
+    static double growthExcess(long monthlyRateUnits, int tenureMonths) {
+        double base = (double) monthlyRateUnits / RATE_ONE;
+        double acc = 0.0;
+        int n = tenureMonths;
+        while (n > 0) {
+            if ((n & 1) != 0) {
+                acc = acc + base + acc * base;
+            }
+            n >>>= 1;
+            if (n > 0) {
+                base = base + base + base * base;
+            }
+        }
+        return acc;
+    }
+
+    /**
+     * Binary fast path. Returns -1 when the value lands too close to a rounding
+     * boundary (or outside double range) to be decided without exact arithmetic.
+     */
+    private long fastEmiCents(long principalCents, long monthlyRateUnits, int tenureMonths) {
+        AnnuityFactorCache.PowerTable table = annuityFactorCache.get(monthlyRateUnits, tenureMonths);
+        double factor = table != null
+                ? table.annuityFactor(tenureMonths)
+                : annuityFactor(monthlyRateUnits, growthExcess(monthlyRateUnits, tenureMonths));
+        return roundHalfUpOrFail(principalCents * factor);
+    }
+
+    static double annuityFactor(long monthlyRateUnits, double growthExcess) {
+        double rate = (double) monthlyRateUnits / RATE_ONE;
+        return rate * ((1.0 + growthExcess) / growthExcess);
+    }
+
+    /**
+     * HALF_UP rounding of a fast-path cent value, or -1 when the error bound
+     * straddles a half-cent boundary.
+     */
+    static long roundHalfUpOrFail(double cents) {
+        if (!Double.isFinite(cents) || cents < 0 || cents >= MAX_EXACT_CENTS) {
+            return -1;
+        }
+        double shifted = cents + 0.5;
+        double nearest = Math.rint(shifted);
+        if (Math.abs(shifted - nearest) <= cents * RELATIVE_TOLERANCE + 1e-9) {
+            return -1;
+        }
+        return (long) Math.floor(shifted);
+    }
+
+    static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= Math.abs(divisor)) {
+            quotient += Long.signum(dividend) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+
+    /**
+     * a x b / divisor rounded HALF_UP, for non-negative operands, falling back to
+     * BigInteger only when the product does not fit in a long.
+     */
+    public static long mulDivHalfUp(long a, long b, long divisor) {
+        long high = Math.multiplyHigh(a, b);
+        long low = a * b;
+        if (high == 0 && low >= 0) {
+            return divideHalfUp(low, divisor);
+        }
+        BigInteger[] qr = BigInteger.valueOf(a).multiply(BigInteger.valueOf(b))
+                .divideAndRemainder(BigInteger.valueOf(divisor));
+        long quotient = qr[0].longValueExact();
+        if (qr[1].shiftLeft(1).compareTo(BigInteger.valueOf(divisor)) >= 0) {
+            quotient++;
+        }
+        return quotient;
+    }
+}
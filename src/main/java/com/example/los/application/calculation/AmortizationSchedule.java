@@ -0,0 +1,210 @@
+package com.example.los.application.calculation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.example.los.application.dto.RepaymentSchedule;
+
+/**
+ * Lazily evaluated amortization schedule for a principal in whole cents.
+ *
+ * Nothing is materialized: each installment is computed when the iterator
+ * reaches it. Every balance depends on the rounding of all earlier months, so a
+ * range starting at installment k is positioned by replaying the k-1 earlier
+ * months on primitive state only, without building rows or dates for them.
+ */
+public final class AmortizationSchedule implements Iterable<RepaymentSchedule> {
+
+    private final AmortizationEngine engine;
+    private final long principalCents;
+    private final long monthlyRateUnits;
+    private final int tenureMonths;
+    private final long emiCents;
+    private final LocalDate firstPaymentDate;
+
+    public AmortizationSchedule(AmortizationEngine engine, long principalCents, long monthlyRateUnits,
+                                int tenureMonths, long emiCents, LocalDate firstPaymentDate) {
+        this.engine = engine;
+        this.principalCents = principalCents;
+        this.monthlyRateUnits = monthlyRateUnits;
+        this.tenureMonths = tenureMonths;
+        this.emiCents = emiCents;
+        this.firstPaymentDate = firstPaymentDate;
+    }
+
+    public long getPrincipalCents() {
+        return principalCents;
+    }
+
+    public long getMonthlyRateUnits() {
+        return monthlyRateUnits;
+    }
+
+    public int getTenureMonths() {
+        return tenureMonths;
+    }
+
+    public long getEmiCents() {
+        return emiCents;
+    }
+
+    @Override
+    public Iterator<RepaymentSchedule> iterator() {
+        return iterator(1, tenureMonths);
+    }
+
+    /**
+     * Installments fromInstallment..toInstallment, both inclusive and clamped to the tenure.
+     */
+    public Iterator<RepaymentSchedule> iterator(int fromInstallment, int toInstallment) {
+        Cursor cursor = cursor();
+        int from = Math.max(1, fromInstallment);
+        cursor.skipTo(from);
+        return new RangeIterator(cursor, Math.min(tenureMonths, toInstallment));
+    }
+
+    public Stream<RepaymentSchedule> stream(int fromInstallment, int toInstallment) {
+        int size = Math.max(0, Math.min(tenureMonths, toInstallment) - Math.max(1, fromInstallment) + 1);
+        return StreamSupport.stream(Spliterators.spliterator(iterator(fromInstallment, toInstallment), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    public Stream<RepaymentSchedule> stream() {
+        return stream(1, tenureMonths);
+    }
+
+    /**
+     * Primitive cursor over the schedule. After {@link #advance()} the fields
+     * describe the installment just computed.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    /**
+     * Payment date of an installment. Dates advance one month at a time from the
+     * first payment, so a day-of-month clipped by a short month stays clipped.
+     */
+    public LocalDate paymentDate(int installment) {
+        return paymentDate(firstPaymentDate, installment);
+    }
+
+    static LocalDate paymentDate(LocalDate firstPaymentDate, int installment) {
+        int day = firstPaymentDate.getDayOfMonth();
+        YearMonth month = YearMonth.from(firstPaymentDate);
+        for (int i = 1; i < installment && day > 28; i++) {
+            day = Math.min(day, month.plusMonths(i).lengthOfMonth());
+        }
+        return firstPaymentDate.withDayOfMonth(1).plusMonths(installment - 1L).withDayOfMonth(day);
+    }
+
+    public final class Cursor {
+
+        private int installmentNumber;
+        private long openingBalance = principalCents;
+        private long closingBalance = principalCents;
+        private long interest;
+        private long principalComponent;
+        private long installment;
+
+        public boolean hasNext() {
+            return installmentNumber < tenureMonths;
+        }
+
+        public void advance() {
+            installmentNumber++;
+            openingBalance = closingBalance;
+            interest = engine.interestCents(openingBalance, monthlyRateUnits);
+            principalComponent = emiCents - interest;
+            installment = emiCents;
+
+            // Last month settles whatever principal is left
+            if (installmentNumber == tenureMonths) {
+                principalComponent = openingBalance;
+                installment = principalComponent + interest;
+            }
+
+            closingBalance = Math.max(0, openingBalance - principalComponent);
+        }
+
+        /**
+         * Positions the cursor so that the next {@link #advance()} yields the given installment.
+         */
+        public void skipTo(int nextInstallment) {
+            while (installmentNumber < nextInstallment - 1 && hasNext()) {
+                advance();
+            }
+        }
+
+        public int getInstallmentNumber() {
+            return installmentNumber;
+        }
+
+        public long getOpeningBalance() {
+            return openingBalance;
+        }
+
+        public long getClosingBalance() {
+            return closingBalance;
+        }
+
+        public long getInterest() {
+            return interest;
+        }
+
+        public long getPrincipalComponent() {
+            return principalComponent;
+        }
+
+        public long getInstallment() {
+            return installment;
+        }
+
+        RepaymentSchedule toRepaymentSchedule(LocalDate paymentDate) {
+            return RepaymentSchedule.builder()
+                    .installmentNumber(installmentNumber)
+                    .paymentDate(paymentDate)
+                    .emi(AmortizationEngine.fromCents(installment))
+                    .principalComponent(AmortizationEngine.fromCents(principalComponent))
+                    .interestComponent(AmortizationEngine.fromCents(interest))
+                    .remainingBalance(AmortizationEngine.fromCents(closingBalance))
+                    .build();
+        }
+    }
+
+    private final class RangeIterator implements Iterator<RepaymentSchedule> {
+
+        private final Cursor cursor;
+        private final int lastInstallment;
+        private LocalDate nextPaymentDate;
+
+        RangeIterator(Cursor cursor, int lastInstallment) {
+            this.cursor = cursor;
+            this.lastInstallment = lastInstallment;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor.hasNext() && cursor.getInstallmentNumber() < lastInstallment;
+        }
+
+        @Override
+        public RepaymentSchedule next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            cursor.advance();
+            LocalDate paymentDate = nextPaymentDate != null
+                    ? nextPaymentDate
+                    : paymentDate(cursor.getInstallmentNumber());
+            nextPaymentDate = paymentDate.plusMonths(1);
+            return cursor.toRepaymentSchedule(paymentDate);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.los.application.calculation;
+
+import org.springframework.stereotype.Component;
+
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache of growth tables keyed by (monthly rate, tenure).
+ *
+ * The annuity factor R x (1+R)^N / ((1+R)^N - 1) depends only on the rate and the
+ * tenure, and the product catalog has a few hundred distinct pairs, so computing
+ * it once per pair turns most of a quote into a lookup. Each entry also holds
+ * (1+R)^k - 1 for every k up to the tenure, which gives the factor for any
+ * shorter remaining term at the same rate (rate resets, prepayments).
+ *
+ * Entries are weighed by their length in months and evicted by total weight and
+ * by age.
+ */
+@Component
+@Slf4j
+public class AnnuityFactorCache {
+
+    private final LoadingCache<Key, PowerTable> tables;
+    private final int maxTabulatedTenure;
+
+    public AnnuityFactorCache(CalculationProperties calculationProperties) {
+        CalculationProperties.FactorCache properties = calculationProperties.getFactorCache();
+        this.maxTabulatedTenure = properties.getMaxTabulatedTenure();
+        this.tables = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxTabulatedMonths())
+                .weigher((Key key, PowerTable table) -> table.getTenureMonths() + 1)
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build(key -> new PowerTable(key.monthlyRateUnits(), key.tenureMonths()));
+        log.info("Annuity factor cache configured: {} months max, ttl {}",
+                properties.getMaxTabulatedMonths(), properties.getTtl());
+    }
+
+    /**
+     * Growth table for a (monthly rate, tenure) pair, or null when the tenure is
+     * too long to tabulate and the caller should compute directly.
+     */
+    public PowerTable get(long monthlyRateUnits, int tenureMonths) {
+        if (tenureMonths > maxTabulatedTenure) {
+            return null;
+        }
+        return tables.get(new Key(monthlyRateUnits, tenureMonths));
+    }
+
+    public CacheStats stats() {
+        return tables.stats();
+    }
+
+    public long size() {
+        return tables.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        tables.invalidateAll();
+    }
+
+    record Key(long monthlyRateUnits, int tenureMonths) {
+    }
+
+    /**
+     * (1+R)^k - 1 for k = 0..N, each computed by squaring so every entry carries
+     * the same error bound as a direct calculation.
+     */
+    public static final class PowerTable {
+
+        private final long monthlyRateUnits;
+        private final double[] growthExcess;
+
+        PowerTable(long monthlyRateUnits, int tenureMonths) {
+            this.monthlyRateUnits = monthlyRateUnits;
+            this.growthExcess = new double[tenureMonths + 1];
+            for (int k = 1; k <= tenureMonths; k++) {
+                growthExcess[k] = AmortizationEngine.growthExcess(monthlyRateUnits, k);
+            }
+        }
+
+        public long getMonthlyRateUnits() {
+            return monthlyRateUnits;
+        }
+
+        public int getTenureMonths() {
+            return growthExcess.length - 1;
+        }
+
+        /**
+         * (1+R)^k - 1
+         */
+        public double growthExcess(int months) {
+            return growthExcess[months];
+        }
+
+        /**
+         * R x (1+R)^k / ((1+R)^k - 1): EMI per unit of principal over k months.
+         */
+        public double annuityFactor(int months) {
+            return AmortizationEngine.annuityFactor(monthlyRateUnits, growthExcess[months]);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.los.application.calculation;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Expected scheduled inflows bucketed by month, branch and product.
+ *
+ * Branch and product are fixed for a loan, so each loan looks up its
+ * (branch, product) series once and then adds every installment into two
+ * primitive arrays indexed by month offset. Not thread-safe: each worker fills
+ * its own projection and the results are combined with {@link #merge}.
+ */
+public final class CashFlowProjection {
+
+    private final YearMonth startMonth;
+    private final int horizonMonths;
+    private final Map<SeriesKey, Series> series = new HashMap<>();
+    private long loanCount;
+    private long skippedLoanCount;
+
+    public CashFlowProjection(YearMonth startMonth, int horizonMonths) {
+        this.startMonth = startMonth;
+        this.horizonMonths = horizonMonths;
+    }
+
+    /**
+     * Adds the installments of one loan that fall inside the horizon. Installments
+     * before the start month are replayed only to reach the right balance.
+     */
+    public void addLoan(AmortizationEngine engine, long branchId, long productId, long principalCents,
+                        long monthlyRateUnits, int tenureMonths, LocalDate firstPaymentDate) {
+        int firstOffset = (firstPaymentDate.getYear() - startMonth.getYear()) * 12
+                + firstPaymentDate.getMonthValue() - startMonth.getMonthValue();
+        loanCount++;
+        if (firstOffset >= horizonMonths || firstOffset + tenureMonths <= 0) {
+            return;
+        }
+
+        long emiCents = engine.emiCents(principalCents, monthlyRateUnits, tenureMonths);
+        AmortizationSchedule.Cursor cursor = new AmortizationSchedule(engine, principalCents, monthlyRateUnits,
+                tenureMonths, emiCents, firstPaymentDate).cursor();
+        cursor.skipTo(Math.max(1, 1 - firstOffset));
+
+        Series target = series.computeIfAbsent(new SeriesKey(branchId, productId), key -> new Series(horizonMonths));
+        long[] principal = target.principal;
+        long[] interest = target.interest;
+        while (cursor.hasNext()) {
+            cursor.advance();
+            int month = firstOffset + cursor.getInstallmentNumber() - 1;
+            if (month >= horizonMonths) {
+                break;
+            }
+            principal[month] += cursor.getPrincipalComponent();
+            interest[month] += cursor.getInterest();
+        }
+    }
+
+    public void skipLoan() {
+        skippedLoanCount++;
+    }
+
+    public void merge(CashFlowProjection other) {
+        loanCount += other.loanCount;
+        skippedLoanCount += other.skippedLoanCount;
+        other.series.forEach((key, source) -> {
+            Series target = series.computeIfAbsent(key, k -> new Series(horizonMonths));
+            for (int m = 0; m < horizonMonths; m++) {
+                target.principal[m] += source.principal[m];
+                target.interest[m] += source.interest[m];
+            }
+        });
+    }
+
+    public YearMonth getStartMonth() {
+        return startMonth;
+    }
+
+    public int getHorizonMonths() {
+        return horizonMonths;
+    }
+
+    public long getLoanCount() {
+        return loanCount;
+    }
+
+    public long getSkippedLoanCount() {
+        return skippedLoanCount;
+    }
+
+    public Map<SeriesKey, Series> getSeries() {
+        return series;
+    }
+
+    public record SeriesKey(long branchId, long productId) {
+    }
+
+    /**
+     * Principal and interest in cents per month offset from the start month.
+     */
+    public static final class Series {
+
+        private final long[] principal;
+        private final long[] interest;
+
+        Series(int horizonMonths) {
+            this.principal = new long[horizonMonths];
+            this.interest = new long[horizonMonths];
+        }
+
+        public long[] getPrincipal() {
+            return principal;
+        }
+
+        public long[] getInterest() {
+            return interest;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.los.application.calculation;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.example.los.application.dto.RepaymentSchedule;
+
+/**
+ * Lazily evaluated amortization schedule in exact BigDecimal arithmetic, for principals
+ * or EMIs with sub-cent digits.
+ *
+ * Like {@link AmortizationSchedule}, a range starting at installment k is positioned by
+ * replaying the k-1 earlier months on the running balance only, without building rows
+ * or dates for them.
+ */
+public final class ExactAmortizationSchedule implements Iterable<RepaymentSchedule> {
+
+    private final BigDecimal principal;
+    private final BigDecimal monthlyInterestRate;
+    private final int tenureMonths;
+    private final BigDecimal emi;
+    private final LocalDate firstPaymentDate;
+
+    public ExactAmortizationSchedule(BigDecimal principal, long monthlyRateUnits, int tenureMonths,
+                                     BigDecimal emi, LocalDate firstPaymentDate) {
+        this.principal = principal;
+        this.monthlyInterestRate = BigDecimal.valueOf(monthlyRateUnits, AmortizationEngine.RATE_SCALE);
+        this.tenureMonths = tenureMonths;
+        this.emi = emi;
+        this.firstPaymentDate = firstPaymentDate;
+    }
+
+    @Override
+    public Iterator<RepaymentSchedule> iterator() {
+        return iterator(1, tenureMonths);
+    }
+
+    /**
+     * Installments fromInstallment..toInstallment, both inclusive and clamped to the tenure.
+     */
+    public Iterator<RepaymentSchedule> iterator(int fromInstallment, int toInstallment) {
+        RangeIterator iterator = new RangeIterator(Math.min(tenureMonths, toInstallment));
+        iterator.skipTo(Math.max(1, fromInstallment));
+        return iterator;
+    }
+
+    public Stream<RepaymentSchedule> stream(int fromInstallment, int toInstallment) {
+        int size = Math.max(0, Math.min(tenureMonths, toInstallment) - Math.max(1, fromInstallment) + 1);
+        return StreamSupport.stream(Spliterators.spliterator(iterator(fromInstallment, toInstallment), size,
+                Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    public Stream<RepaymentSchedule> stream() {
+        return stream(1, tenureMonths);
+    }
+
+    private final class RangeIterator implements Iterator<RepaymentSchedule> {
+
+        private final int lastInstallment;
+        private int installmentNumber;
+        private BigDecimal remainingPrincipal = principal;
+        private BigDecimal interest;
+        private BigDecimal principalComponent;
+        private BigDecimal installment;
+        private LocalDate nextPaymentDate;
+
+        RangeIterator(int lastInstallment) {
+            this.lastInstallment = lastInstallment;
+        }
+
+        void skipTo(int nextInstallment) {
+            while (installmentNumber < nextInstallment - 1 && installmentNumber < tenureMonths) {
+                advance();
+            }
+        }
+
+        private void advance() {
+            installmentNumber++;
+            interest = remainingPrincipal.multiply(monthlyInterestRate).setScale(2, RoundingMode.HALF_UP);
+            principalComponent = emi.subtract(interest);
+            installment = emi;
+
+            // Last month settles whatever principal is left
+            if (installmentNumber == tenureMonths) {
+                principalComponent = remainingPrincipal;
+                installment = principalComponent.add(interest);
+            }
+
+            remainingPrincipal = remainingPrincipal.subtract(principalComponent);
+            if (remainingPrincipal.signum() < 0) {
+                remainingPrincipal = BigDecimal.ZERO;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return installmentNumber < tenureMonths && installmentNumber < lastInstallment;
+        }
+
+        @Override
+        public RepaymentSchedule next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            LocalDate paymentDate = nextPaymentDate != null
+                    ? nextPaymentDate
+                    : AmortizationSchedule.paymentDate(firstPaymentDate, installmentNumber);
+            nextPaymentDate = paymentDate.plusMonths(1);
+            return RepaymentSchedule.builder()
+                    .installmentNumber(installmentNumber)
+                    .paymentDate(paymentDate)
+                    .emi(installment)
+                    .principalComponent(principalComponent)
+                    .interestComponent(interest)
+                    .remainingBalance(remainingPrincipal)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.los.application.decision;
+
+/**
+ * Outcome of the auto-decision rules with the verdict of every rule, e.g.
+ * "PRODUCT=PASS OVERDUE=PASS AMOUNT=REFER EXPOSURE=PASS LTV=PASS(4500bp)".
+ */
+public record AutoDecision(Outcome outcome, String trace) {
+
+    public enum Outcome {
+        /** Every rule passed. */
+        APPROVE,
+        /** A rule failed hard; no human review would approve it. */
+        REJECT,
+        /** A rule needs a human to look at the application. */
+        REFER
+    }
+}
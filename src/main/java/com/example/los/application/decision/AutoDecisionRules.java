@@ -0,0 +1,137 @@
+package com.example.los.application.decision;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import com.example.los.application.calculation.AmortizationEngine;
+
+/**
+ * The auto-decision rule set compiled into long thresholds.
+ *
+ * Limits are held in cents and the LTV ceiling in basis points, so evaluating
+ * an application is a handful of long comparisons. Every rule is evaluated and
+ * recorded in the trace; the outcome is REJECT when any rule rejects, REFER when
+ * any refers and APPROVE otherwise. Rules, in trace order:
+ * PRODUCT refers amounts outside the product's limits and products that are
+ * inactive or gone, since the product changed after the customer applied;
+ * OVERDUE refers a customer with unpaid past-due installments and rejects at
+ * the configured count, the only customer fact that rejects; AMOUNT refers
+ * amounts above the auto-approval limit, EXPOSURE refers when the customer's
+ * committed loans plus this one pass the exposure limit, and LTV refers
+ * collateralised loans above the LTV ceiling and unsecured loans above the
+ * unsecured limit.
+ */
+public final class AutoDecisionRules {
+
+    private static final long BASIS_POINTS = 10_000L;
+    private static final long MAX_LTV_CENTS = Long.MAX_VALUE / BASIS_POINTS;
+
+    private final long maxAmountCents;
+    private final long maxExposureCents;
+    private final long maxUnsecuredCents;
+    private final long maxLtvBasisPoints;
+    private final int rejectOverdueInstallments;
+
+    private AutoDecisionRules(long maxAmountCents, long maxExposureCents, long maxUnsecuredCents,
+                              long maxLtvBasisPoints, int rejectOverdueInstallments) {
+        this.maxAmountCents = maxAmountCents;
+        this.maxExposureCents = maxExposureCents;
+        this.maxUnsecuredCents = maxUnsecuredCents;
+        this.maxLtvBasisPoints = maxLtvBasisPoints;
+        this.rejectOverdueInstallments = rejectOverdueInstallments;
+    }
+
+    /**
+     * Compiles the rules. The auto-approval limit is the lower of maxAmount and
+     * firstLevelMaxCents, the limit of the first human approval level, so an
+     * auto-approved loan never needs a second level.
+     */
+    public static AutoDecisionRules compile(BigDecimal maxAmount, long firstLevelMaxCents,
+                                            BigDecimal maxCustomerExposure, BigDecimal maxUnsecuredAmount,
+                                            BigDecimal maxLtvPercent, int rejectOverdueInstallments) {
+        return new AutoDecisionRules(Math.min(toCents(maxAmount), firstLevelMaxCents),
+                toCents(maxCustomerExposure), toCents(maxUnsecuredAmount),
+                maxLtvPercent.movePointRight(2).setScale(0, RoundingMode.FLOOR).longValueExact(),
+                Math.max(1, rejectOverdueInstallments));
+    }
+
+    public long getMaxAmountCents() {
+        return maxAmountCents;
+    }
+
+    public AutoDecision evaluate(DecisionFacts facts) {
+        StringBuilder trace = new StringBuilder(96);
+        boolean reject = false;
+        boolean refer = false;
+
+        long amount = facts.loanAmountCents();
+        boolean withinProduct = facts.productActive()
+                && amount >= facts.productMinCents() && amount <= facts.productMaxCents();
+        refer |= !withinProduct;
+        append(trace, "PRODUCT", withinProduct ? Verdict.PASS : Verdict.REFER);
+
+        int overdue = facts.overdueInstallments();
+        Verdict overdueVerdict = overdue == 0 ? Verdict.PASS
+                : overdue >= rejectOverdueInstallments ? Verdict.REJECT : Verdict.REFER;
+        reject |= overdueVerdict == Verdict.REJECT;
+        refer |= overdueVerdict == Verdict.REFER;
+        append(trace, "OVERDUE", overdueVerdict);
+        if (overdue > 0) {
+            trace.append('(').append(overdue).append(')');
+        }
+
+        boolean withinAmount = amount <= maxAmountCents;
+        refer |= !withinAmount;
+        append(trace, "AMOUNT", withinAmount ? Verdict.PASS : Verdict.REFER);
+
+        long exposure = facts.customerExposureCents();
+        boolean withinExposure = exposure <= maxExposureCents - amount;
+        refer |= !withinExposure;
+        append(trace, "EXPOSURE", withinExposure ? Verdict.PASS : Verdict.REFER);
+
+        long collateral = facts.collateralCents();
+        if (collateral > 0) {
+            long ltv = amount <= MAX_LTV_CENTS
+                    ? AmortizationEngine.mulDivHalfUp(amount, BASIS_POINTS, collateral)
+                    : Long.MAX_VALUE;
+            boolean withinLtv = ltv <= maxLtvBasisPoints;
+            refer |= !withinLtv;
+            append(trace, "LTV", withinLtv ? Verdict.PASS : Verdict.REFER);
+            if (ltv != Long.MAX_VALUE) {
+                trace.append('(').append(ltv).append("bp)");
+            }
+        } else {
+            boolean withinUnsecured = amount <= maxUnsecuredCents;
+            refer |= !withinUnsecured;
+            append(trace, "LTV", withinUnsecured ? Verdict.PASS : Verdict.REFER);
+            trace.append("(unsecured)");
+        }
+
+        AutoDecision.Outcome outcome = reject ? AutoDecision.Outcome.REJECT
+                : refer ? AutoDecision.Outcome.REFER : AutoDecision.Outcome.APPROVE;
+        return new AutoDecision(outcome, trace.toString());
+    }
+
+    /**
+     * Cents of an amount, rounded up so a limit is never exceeded by sub-cent
+     * digits; null reads as 0 and amounts beyond a long as Long.MAX_VALUE.
+     */
+    public static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        BigDecimal cents = amount.setScale(2, RoundingMode.CEILING).movePointRight(2);
+        return cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) >= 0 ? Long.MAX_VALUE : cents.longValueExact();
+    }
+
+    private static void append(StringBuilder trace, String rule, Verdict verdict) {
+        if (!trace.isEmpty()) {
+            trace.append(' ');
+        }
+        trace.append(rule).append('=').append(verdict);
+    }
+
+    private enum Verdict {
+        PASS, REFER, REJECT
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.los.application.decision;
+
+/**
+ * What the auto-decision rules know about one submitted application, amounts
+ * in cents. A product without a minimum reads 0 and without a maximum
+ * Long.MAX_VALUE; no collateral reads 0.
+ */
+public record DecisionFacts(long loanAmountCents, boolean productActive, long productMinCents, long productMaxCents,
+                            long collateralCents, long customerExposureCents, int overdueInstallments) {
+}
@@ -0,0 +1,19 @@
+package com.example.los.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateReconciliationResult {
+    
+    private int checkedCount;
+    
+    private int correctedCount;
+    
+    private long elapsedMillis;
+}
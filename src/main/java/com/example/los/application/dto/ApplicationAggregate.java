@@ -0,0 +1,23 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationAggregate {
+    
+    private String statusCode;
+    
+    private Long productId;
+    
+    private long applicationCount;
+    
+    private BigDecimal totalAmount;
+}
@@ -0,0 +1,19 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBulkDecisionRequest {
+    
+    private String decidedBy;
+    
+    private List<ApprovalDecisionItem> items;
+}
@@ -0,0 +1,28 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalBulkDecisionResponse {
+    
+    private int itemCount;
+    
+    private int appliedCount;
+    
+    private int conflictCount;
+    
+    private int failedCount;
+    
+    private long elapsedMillis;
+    
+    // In request order
+    private List<ApprovalDecisionResult> results;
+}
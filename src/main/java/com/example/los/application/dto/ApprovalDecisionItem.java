@@ -0,0 +1,21 @@
+package com.example.los.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDecisionItem {
+    
+    private Long approvalId;
+    
+    // APPROVED or REJECTED
+    private String decision;
+    
+    // Approval remarks, or the rejection reason
+    private String remarks;
+}
@@ -0,0 +1,33 @@
+package com.example.los.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalDecisionResult {
+    
+    public static final String APPLIED = "APPLIED";
+    public static final String CONFLICT = "CONFLICT";
+    public static final String FAILED = "FAILED";
+    
+    private Long approvalId;
+    
+    private Long loanApplicationId;
+    
+    private String decision;
+    
+    // APPLIED; CONFLICT when the approval or application moved on or is held by someone else; FAILED for bad input
+    private String result;
+    
+    // Set when approving created the next approval level
+    private Integer nextApprovalLevel;
+    
+    private String loanApplicationStatus;
+    
+    private String message;
+}
@@ -0,0 +1,24 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalQueuePage {
+    
+    private List<ApprovalWorkflowResponse> items;
+    
+    private int size;
+    
+    private boolean hasMore;
+    
+    // Pass back as cursor to fetch the next page; null on the last page
+    private String nextCursor;
+}
@@ -37,4 +37,10 @@ public class ApprovalWorkflowResponse {
     private String loanApplicationStatus;
     
     private BigDecimal loanAmount;
+    
+    private Long branchId;
+    
+    private String claimedBy;
+    
+    private Instant claimExpiresAt;
 }
\ No newline at end of file
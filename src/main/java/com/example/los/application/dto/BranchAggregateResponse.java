@@ -0,0 +1,24 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BranchAggregateResponse {
+    
+    private Long branchId;
+    
+    private long applicationCount;
+    
+    private BigDecimal totalAmount;
+    
+    private List<ApplicationAggregate> aggregates;
+}
@@ -0,0 +1,25 @@
+package com.example.los.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalculationCacheStats {
+    
+    private long size;
+    
+    private long hitCount;
+    
+    private long missCount;
+    
+    private double hitRate;
+    
+    private long evictionCount;
+    
+    private double averageLoadPenaltyNanos;
+}
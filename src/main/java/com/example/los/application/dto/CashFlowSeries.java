@@ -0,0 +1,26 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CashFlowSeries {
+    
+    // Null for loans without a branch or product
+    private Long branchId;
+    
+    private Long productId;
+    
+    // One entry per month from the projection start; trailing empty months are dropped
+    private List<BigDecimal> principal;
+    
+    private List<BigDecimal> interest;
+}
@@ -0,0 +1,32 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Scenario matrix for a quote grid. Every combination of principal amount,
+ * interest rate and tenure is calculated.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EMIBatchRequest {
+    
+    private List<BigDecimal> principalAmounts;
+    
+    private List<BigDecimal> annualInterestRates;
+    
+    private List<Integer> tenureMonths;
+    
+    private LocalDate startDate;
+    
+    @Builder.Default
+    private boolean summaryOnly = true;
+}
@@ -21,4 +21,9 @@ public class EMICalculationRequest {
     private int tenureMonths;
     
     private LocalDate startDate;
+    
+    // Optional installment range (inclusive) returned in the schedule; defaults to the full tenure
+    private Integer scheduleFromInstallment;
+    
+    private Integer scheduleToInstallment;
 }
\ No newline at end of file
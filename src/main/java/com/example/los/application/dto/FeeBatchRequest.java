@@ -0,0 +1,20 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeBatchRequest {
+    
+    private List<FeeCalculationRequest> items;
+    
+    // Totals only when true; skips the per-type breakdown
+    private boolean totalsOnly;
+}
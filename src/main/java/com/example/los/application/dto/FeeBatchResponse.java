@@ -0,0 +1,23 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeBatchResponse {
+    
+    private int itemCount;
+    
+    private int failedCount;
+    
+    private long elapsedMillis;
+    
+    private List<FeeCalculationResponse> results;
+}
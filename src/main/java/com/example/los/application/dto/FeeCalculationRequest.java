@@ -0,0 +1,19 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeCalculationRequest {
+    
+    private Long productId;
+    
+    private BigDecimal loanAmount;
+}
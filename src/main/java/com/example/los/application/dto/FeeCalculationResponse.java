@@ -0,0 +1,27 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeeCalculationResponse {
+    
+    private Long productId;
+    
+    private BigDecimal loanAmount;
+    
+    // Fee type code -> amount, in configuration order
+    private Map<String, BigDecimal> fees;
+    
+    private BigDecimal totalFee;
+    
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.example.los.application.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationBulkResponse {
+    
+    private int itemCount;
+    
+    private int createdCount;
+    
+    private int failedCount;
+    
+    private long elapsedMillis;
+    
+    // In request order; failed items have no id and carry the reason in remarks
+    private List<LoanApplicationResponse> results;
+}
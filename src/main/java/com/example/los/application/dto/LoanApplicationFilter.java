@@ -0,0 +1,33 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoanApplicationFilter {
+    
+    private String statusCode;
+    
+    private Long customerId;
+    
+    private Long branchId;
+    
+    private Long productId;
+    
+    private BigDecimal minAmount;
+    
+    private BigDecimal maxAmount;
+    
+    private Instant createdFrom;
+    
+    // Exclusive
+    private Instant createdTo;
+}
@@ -0,0 +1,31 @@
+package com.example.los.application.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PenaltySweepResult {
+    
+    private LocalDate runDate;
+    
+    private String status;
+    
+    private Long resumedFromId;
+    
+    private long rowsScanned;
+    
+    private long rowsUpdated;
+    
+    private int pages;
+    
+    private long elapsedMillis;
+    
+    private double rowsPerSecond;
+}
@@ -0,0 +1,33 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioProjectionResponse {
+    
+    // First projected month, yyyy-MM
+    private String startMonth;
+    
+    private int horizonMonths;
+    
+    private long loanCount;
+    
+    private long skippedLoanCount;
+    
+    private long elapsedMillis;
+    
+    private List<BigDecimal> totalPrincipal;
+    
+    private List<BigDecimal> totalInterest;
+    
+    private List<CashFlowSeries> series;
+}
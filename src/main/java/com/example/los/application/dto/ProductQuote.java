@@ -0,0 +1,40 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuote {
+    
+    private int rank;
+    
+    private Long productId;
+    
+    private String productCode;
+    
+    private String productName;
+    
+    private String productType;
+    
+    private BigDecimal annualInterestRate;
+    
+    private int tenureMonths;
+    
+    private BigDecimal emi;
+    
+    private BigDecimal totalPayment;
+    
+    private BigDecimal totalInterest;
+    
+    private BigDecimal totalFees;
+    
+    // Total payment plus fees; quotes are ranked by this, cheapest first
+    private BigDecimal totalCost;
+}
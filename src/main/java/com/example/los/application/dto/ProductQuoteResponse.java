@@ -0,0 +1,26 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuoteResponse {
+    
+    private BigDecimal requestedAmount;
+    
+    // Null when each product is quoted at its own tenure
+    private Integer tenureMonths;
+    
+    private Instant generatedAt;
+    
+    private List<ProductQuote> quotes;
+}
@@ -0,0 +1,36 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A what-if event taking effect from the start of an installment, before that
+ * installment's interest accrues.
+ * PREPAYMENT uses amount (and reduceTenure to keep the EMI instead of the end date),
+ * RATE_CHANGE uses annualInterestRate, TENURE_CHANGE uses tenureMonths as the new
+ * total tenure, and PAYMENT_HOLIDAY uses months.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleEvent {
+    
+    private String eventType;
+    
+    private int installmentNumber;
+    
+    private BigDecimal amount;
+    
+    private boolean reduceTenure;
+    
+    private BigDecimal annualInterestRate;
+    
+    private Integer tenureMonths;
+    
+    private Integer months;
+}
@@ -0,0 +1,31 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSimulationRequest {
+    
+    private BigDecimal principalAmount;
+    
+    private BigDecimal annualInterestRate;
+    
+    private int tenureMonths;
+    
+    private LocalDate startDate;
+    
+    private List<ScheduleEvent> events;
+    
+    // Summary only when false; the recomputed suffix can be long
+    @Builder.Default
+    private boolean includeSchedule = true;
+}
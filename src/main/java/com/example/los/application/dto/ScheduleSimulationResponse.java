@@ -0,0 +1,39 @@
+package com.example.los.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSimulationResponse {
+    
+    private BigDecimal baseEmi;
+    
+    private BigDecimal baseTotalInterest;
+    
+    private int baseTenureMonths;
+    
+    // Installments before this one are unchanged from the base schedule
+    private int firstRecomputedInstallment;
+    
+    private BigDecimal finalEmi;
+    
+    private int simulatedTenureMonths;
+    
+    private BigDecimal totalPrepaid;
+    
+    private BigDecimal totalPayment;
+    
+    private BigDecimal totalInterest;
+    
+    private BigDecimal interestSaved;
+    
+    private List<RepaymentSchedule> repaymentSchedule;
+}
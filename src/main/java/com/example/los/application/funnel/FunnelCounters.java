@@ -0,0 +1,101 @@
+package com.example.los.application.funnel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application counts per status bucketed by the minute and hour the applications
+ * were created, waiting to be added to the shared counters.
+ *
+ * Each (bucket, status) pair has its own {@link LongAdder}, so concurrent status
+ * changes rarely contend. {@link #drain()} takes the counts accumulated so far
+ * and leaves zeroed adders behind; counts added meanwhile are kept for the next
+ * drain. Minute and hour indexes are counted from the epoch.
+ */
+public final class FunnelCounters {
+
+    private final ConcurrentHashMap<Bucket, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Counts delta applications in status for an application created in epochMinute.
+     */
+    public void add(long epochMinute, String status, long delta) {
+        pending.computeIfAbsent(new Bucket(Resolution.MINUTE, epochMinute, status), key -> new LongAdder()).add(delta);
+        pending.computeIfAbsent(new Bucket(Resolution.HOUR, Math.floorDiv(epochMinute, 60), status),
+                key -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * The non-zero counts accumulated since the last drain.
+     */
+    public List<Delta> drain() {
+        List<Delta> deltas = new ArrayList<>();
+        for (Map.Entry<Bucket, LongAdder> entry : pending.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count != 0) {
+                deltas.add(new Delta(entry.getKey(), count));
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Puts back drained counts that could not be written.
+     */
+    public void restore(List<Delta> deltas) {
+        for (Delta delta : deltas) {
+            pending.computeIfAbsent(delta.bucket(), key -> new LongAdder()).add(delta.count());
+        }
+    }
+
+    /**
+     * Count of a bucket not yet drained.
+     */
+    public long pending(Bucket bucket) {
+        LongAdder adder = pending.get(bucket);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Forgets the buckets that ended before the given minute and hour.
+     */
+    public void evictBefore(long oldestMinute, long oldestHour) {
+        pending.keySet().removeIf(bucket -> bucket.index() < (bucket.resolution() == Resolution.MINUTE
+                ? oldestMinute : oldestHour));
+    }
+
+    /**
+     * The fewest buckets of one status covering the minutes fromMinute to
+     * toMinute inclusive: whole hours as hour buckets and the rest as minute
+     * buckets. Minutes before oldestMinute have no minute buckets, so a window
+     * starting there is widened to the start of its hour.
+     */
+    public static List<Bucket> covering(String status, long fromMinute, long toMinute, long oldestMinute) {
+        long minute = fromMinute < oldestMinute ? Math.floorDiv(fromMinute, 60) * 60 : fromMinute;
+        List<Bucket> buckets = new ArrayList<>();
+        while (minute <= toMinute) {
+            if (Math.floorMod(minute, 60) == 0 && minute + 59 <= toMinute) {
+                buckets.add(new Bucket(Resolution.HOUR, minute / 60, status));
+                minute += 60;
+            } else {
+                buckets.add(new Bucket(Resolution.MINUTE, minute, status));
+                minute++;
+            }
+        }
+        return buckets;
+    }
+
+    public enum Resolution {
+        MINUTE,
+        HOUR
+    }
+
+    public record Bucket(Resolution resolution, long index, String status) {
+    }
+
+    public record Delta(Bucket bucket, long count) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.los.application.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Position after the last row of a page ordered on (created_at, id), handed to
+ * clients as an opaque URL-safe token.
+ */
+public record KeysetCursor(Instant createdAt, long id) {
+
+    /**
+     * The cursor in a token; null for a null or blank token, which starts from
+     * the first page.
+     */
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII).split(":");
+            return new KeysetCursor(Instant.ofEpochSecond(Long.parseLong(key[0]), Long.parseLong(key[1])),
+                    Long.parseLong(key[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String key = createdAt.getEpochSecond() + ":" + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.US_ASCII));
+    }
+}
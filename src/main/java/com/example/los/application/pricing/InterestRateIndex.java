@@ -0,0 +1,229 @@
+package com.example.los.application.pricing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import com.example.los.domain.policy.CfgInterestRate;
+
+/**
+ * Immutable lookup structure over cfg_interest_rate.
+ *
+ * For each product the tenure axis is cut into elementary segments at every
+ * min/max tenure boundary, and each segment holds a disjoint timeline of
+ * effective-date intervals with the winning rate already decided. Resolving a
+ * rate is then two binary searches: the tenure segment, then the date interval.
+ *
+ * Where rows overlap, the one with the latest effective_from wins, then the
+ * narrower tenure band, then the higher id. Missing bounds are open-ended and
+ * effective_to is inclusive. Rows without a base rate are ignored.
+ *
+ * Building is quadratic in the rows of one product, which is fine for a
+ * configuration table; instances are built off the request path and swapped in.
+ */
+public final class InterestRateIndex {
+
+    private final Map<Long, ProductRates> products;
+    private final int rateCount;
+
+    private InterestRateIndex(Map<Long, ProductRates> products, int rateCount) {
+        this.products = products;
+        this.rateCount = rateCount;
+    }
+
+    public static InterestRateIndex build(Collection<CfgInterestRate> rates) {
+        Map<Long, List<Band>> bandsByProduct = new HashMap<>();
+        int count = 0;
+        for (CfgInterestRate rate : rates) {
+            Band band = Band.of(rate);
+            if (band != null) {
+                bandsByProduct.computeIfAbsent(rate.getProductId(), id -> new ArrayList<>()).add(band);
+                count++;
+            }
+        }
+
+        Map<Long, ProductRates> products = new HashMap<>();
+        bandsByProduct.forEach((productId, bands) -> products.put(productId, ProductRates.of(bands)));
+        return new InterestRateIndex(Map.copyOf(products), count);
+    }
+
+    public Optional<ResolvedInterestRate> resolve(Long productId, int tenureMonths, LocalDate date) {
+        ProductRates rates = productId != null ? products.get(productId) : null;
+        if (rates == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(rates.find(tenureMonths, date.toEpochDay()));
+    }
+
+    public int getProductCount() {
+        return products.size();
+    }
+
+    public int getRateCount() {
+        return rateCount;
+    }
+
+    /**
+     * One usable cfg_interest_rate row with its bounds normalised: tenure
+     * inclusive on both ends, dates as epoch days with an exclusive end.
+     */
+    private record Band(long minTenure, long maxTenure, long fromDay, long toDay, ResolvedInterestRate rate) {
+
+        static Band of(CfgInterestRate row) {
+            if (row.getProductId() == null || row.getBaseRate() == null) {
+                return null;
+            }
+            long minTenure = row.getMinTenure() != null ? row.getMinTenure() : 0;
+            long maxTenure = row.getMaxTenure() != null ? row.getMaxTenure() : Integer.MAX_VALUE;
+            long fromDay = row.getEffectiveFrom() != null ? row.getEffectiveFrom().toEpochDay() : Long.MIN_VALUE;
+            long toDay = row.getEffectiveTo() != null ? row.getEffectiveTo().toEpochDay() + 1 : Long.MAX_VALUE;
+            if (minTenure > maxTenure || fromDay >= toDay) {
+                return null;
+            }
+            BigDecimal riskPremium = row.getRiskPremium() != null ? row.getRiskPremium() : BigDecimal.ZERO;
+            return new Band(minTenure, maxTenure, fromDay, toDay, new ResolvedInterestRate(
+                    row.getId(), row.getBaseRate(), riskPremium, row.getBaseRate().add(riskPremium)));
+        }
+
+        boolean beats(Band other) {
+            if (fromDay != other.fromDay) {
+                return fromDay > other.fromDay;
+            }
+            long width = maxTenure - minTenure;
+            long otherWidth = other.maxTenure - other.minTenure;
+            if (width != otherWidth) {
+                return width < otherWidth;
+            }
+            return rate.rateId() != null && (other.rate.rateId() == null || rate.rateId() > other.rate.rateId());
+        }
+    }
+
+    private static final class ProductRates {
+
+        private final long[] segmentStarts;
+        private final long[] segmentEnds;
+        private final Timeline[] timelines;
+
+        private ProductRates(long[] segmentStarts, long[] segmentEnds, Timeline[] timelines) {
+            this.segmentStarts = segmentStarts;
+            this.segmentEnds = segmentEnds;
+            this.timelines = timelines;
+        }
+
+        static ProductRates of(List<Band> bands) {
+            TreeSet<Long> boundaries = new TreeSet<>();
+            for (Band band : bands) {
+                boundaries.add(band.minTenure());
+                boundaries.add(band.maxTenure() + 1);
+            }
+
+            List<long[]> segments = new ArrayList<>();
+            List<Timeline> timelines = new ArrayList<>();
+            Long start = null;
+            for (Long boundary : boundaries) {
+                if (start != null) {
+                    long segmentStart = start;
+                    long segmentEnd = boundary - 1;
+                    List<Band> covering = bands.stream()
+                            .filter(b -> b.minTenure() <= segmentStart && b.maxTenure() >= segmentEnd)
+                            .toList();
+                    if (!covering.isEmpty()) {
+                        segments.add(new long[] {segmentStart, segmentEnd});
+                        timelines.add(Timeline.of(covering));
+                    }
+                }
+                start = boundary;
+            }
+
+            long[] starts = new long[segments.size()];
+            long[] ends = new long[segments.size()];
+            for (int i = 0; i < segments.size(); i++) {
+                starts[i] = segments.get(i)[0];
+                ends[i] = segments.get(i)[1];
+            }
+            return new ProductRates(starts, ends, timelines.toArray(new Timeline[0]));
+        }
+
+        ResolvedInterestRate find(int tenureMonths, long day) {
+            int i = floorIndex(segmentStarts, tenureMonths);
+            if (i < 0 || tenureMonths > segmentEnds[i]) {
+                return null;
+            }
+            return timelines[i].find(day);
+        }
+    }
+
+    /**
+     * Disjoint, sorted effective-date intervals of one tenure segment.
+     */
+    private static final class Timeline {
+
+        private final long[] starts;
+        private final long[] ends;
+        private final ResolvedInterestRate[] rates;
+
+        private Timeline(long[] starts, long[] ends, ResolvedInterestRate[] rates) {
+            this.starts = starts;
+            this.ends = ends;
+            this.rates = rates;
+        }
+
+        static Timeline of(List<Band> covering) {
+            long[] points = covering.stream()
+                    .flatMapToLong(b -> LongStream.of(b.fromDay(), b.toDay()))
+                    .distinct()
+                    .sorted()
+                    .toArray();
+
+            List<Long> starts = new ArrayList<>();
+            List<Long> ends = new ArrayList<>();
+            List<ResolvedInterestRate> rates = new ArrayList<>();
+            for (int i = 0; i + 1 < points.length; i++) {
+                long from = points[i];
+                long to = points[i + 1];
+                Band winner = null;
+                for (Band band : covering) {
+                    if (band.fromDay() <= from && band.toDay() >= to && (winner == null || band.beats(winner))) {
+                        winner = band;
+                    }
+                }
+                if (winner == null) {
+                    continue;
+                }
+                int last = rates.size() - 1;
+                if (last >= 0 && ends.get(last) == from && rates.get(last) == winner.rate()) {
+                    ends.set(last, to);
+                } else {
+                    starts.add(from);
+                    ends.add(to);
+                    rates.add(winner.rate());
+                }
+            }
+            return new Timeline(
+                    starts.stream().mapToLong(Long::longValue).toArray(),
+                    ends.stream().mapToLong(Long::longValue).toArray(),
+                    rates.toArray(new ResolvedInterestRate[0]));
+        }
+
+        ResolvedInterestRate find(long day) {
+            int i = floorIndex(starts, day);
+            return i >= 0 && day < ends[i] ? rates[i] : null;
+        }
+    }
+
+    /**
+     * Index of the last element not greater than the key, or -1.
+     */
+    private static int floorIndex(long[] sorted, long key) {
+        int i = Arrays.binarySearch(sorted, key);
+        return i >= 0 ? i : -i - 2;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.los.application.pricing;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.domain.policy.CfgFee;
+
+/**
+ * All cfg_fee rows of one product compiled into flat arrays.
+ *
+ * FIXED fees are held in cents and PERCENTAGE fees as the percentage scaled by
+ * 10^6, so evaluating a product is one loop of long arithmetic. Each fee is
+ * rounded HALF_UP to the cent on its own, exactly as
+ * CalculationService.calculateProcessingFee rounds a percentage fee. Rows of the
+ * same fee type are added together; rows with an unknown calculation method or
+ * no amount are left out when compiling.
+ */
+public final class ProductFeeSchedule {
+
+    public static final String FIXED = "FIXED";
+    public static final String PERCENTAGE = "PERCENTAGE";
+
+    private static final long PERCENT_ONE = 1_000_000L;
+    private static final long PERCENT_OF_CENTS_DIVISOR = 100 * PERCENT_ONE;
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    /** Largest loan amount in cents evaluated on the long path. */
+    private static final BigDecimal MAX_FAST_CENTS = BigDecimal.valueOf(Long.MAX_VALUE / 2);
+
+    private final Long productId;
+    private final String[] feeTypes;
+    private final int[] typeSlots;
+    private final boolean[] percentage;
+    private final long[] values;
+    private final int skipped;
+
+    private ProductFeeSchedule(Long productId, String[] feeTypes, int[] typeSlots, boolean[] percentage,
+                               long[] values, int skipped) {
+        this.productId = productId;
+        this.feeTypes = feeTypes;
+        this.typeSlots = typeSlots;
+        this.percentage = percentage;
+        this.values = values;
+        this.skipped = skipped;
+    }
+
+    public static ProductFeeSchedule compile(Long productId, List<CfgFee> fees) {
+        List<String> types = new ArrayList<>();
+        int[] slots = new int[fees.size()];
+        boolean[] percentage = new boolean[fees.size()];
+        long[] values = new long[fees.size()];
+        int count = 0;
+        int skipped = 0;
+
+        for (CfgFee fee : fees) {
+            String method = fee.getCalculationMethod() != null ? fee.getCalculationMethod().toUpperCase() : FIXED;
+            if (fee.getAmount() == null || fee.getAmount().signum() < 0
+                    || !(FIXED.equals(method) || PERCENTAGE.equals(method))) {
+                skipped++;
+                continue;
+            }
+            String type = fee.getFeeTypeCode() != null ? fee.getFeeTypeCode() : "OTHER";
+            int slot = types.indexOf(type);
+            if (slot < 0) {
+                slot = types.size();
+                types.add(type);
+            }
+            slots[count] = slot;
+            percentage[count] = PERCENTAGE.equals(method);
+            values[count] = percentage[count]
+                    ? fee.getAmount().movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValueExact()
+                    : fee.getAmount().setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+            count++;
+        }
+
+        return new ProductFeeSchedule(productId, types.toArray(new String[0]),
+                Arrays.copyOf(slots, count), Arrays.copyOf(percentage, count),
+                Arrays.copyOf(values, count), skipped);
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public int getFeeCount() {
+        return values.length;
+    }
+
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    /**
+     * Fees per type in cents, indexed like {@link #feeType(int)}, for a loan amount in cents.
+     */
+    public long[] evaluateCents(long loanAmountCents) {
+        long[] totals = new long[feeTypes.length];
+        for (int i = 0; i < values.length; i++) {
+            totals[typeSlots[i]] += percentage[i]
+                    ? AmortizationEngine.mulDivHalfUp(loanAmountCents, values[i], PERCENT_OF_CENTS_DIVISOR)
+                    : values[i];
+        }
+        return totals;
+    }
+
+    /**
+     * Sum of all fees in cents for a loan amount in cents.
+     */
+    public long totalCents(long loanAmountCents) {
+        long total = 0;
+        for (int i = 0; i < values.length; i++) {
+            total += percentage[i]
+                    ? AmortizationEngine.mulDivHalfUp(loanAmountCents, values[i], PERCENT_OF_CENTS_DIVISOR)
+                    : values[i];
+        }
+        return total;
+    }
+
+    public int getFeeTypeCount() {
+        return feeTypes.length;
+    }
+
+    public String feeType(int slot) {
+        return feeTypes[slot];
+    }
+
+    /**
+     * Fees per type for any positive loan amount, in fee order. Amounts with
+     * sub-cent digits are evaluated with BigDecimal.
+     */
+    public Map<String, BigDecimal> evaluate(BigDecimal loanAmount) {
+        Map<String, BigDecimal> fees = new LinkedHashMap<>();
+        BigDecimal cents = loanAmount.movePointRight(2);
+        if (cents.stripTrailingZeros().scale() <= 0 && cents.compareTo(MAX_FAST_CENTS) < 0) {
+            long[] totals = evaluateCents(cents.longValueExact());
+            for (int slot = 0; slot < feeTypes.length; slot++) {
+                fees.put(feeTypes[slot], AmortizationEngine.fromCents(totals[slot]));
+            }
+            return fees;
+        }
+
+        for (String type : feeTypes) {
+            fees.put(type, BigDecimal.ZERO.setScale(2));
+        }
+        for (int i = 0; i < values.length; i++) {
+            BigDecimal fee = percentage[i]
+                    ? loanAmount.multiply(BigDecimal.valueOf(values[i], 6)).divide(HUNDRED, 2, RoundingMode.HALF_UP)
+                    : AmortizationEngine.fromCents(values[i]);
+            fees.merge(feeTypes[typeSlots[i]], fee, BigDecimal::add);
+        }
+        return fees;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.los.application.pricing;
+
+import java.math.BigDecimal;
+
+/**
+ * The cfg_interest_rate row that applies to a product, tenure and date, with
+ * its annual rate (base rate + risk premium) precomputed.
+ */
+public record ResolvedInterestRate(Long rateId, BigDecimal baseRate, BigDecimal riskPremium, BigDecimal annualRate) {
+}
@@ -0,0 +1,228 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.los.application.dto.AggregateReconciliationResult;
+import com.example.los.application.dto.ApplicationAggregate;
+import com.example.los.application.dto.BranchAggregateResponse;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.TransitionListener;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository.AggregateRow;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository.CounterComparison;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Application counts and exact loan amount totals per branch, product and status.
+ *
+ * The counters live in t_application_aggregate and are moved in the same
+ * transaction as the applications they count: on creation, on deletion and on
+ * every status change, where the old status loses the application with its old
+ * amount and the new status gains it with its new one. Dashboards read a handful
+ * of counter rows instead of scanning t_loan_application.
+ *
+ * A nightly reconciliation recomputes the counters from t_loan_application,
+ * corrects any that drifted and logs them. It also fills an empty counter
+ * table on startup.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationAggregateService implements TransitionListener {
+
+    private static final Comparator<AggregateRow> KEY_ORDER = Comparator.comparingLong(AggregateRow::branchId)
+            .thenComparingLong(AggregateRow::productId)
+            .thenComparing(AggregateRow::statusCode);
+
+    private final ApplicationAggregateJdbcRepository applicationAggregateJdbcRepository;
+    private final TransactionOperations transactionOperations;
+    private final LoanApplicationProperties properties;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransition(ApplicationTransition transition) {
+        Deltas deltas = new Deltas();
+        deltas.add(transition.branchId(), transition.productId(), transition.from(), -1, transition.fromAmount());
+        deltas.add(transition.branchId(), transition.productId(), transition.to(), 1, transition.toAmount());
+        applicationAggregateJdbcRepository.addDeltas(deltas.sorted());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Collection<TLoanApplication> applications) {
+        Deltas deltas = new Deltas();
+        for (TLoanApplication application : applications) {
+            deltas.add(application.getBranchId(), application.getProductId(), application.getStatusCode(), 1,
+                    application.getLoanAmount());
+        }
+        applicationAggregateJdbcRepository.addDeltas(deltas.sorted());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(TLoanApplication application) {
+        Deltas deltas = new Deltas();
+        deltas.add(application.getBranchId(), application.getProductId(), application.getStatusCode(), -1,
+                application.getLoanAmount());
+        applicationAggregateJdbcRepository.addDeltas(deltas.sorted());
+    }
+
+    public BranchAggregateResponse getBranchAggregates(Long branchId) {
+        List<AggregateRow> rows = applicationAggregateJdbcRepository.findByBranch(key(branchId));
+        long count = 0;
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        List<ApplicationAggregate> aggregates = new ArrayList<>(rows.size());
+        for (AggregateRow row : rows) {
+            count += row.applicationCount();
+            total = total.add(row.totalAmount());
+            aggregates.add(ApplicationAggregate.builder()
+                    .statusCode(row.statusCode())
+                    .productId(row.productId() != 0 ? row.productId() : null)
+                    .applicationCount(row.applicationCount())
+                    .totalAmount(row.totalAmount())
+                    .build());
+        }
+        return BranchAggregateResponse.builder()
+                .branchId(branchId)
+                .applicationCount(count)
+                .totalAmount(total)
+                .aggregates(aggregates)
+                .build();
+    }
+
+    /**
+     * Total loan amount of a branch's applications in one status, across products.
+     */
+    public BigDecimal totalAmount(Long branchId, ApplicationStatus status) {
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        for (AggregateRow row : applicationAggregateJdbcRepository.findByBranch(key(branchId))) {
+            if (status.name().equals(row.statusCode())) {
+                total = total.add(row.totalAmount());
+            }
+        }
+        return total;
+    }
+
+    public long count(Long branchId, ApplicationStatus status) {
+        long count = 0;
+        for (AggregateRow row : applicationAggregateJdbcRepository.findByBranch(key(branchId))) {
+            if (status.name().equals(row.statusCode())) {
+                count += row.applicationCount();
+            }
+        }
+        return count;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillOnStartup() {
+        if (properties.isAggregateReconcileEnabled() && applicationAggregateJdbcRepository.isEmpty()) {
+            log.info("Application aggregates are empty, computing them from t_loan_application");
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.loan-application.aggregate-reconcile-cron:0 0 2 * * *}")
+    public void scheduledReconcile() {
+        if (!properties.isAggregateReconcileEnabled()) {
+            log.debug("Application aggregate reconciliation is disabled");
+            return;
+        }
+        reconcile();
+    }
+
+    /**
+     * Compares every counter with t_loan_application and corrects the ones that
+     * differ. Both are read by one statement, so they come from the same snapshot
+     * and differ only by real drift; the drift is then added as a delta. Counter
+     * writes committed meanwhile add their own deltas, so they neither wait for
+     * this nor get lost or counted twice.
+     */
+    public AggregateReconciliationResult reconcile() {
+        long start = System.nanoTime();
+        AggregateReconciliationResult result = transactionOperations.execute(status -> {
+            applicationAggregateJdbcRepository.lockForReconciliation();
+            List<CounterComparison> counters = applicationAggregateJdbcRepository.compareWithBaseTable();
+
+            List<AggregateRow> corrections = new ArrayList<>();
+            for (CounterComparison counter : counters) {
+                long count = counter.expectedCount() - counter.storedCount();
+                BigDecimal amount = counter.expectedAmount().subtract(counter.storedAmount());
+                if (count == 0 && amount.signum() == 0) {
+                    continue;
+                }
+                log.warn("Application aggregate branch {} product {} status {} corrected from {}/{} to {}/{}",
+                        counter.branchId(), counter.productId(), counter.statusCode(),
+                        counter.storedCount(), counter.storedAmount(),
+                        counter.expectedCount(), counter.expectedAmount());
+                corrections.add(new AggregateRow(counter.branchId(), counter.productId(), counter.statusCode(),
+                        count, amount));
+            }
+            corrections.sort(KEY_ORDER);
+            applicationAggregateJdbcRepository.addDeltas(corrections);
+
+            return AggregateReconciliationResult.builder()
+                    .checkedCount(counters.size())
+                    .correctedCount(corrections.size())
+                    .build();
+        });
+
+        result.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        log.info("Reconciled {} application aggregates in {} ms, {} corrected",
+                result.getCheckedCount(), result.getElapsedMillis(), result.getCorrectedCount());
+        return result;
+    }
+
+    private static long key(Long id) {
+        return id != null ? id : 0;
+    }
+
+    private record CounterKey(long branchId, long productId, String statusCode) {
+    }
+
+    /**
+     * Count and amount changes merged per counter key.
+     */
+    private static final class Deltas {
+
+        private final Map<CounterKey, AggregateRow> byKey = new HashMap<>();
+
+        void add(Long branchId, Long productId, ApplicationStatus status, long count, BigDecimal amount) {
+            if (status == null) {
+                return;
+            }
+            BigDecimal signed = amount == null ? BigDecimal.ZERO : count < 0 ? amount.negate() : amount;
+            CounterKey key = new CounterKey(key(branchId), key(productId), status.name());
+            byKey.merge(key, new AggregateRow(key.branchId(), key.productId(), key.statusCode(), count, signed),
+                    (a, b) -> new AggregateRow(a.branchId(), a.productId(), a.statusCode(),
+                            a.applicationCount() + b.applicationCount(), a.totalAmount().add(b.totalAmount())));
+        }
+
+        List<AggregateRow> sorted() {
+            List<AggregateRow> rows = new ArrayList<>();
+            for (AggregateRow row : byKey.values()) {
+                if (row.applicationCount() != 0 || row.totalAmount().signum() != 0) {
+                    rows.add(row);
+                }
+            }
+            rows.sort(KEY_ORDER);
+            return rows;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.los.application.service;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Service;
+
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues application numbers of the form APP-yyyyMMddHHmmssSSS-NNNN-SSSS: the UTC
+ * millisecond, this node's id and a per-millisecond sequence, all fixed width so
+ * the numbers sort as text in the order they were issued.
+ *
+ * The last issued (millisecond, sequence) pair is one packed long advanced with a
+ * single atomic update: the next value is the current time with sequence zero, or
+ * the previous value plus one when the clock has not moved forward. Running out
+ * of sequence in a millisecond or the clock stepping back therefore borrows the
+ * following millisecond instead of blocking or repeating a number, and the
+ * numbers catch up with the wall clock once it passes them again.
+ *
+ * Numbers are unique across nodes as long as every node has its own node id, so
+ * the id must be configured explicitly outside local, dev and test profiles. On
+ * startup the last pair is seeded from this node's newest recent number, so a
+ * restart while numbers ran ahead of the clock does not issue one again.
+ */
+@Service
+@Slf4j
+public class ApplicationNumberService {
+
+    public static final int MAX_NODE_ID = 9_999;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /** Logical clock ahead of the wall clock by more than this is logged. */
+    private static final long DRIFT_WARNING_MILLIS = 1_000;
+
+    /** How far before the current time numbers are looked up on startup. */
+    private static final long RESUME_WINDOW_MILLIS = 3_600_000;
+
+    private static final String[] UNNUMBERED_PROFILES = {"local", "dev", "development", "test", "testing"};
+
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS")
+            .withZone(ZoneOffset.UTC);
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final AtomicLong last = new AtomicLong();
+    private volatile boolean drifting;
+
+    @Autowired
+    public ApplicationNumberService(LoanApplicationProperties properties, Environment environment,
+                                    LoanApplicationRepository loanApplicationRepository) {
+        this(resolveNodeId(properties.getNodeId(), environment), System::currentTimeMillis, loanApplicationRepository);
+    }
+
+    public ApplicationNumberService(int nodeId, LongSupplier clock) {
+        this(nodeId, clock, null);
+    }
+
+    public ApplicationNumberService(int nodeId, LongSupplier clock, LoanApplicationRepository loanApplicationRepository) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.loanApplicationRepository = loanApplicationRepository;
+    }
+
+    @PostConstruct
+    public void resumeFromDatabase() {
+        if (loanApplicationRepository == null) {
+            return;
+        }
+        StringBuilder issuedFrom = new StringBuilder(22).append("APP-");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(clock.getAsLong() - RESUME_WINDOW_MILLIS), issuedFrom);
+        StringBuilder pattern = new StringBuilder(32).append("APP-_________________-");
+        pad(pattern, nodeId);
+        pattern.append("-____");
+        loanApplicationRepository.findLatestApplicationNo(issuedFrom.toString(), pattern.toString())
+                .ifPresent(this::resumeAfter);
+    }
+
+    /**
+     * Makes every following number sort after the given number issued by this node.
+     */
+    public void resumeAfter(String applicationNo) {
+        long millis = Instant.from(TIMESTAMP.parse(applicationNo.substring(4, 21))).toEpochMilli();
+        int sequence = Integer.parseInt(applicationNo.substring(27, 31));
+        long issued = last.accumulateAndGet((millis << SEQUENCE_BITS) | sequence, Math::max);
+        log.info("Application numbers on node {} resume after {}", nodeId,
+                format(issued >>> SEQUENCE_BITS, (int) (issued & SEQUENCE_MASK)));
+    }
+
+    public String nextApplicationNumber() {
+        long now = clock.getAsLong();
+        long next = last.accumulateAndGet(now << SEQUENCE_BITS, (previous, fresh) -> Math.max(fresh, previous + 1));
+        long millis = next >>> SEQUENCE_BITS;
+        checkDrift(millis - now);
+        return format(millis, (int) (next & SEQUENCE_MASK));
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    private static int resolveNodeId(Integer configured, Environment environment) {
+        if (configured != null) {
+            return configured;
+        }
+        String[] active = environment.getActiveProfiles();
+        if (active.length == 0 || environment.acceptsProfiles(Profiles.of(UNNUMBERED_PROFILES))) {
+            log.info("No application number node id configured; using 0");
+            return 0;
+        }
+        throw new IllegalStateException("app.loan-application.node-id (LOAN_APPLICATION_NODE_ID) must be set "
+                + "to a value unique to this instance for profiles " + String.join(",", active));
+    }
+
+    private String format(long millis, int sequence) {
+        StringBuilder number = new StringBuilder(32).append("APP-");
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(millis), number);
+        number.append('-');
+        pad(number, nodeId);
+        number.append('-');
+        pad(number, sequence);
+        return number.toString();
+    }
+
+    private static void pad(StringBuilder target, int value) {
+        if (value < 1000) {
+            target.append('0');
+        }
+        if (value < 100) {
+            target.append('0');
+        }
+        if (value < 10) {
+            target.append('0');
+        }
+        target.append(value);
+    }
+
+    private void checkDrift(long aheadMillis) {
+        if (aheadMillis > DRIFT_WARNING_MILLIS) {
+            if (!drifting) {
+                drifting = true;
+                log.warn("Application numbers are {} ms ahead of the system clock on node {}", aheadMillis, nodeId);
+            }
+        } else if (drifting && aheadMillis <= 0) {
+            drifting = false;
+            log.info("Application numbers caught up with the system clock on node {}", nodeId);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.workflow.ApprovalRoutingTable;
+import com.example.los.domain.policy.CfgApprovalLimit;
+import com.example.los.infrastructure.repository.ApprovalLimitRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Routes approvals by loan amount from cfg_approval_limit.
+ *
+ * The limits are compiled into one immutable {@link ApprovalRoutingTable},
+ * rebuilt on startup, on the approval routing refresh interval and on
+ * {@link #reload()}, so routing on the approval path is a lookup in the
+ * current snapshot. Without usable limits the built-in chain applies.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalRoutingService {
+
+    private static final ApprovalRoutingTable DEFAULT_TABLE = ApprovalRoutingTable.compile(List.of(
+            limit(1L, "LOAN_OFFICER", "10000"),
+            limit(2L, "BRANCH_MANAGER", "50000"),
+            limit(3L, "REGIONAL_DIRECTOR", "200000"),
+            limit(4L, "CHIEF_CREDIT_OFFICER", null)));
+
+    private final ApprovalLimitRepository approvalLimitRepository;
+
+    private volatile ApprovalRoutingTable table;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "#{@approvalProperties.routingRefreshInterval.toMillis()}",
+            fixedDelayString = "#{@approvalProperties.routingRefreshInterval.toMillis()}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Recompile the approval chain and swap it in. Call after changing cfg_approval_limit.
+     * An unchanged chain keeps the current table, so everything derived from it stays valid.
+     */
+    public synchronized ApprovalRoutingTable reload() {
+        ApprovalRoutingTable compiled = ApprovalRoutingTable.compile(approvalLimitRepository.findAll());
+        ApprovalRoutingTable rebuilt = compiled.isEmpty() ? DEFAULT_TABLE : compiled;
+        ApprovalRoutingTable previous = table;
+        if (rebuilt.equals(previous)) {
+            return previous;
+        }
+        table = rebuilt;
+        log.info("Approval chain compiled with {} levels{} ({} limit rows skipped)", rebuilt.getLevelCount(),
+                compiled.isEmpty() ? " from the built-in limits" : "", compiled.getSkippedCount());
+        return rebuilt;
+    }
+
+    /**
+     * Level after currentLevel for a loan amount, 1 when currentLevel is null,
+     * or null when no further approval is needed.
+     */
+    public Integer getNextApprovalLevel(Integer currentLevel, BigDecimal loanAmount) {
+        return getTable().nextLevel(currentLevel, loanAmount);
+    }
+
+    public String getApproverRoleForLevel(int level) {
+        String role = getTable().roleForLevel(level);
+        if (role == null) {
+            throw new IllegalStateException("No approver role configured for approval level " + level);
+        }
+        return role;
+    }
+
+    /**
+     * Approver roles that must approve a loan amount, lowest level first.
+     */
+    public List<String> getApprovalChain(BigDecimal loanAmount) {
+        return getTable().chain(loanAmount);
+    }
+
+    /**
+     * The approval chain currently in use.
+     */
+    public ApprovalRoutingTable getTable() {
+        ApprovalRoutingTable current = table;
+        if (current == null) {
+            // First lookup before the startup load finished
+            current = reload();
+        }
+        return current;
+    }
+
+    private static CfgApprovalLimit limit(Long id, String roleCode, String maxAmount) {
+        CfgApprovalLimit limit = new CfgApprovalLimit();
+        limit.setId(id);
+        limit.setRoleCode(roleCode);
+        limit.setMaxAmount(maxAmount != null ? new BigDecimal(maxAmount) : null);
+        return limit;
+    }
+}
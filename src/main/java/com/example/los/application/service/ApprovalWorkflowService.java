@@ -1,16 +1,38 @@
 package com.example.los.application.service;
 
-import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.los.application.decision.AutoDecision;
+import com.example.los.application.dto.ApprovalBulkDecisionRequest;
+import com.example.los.application.dto.ApprovalBulkDecisionResponse;
+import com.example.los.application.dto.ApprovalDecisionItem;
+import com.example.los.application.dto.ApprovalDecisionResult;
+import com.example.los.application.dto.ApprovalQueuePage;
 import com.example.los.application.dto.ApprovalWorkflowResponse;
+import com.example.los.application.paging.KeysetCursor;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.ApprovalDecision;
+import com.example.los.application.workflow.TransitionOutcome;
 import com.example.los.domain.entity.TLoanApplication;
 import com.example.los.domain.entity.TLoanApproval;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.config.ApprovalProperties;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository.LockedApproval;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository.NewApproval;
+import com.example.los.infrastructure.repository.ApprovalQueryRepository;
+import com.example.los.infrastructure.repository.ApprovalQueryRepository.ApprovalRow;
 import com.example.los.infrastructure.repository.LoanApplicationRepository;
 import com.example.los.infrastructure.repository.LoanApprovalRepository;
 
@@ -22,88 +44,91 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ApprovalWorkflowService {
     
+    static final String AUTO_DECIDER = "AUTO_DECISION";
+    
     private final LoanApplicationRepository loanApplicationRepository;
     private final LoanApprovalRepository loanApprovalRepository;
+    private final RepaymentScheduleService repaymentScheduleService;
+    private final StatusTransitionService statusTransitionService;
+    private final ApprovalQueryRepository approvalQueryRepository;
+    private final ApprovalProperties approvalProperties;
+    private final ApprovalRoutingService approvalRoutingService;
+    private final AutoDecisionService autoDecisionService;
+    private final ApprovalBatchJdbcRepository approvalBatchJdbcRepository;
     
     @Transactional
     public ApprovalWorkflowResponse submitForApproval(Long loanApplicationId, String submittedBy) {
         log.info("Submitting loan application {} for approval by {}", loanApplicationId, submittedBy);
         
-        TLoanApplication loanApplication = loanApplicationRepository.findById(loanApplicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + loanApplicationId));
-        
-        // Validate current status
-        if (!"DRAFT".equals(loanApplication.getStatusCode())) {
+        // Update loan application status only if it is still DRAFT
+        TransitionOutcome<ApplicationStatus> outcome = statusTransitionService.transitionApplication(loanApplicationId,
+                ApplicationStatus.SUBMITTED);
+        if (outcome.result() == TransitionOutcome.Result.INVALID_TRANSITION) {
             throw new IllegalStateException(
                 String.format("Loan application must be in DRAFT status to submit for approval. Current status: %s", 
-                    loanApplication.getStatusCode()));
+                    outcome.fromStatus()));
         }
+        requireApplied(outcome);
         
-        // Update loan application status
-        loanApplication.setStatusCode("SUBMITTED");
-        loanApplicationRepository.save(loanApplication);
+        // Small, clean applications are decided by rule; the rest go to the first human level
+        AutoDecision autoDecision = autoDecisionService.isEnabled() ? autoDecisionService.decide(loanApplicationId) : null;
         
         // Create initial approval record
         TLoanApproval approval = new TLoanApproval();
         approval.setLoanApplicationId(loanApplicationId);
         approval.setApprovalLevel(1); // First level approval
-        approval.setApproverRole("LOAN_OFFICER");
-        approval.setStatus("PENDING");
-        approval.setRemarks("Submitted for initial review");
+        approval.setApproverRole(approvalRoutingService.getApproverRoleForLevel(1));
+        approval.setStatus(ApprovalStatus.PENDING);
+        approval.setRemarks(autoDecision != null
+                ? "Referred by auto-decision: " + autoDecision.trace()
+                : "Submitted for initial review");
         approval.setCreatedAt(Instant.now());
         approval.setCreatedBy(submittedBy);
         
         TLoanApproval savedApproval = loanApprovalRepository.save(approval);
+        
+        if (autoDecision != null && autoDecision.outcome() != AutoDecision.Outcome.REFER) {
+            return applyAutoDecision(savedApproval, autoDecision);
+        }
         log.info("Loan application {} submitted for level 1 approval", loanApplicationId);
         
-        return mapToResponse(savedApproval, loanApplication);
+        return mapToResponse(savedApproval, findLoanApplication(loanApplicationId));
     }
     
     @Transactional
     public ApprovalWorkflowResponse approveLevel(Long approvalId, String approverUsername, String remarks) {
         log.info("Approving level for approval ID: {} by {}", approvalId, approverUsername);
         
-        TLoanApproval approval = loanApprovalRepository.findById(approvalId)
-                .orElseThrow(() -> new IllegalArgumentException("Approval record not found with ID: " + approvalId));
-        
-        if (!"PENDING".equals(approval.getStatus())) {
-            throw new IllegalStateException("Approval is not in PENDING status");
-        }
-        
-        TLoanApplication loanApplication = loanApplicationRepository.findById(approval.getLoanApplicationId())
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
-        
-        // Update approval record
-        approval.setStatus("APPROVED");
-        approval.setApprovedAt(Instant.now());
-        approval.setApprovedBy(approverUsername);
-        approval.setRemarks(remarks);
-        loanApprovalRepository.save(approval);
+        // Update approval record; only one approver can move it out of PENDING
+        TLoanApproval approval = decide(approvalId, ApprovalStatus.APPROVED, approverUsername, remarks);
+        TLoanApplication loanApplication = findLoanApplication(approval.getLoanApplicationId());
         
         // Check if we need to create next level approval
-        Integer nextLevel = getNextApprovalLevel(approval.getApprovalLevel(), loanApplication.getLoanAmount());
+        Integer nextLevel = approvalRoutingService.getNextApprovalLevel(approval.getApprovalLevel(),
+                loanApplication.getLoanAmount());
         
         if (nextLevel != null) {
+            // Update loan application status
+            moveApplication(loanApplication, ApplicationStatus.UNDER_REVIEW);
+            
             // Create next level approval
             TLoanApproval nextApproval = new TLoanApproval();
             nextApproval.setLoanApplicationId(loanApplication.getId());
             nextApproval.setApprovalLevel(nextLevel);
-            nextApproval.setApproverRole(getApproverRoleForLevel(nextLevel));
-            nextApproval.setStatus("PENDING");
+            nextApproval.setApproverRole(approvalRoutingService.getApproverRoleForLevel(nextLevel));
+            nextApproval.setStatus(ApprovalStatus.PENDING);
             nextApproval.setRemarks("Awaiting level " + nextLevel + " approval");
             nextApproval.setCreatedAt(Instant.now());
             nextApproval.setCreatedBy(approverUsername);
             loanApprovalRepository.save(nextApproval);
             
-            // Update loan application status
-            loanApplication.setStatusCode("UNDER_REVIEW");
-            loanApplicationRepository.save(loanApplication);
-            
             log.info("Created level {} approval for loan application {}", nextLevel, loanApplication.getId());
         } else {
             // Final approval - update loan application status
-            loanApplication.setStatusCode("APPROVED");
-            loanApplicationRepository.save(loanApplication);
+            moveApplication(loanApplication, ApplicationStatus.APPROVED);
+            
+            // Write the amortization schedule in the same transaction
+            repaymentScheduleService.persistSchedule(loanApplication, LocalDate.now());
             
             log.info("Loan application {} fully approved", loanApplication.getId());
         }
@@ -111,30 +136,200 @@ public class ApprovalWorkflowService {
         return mapToResponse(approval, loanApplication);
     }
     
+    /**
+     * Approves or rejects many approvals in one transaction and reports each
+     * item as APPLIED, CONFLICT or FAILED.
+     *
+     * All approvals are read and locked in one query and their applications in
+     * a second, so the checks made here still hold when writing. Applications
+     * move with one conditional UPDATE per status change, decisions are recorded
+     * with one batched UPDATE and next-level approvals inserted with one batched
+     * INSERT. Both status changes of an item are checked before either is
+     * written, so an item whose application refuses one is reported CONFLICT
+     * with its application and approval left as they were.
+     */
     @Transactional
-    public ApprovalWorkflowResponse rejectLevel(Long approvalId, String approverUsername, String rejectionReason) {
-        log.info("Rejecting level for approval ID: {} by {}", approvalId, approverUsername);
+    public ApprovalBulkDecisionResponse decideApprovals(ApprovalBulkDecisionRequest request) {
+        List<ApprovalDecisionItem> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > approvalProperties.getMaxBulkDecisionSize()) {
+            throw new IllegalArgumentException(String.format("Batch of %d items exceeds the limit of %d",
+                    items.size(), approvalProperties.getMaxBulkDecisionSize()));
+        }
+        String decidedBy = request.getDecidedBy();
+        if (decidedBy == null || decidedBy.isBlank()) {
+            throw new IllegalArgumentException("Decided by is required");
+        }
         
-        TLoanApproval approval = loanApprovalRepository.findById(approvalId)
-                .orElseThrow(() -> new IllegalArgumentException("Approval record not found with ID: " + approvalId));
+        long start = System.nanoTime();
+        Instant decidedAt = Instant.now();
+        int count = items.size();
+        ApprovalDecisionResult[] results = new ApprovalDecisionResult[count];
+        ApprovalStatus[] decisions = new ApprovalStatus[count];
+        Map<Long, Integer> itemByApproval = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            ApprovalDecisionItem item = items.get(i);
+            decisions[i] = parseDecision(item.getDecision());
+            if (item.getApprovalId() == null) {
+                results[i] = result(item, ApprovalDecisionResult.FAILED, "Approval id is required");
+            } else if (decisions[i] == null) {
+                results[i] = result(item, ApprovalDecisionResult.FAILED, "Decision must be APPROVED or REJECTED");
+            } else if (itemByApproval.putIfAbsent(item.getApprovalId(), i) != null) {
+                results[i] = result(item, ApprovalDecisionResult.FAILED, "Duplicate approval id in this batch");
+            }
+        }
         
-        if (!"PENDING".equals(approval.getStatus())) {
-            throw new IllegalStateException("Approval is not in PENDING status");
+        // First query: the approvals, locked
+        Map<Long, LockedApproval> approvals = new HashMap<>();
+        for (LockedApproval approval : approvalBatchJdbcRepository.lockByIds(itemByApproval.keySet())) {
+            approvals.put(approval.id(), approval);
+        }
+        LockedApproval[] approvalOf = new LockedApproval[count];
+        Map<Long, Integer> itemByApplication = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : itemByApproval.entrySet()) {
+            int i = entry.getValue();
+            ApprovalDecisionItem item = items.get(i);
+            LockedApproval approval = approvals.get(entry.getKey());
+            if (approval == null || approval.loanApplicationId() == null) {
+                results[i] = result(item, ApprovalDecisionResult.FAILED, "Approval record not found with ID: " + entry.getKey());
+            } else if (!ApprovalStatus.PENDING.name().equals(approval.statusCode())) {
+                results[i] = result(item, ApprovalDecisionResult.CONFLICT, "Approval is " + approval.statusCode());
+            } else if (approval.claimedBy() != null && !approval.claimedBy().equals(decidedBy)
+                    && approval.claimExpiresAt() != null && approval.claimExpiresAt().isAfter(decidedAt)) {
+                results[i] = result(item, ApprovalDecisionResult.CONFLICT, "Claimed by " + approval.claimedBy());
+            } else if (itemByApplication.putIfAbsent(approval.loanApplicationId(), i) != null) {
+                results[i] = result(item, ApprovalDecisionResult.CONFLICT,
+                        "Another approval of loan application " + approval.loanApplicationId() + " is in this batch");
+            } else {
+                approvalOf[i] = approval;
+            }
         }
         
-        TLoanApplication loanApplication = loanApplicationRepository.findById(approval.getLoanApplicationId())
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
+        // Second query: their applications, locked
+        Map<Long, TLoanApplication> applications = new HashMap<>();
+        for (TLoanApplication loanApplication : loanApplicationRepository.lockAllById(itemByApplication.keySet())) {
+            applications.put(loanApplication.getId(), loanApplication);
+        }
+        TLoanApplication[] applicationOf = new TLoanApplication[count];
+        ApplicationStatus[] targets = new ApplicationStatus[count];
+        Integer[] nextLevels = new Integer[count];
+        for (int i : itemByApplication.values()) {
+            TLoanApplication loanApplication = applications.get(approvalOf[i].loanApplicationId());
+            if (loanApplication == null) {
+                results[i] = result(items.get(i), ApprovalDecisionResult.FAILED, "Loan application not found");
+                continue;
+            }
+            applicationOf[i] = loanApplication;
+            if (decisions[i] == ApprovalStatus.APPROVED) {
+                nextLevels[i] = approvalRoutingService.getNextApprovalLevel(approvalOf[i].approvalLevel(),
+                        loanApplication.getLoanAmount());
+                targets[i] = nextLevels[i] != null ? ApplicationStatus.UNDER_REVIEW : ApplicationStatus.APPROVED;
+            } else {
+                targets[i] = ApplicationStatus.REJECTED;
+            }
+        }
+        
+        // Applications not yet under review get there first, as with a single decision. Both moves are
+        // checked before either is written, so a refused final status leaves the application as it was.
+        ApplicationTransition[] reviews = new ApplicationTransition[count];
+        ApplicationTransition[] finals = new ApplicationTransition[count];
+        for (int i = 0; i < count; i++) {
+            if (results[i] != null || applicationOf[i] == null) {
+                continue;
+            }
+            ApplicationStatus from = applicationOf[i].getStatusCode();
+            if (from != ApplicationStatus.UNDER_REVIEW) {
+                reviews[i] = transition(applicationOf[i], from, ApplicationStatus.UNDER_REVIEW);
+                from = ApplicationStatus.UNDER_REVIEW;
+            }
+            if (targets[i] != ApplicationStatus.UNDER_REVIEW) {
+                finals[i] = transition(applicationOf[i], from, targets[i]);
+            }
+        }
+        refuseBlockedMoves(items, results, reviews);
+        refuseBlockedMoves(items, results, finals);
+        moveApplications(results, applicationOf, reviews);
+        moveApplications(results, applicationOf, finals);
+        
+        List<ApprovalDecision> recorded = new ArrayList<>();
+        List<NewApproval> nextApprovals = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            if (results[i] != null || applicationOf[i] == null) {
+                continue;
+            }
+            ApprovalDecisionItem item = items.get(i);
+            String remarks = decisions[i] != ApprovalStatus.REJECTED ? item.getRemarks()
+                    : item.getRemarks() != null ? "Rejected: " + item.getRemarks() : "Rejected";
+            recorded.add(new ApprovalDecision(item.getApprovalId(), approvalOf[i].loanApplicationId(),
+                    approvalOf[i].approvalLevel(), decisions[i], decidedBy, decidedAt, remarks));
+            if (nextLevels[i] != null) {
+                nextApprovals.add(new NewApproval(approvalOf[i].loanApplicationId(), nextLevels[i],
+                        approvalRoutingService.getApproverRoleForLevel(nextLevels[i]), ApprovalStatus.PENDING.name(),
+                        "Awaiting level " + nextLevels[i] + " approval", decidedAt, decidedBy));
+            }
+        }
+        
+        // The approvals are locked and were PENDING, so every decision must be recorded
+        for (TransitionOutcome<ApprovalStatus> outcome : statusTransitionService.decideApprovals(recorded)) {
+            if (!outcome.isApplied()) {
+                throw new IllegalStateException("Approval " + outcome.id() + " was decided concurrently; retry the request");
+            }
+        }
+        approvalBatchJdbcRepository.insertAll(nextApprovals);
+        
+        int applied = 0;
+        LocalDate approvalDate = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            if (results[i] != null || applicationOf[i] == null) {
+                continue;
+            }
+            if (targets[i] == ApplicationStatus.APPROVED) {
+                // Skips, rather than throws for, a loan it cannot schedule, so one item never undoes the batch
+                repaymentScheduleService.persistSchedule(applicationOf[i], approvalDate);
+            }
+            applied++;
+            results[i] = ApprovalDecisionResult.builder()
+                    .approvalId(items.get(i).getApprovalId())
+                    .loanApplicationId(applicationOf[i].getId())
+                    .decision(decisions[i].name())
+                    .result(ApprovalDecisionResult.APPLIED)
+                    .nextApprovalLevel(nextLevels[i])
+                    .loanApplicationStatus(targets[i].name())
+                    .build();
+        }
+        
+        int conflicts = 0;
+        for (ApprovalDecisionResult result : results) {
+            if (ApprovalDecisionResult.CONFLICT.equals(result.getResult())) {
+                conflicts++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk decision by {}: {} applied, {} conflicts, {} failed in {} ms", decidedBy, applied, conflicts,
+                count - applied - conflicts, elapsedMillis);
+        
+        return ApprovalBulkDecisionResponse.builder()
+                .itemCount(count)
+                .appliedCount(applied)
+                .conflictCount(conflicts)
+                .failedCount(count - applied - conflicts)
+                .elapsedMillis(elapsedMillis)
+                .results(Arrays.asList(results))
+                .build();
+    }
+    
+    @Transactional
+    public ApprovalWorkflowResponse rejectLevel(Long approvalId, String approverUsername, String rejectionReason) {
+        log.info("Rejecting level for approval ID: {} by {}", approvalId, approverUsername);
         
         // Update approval record
-        approval.setStatus("REJECTED");
-        approval.setApprovedAt(Instant.now());
-        approval.setApprovedBy(approverUsername);
-        approval.setRemarks("Rejected: " + rejectionReason);
-        loanApprovalRepository.save(approval);
+        TLoanApproval approval = decide(approvalId, ApprovalStatus.REJECTED, approverUsername, "Rejected: " + rejectionReason);
+        TLoanApplication loanApplication = findLoanApplication(approval.getLoanApplicationId());
         
         // Update loan application status
-        loanApplication.setStatusCode("REJECTED");
-        loanApplicationRepository.save(loanApplication);
+        moveApplication(loanApplication, ApplicationStatus.REJECTED);
         
         log.info("Loan application {} rejected at level {}", loanApplication.getId(), approval.getApprovalLevel());
         
@@ -145,26 +340,13 @@ public class ApprovalWorkflowService {
     public ApprovalWorkflowResponse requestMoreInfo(Long approvalId, String approverUsername, String infoRequest) {
         log.info("Requesting more info for approval ID: {} by {}", approvalId, approverUsername);
         
-        TLoanApproval approval = loanApprovalRepository.findById(approvalId)
-                .orElseThrow(() -> new IllegalArgumentException("Approval record not found with ID: " + approvalId));
-        
-        if (!"PENDING".equals(approval.getStatus())) {
-            throw new IllegalStateException("Approval is not in PENDING status");
-        }
-        
-        TLoanApplication loanApplication = loanApplicationRepository.findById(approval.getLoanApplicationId())
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
-        
         // Update approval record
-        approval.setStatus("MORE_INFO_NEEDED");
-        approval.setApprovedAt(Instant.now());
-        approval.setApprovedBy(approverUsername);
-        approval.setRemarks("More information requested: " + infoRequest);
-        loanApprovalRepository.save(approval);
+        TLoanApproval approval = decide(approvalId, ApprovalStatus.MORE_INFO_NEEDED, approverUsername,
+                "More information requested: " + infoRequest);
+        TLoanApplication loanApplication = findLoanApplication(approval.getLoanApplicationId());
         
         // Update loan application status
-        loanApplication.setStatusCode("REQUIRES_MORE_INFO");
-        loanApplicationRepository.save(loanApplication);
+        moveApplication(loanApplication, ApplicationStatus.REQUIRES_MORE_INFO);
         
         log.info("More info requested for loan application {} at level {}", loanApplication.getId(), approval.getApprovalLevel());
         
@@ -175,92 +357,278 @@ public class ApprovalWorkflowService {
     public List<ApprovalWorkflowResponse> getApprovalHistory(Long loanApplicationId) {
         log.debug("Fetching approval history for loan application: {}", loanApplicationId);
         
-        List<TLoanApproval> approvals = loanApprovalRepository.findByLoanApplicationId(loanApplicationId);
-        
-        TLoanApplication loanApplication = loanApplicationRepository.findById(loanApplicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + loanApplicationId));
-        
-        List<ApprovalWorkflowResponse> responses = new ArrayList<>();
-        for (TLoanApproval approval : approvals) {
-            responses.add(mapToResponse(approval, loanApplication));
+        List<ApprovalRow> approvals = approvalQueryRepository.findByLoanApplicationId(loanApplicationId);
+        if (approvals.isEmpty() && !loanApplicationRepository.existsById(loanApplicationId)) {
+            throw new IllegalArgumentException("Loan application not found with ID: " + loanApplicationId);
         }
         
-        return responses;
+        return approvals.stream().map(this::mapToResponse).toList();
     }
     
     @Transactional(readOnly = true)
     public ApprovalWorkflowResponse getCurrentApprovalLevel(Long loanApplicationId) {
         log.debug("Fetching current approval level for loan application: {}", loanApplicationId);
         
-        List<TLoanApproval> approvals = loanApprovalRepository.findByLoanApplicationIdAndStatus(loanApplicationId, "PENDING");
-        
+        List<ApprovalRow> approvals = approvalQueryRepository.findByLoanApplicationId(loanApplicationId);
         if (approvals.isEmpty()) {
-            // Check if there are any approvals at all
-            List<TLoanApproval> allApprovals = loanApprovalRepository.findByLoanApplicationId(loanApplicationId);
-            if (allApprovals.isEmpty()) {
-                throw new IllegalArgumentException("No approval records found for loan application: " + loanApplicationId);
-            }
-            // Return the last approval (final decision made)
-            TLoanApproval lastApproval = allApprovals.get(allApprovals.size() - 1);
-            TLoanApplication loanApplication = loanApplicationRepository.findById(loanApplicationId)
-                    .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
-            return mapToResponse(lastApproval, loanApplication);
+            throw new IllegalArgumentException("No approval records found for loan application: " + loanApplicationId);
         }
         
-        // Return the first pending approval (current level)
-        TLoanApproval currentApproval = approvals.get(0);
-        TLoanApplication loanApplication = loanApplicationRepository.findById(loanApplicationId)
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
-        
-        return mapToResponse(currentApproval, loanApplication);
+        // The first pending approval is the current level; without one, the last decision made
+        ApprovalRow current = approvals.stream()
+                .filter(approval -> ApprovalStatus.PENDING.name().equals(approval.statusCode()))
+                .findFirst()
+                .orElse(approvals.get(approvals.size() - 1));
+        return mapToResponse(current);
     }
     
+    /**
+     * One page of the PENDING approvals waiting for a role, oldest first,
+     * optionally limited to one branch. Pass the previous page's nextCursor to
+     * continue; null starts from the oldest.
+     */
     @Transactional(readOnly = true)
-    public List<ApprovalWorkflowResponse> getPendingApprovalsByRole(String approverRole) {
-        log.debug("Fetching pending approvals for role: {}", approverRole);
-        
-        List<TLoanApproval> approvals = loanApprovalRepository.findByApproverRoleAndStatus(approverRole, "PENDING");
+    public ApprovalQueuePage getPendingApprovalsByRole(String approverRole, Long branchId, String cursor, Integer size) {
+        if (approverRole == null || approverRole.isBlank()) {
+            throw new IllegalArgumentException("Approver role is required");
+        }
+        int pageSize = size != null ? size : approvalProperties.getDefaultPageSize();
+        if (pageSize <= 0 || pageSize > approvalProperties.getMaxPageSize()) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + approvalProperties.getMaxPageSize());
+        }
+        log.debug("Fetching pending approvals for role {} in branch {} after cursor {}", approverRole, branchId, cursor);
+        
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        // One extra row tells whether another page follows
+        List<ApprovalRow> rows = approvalQueryRepository.findQueuePage(approverRole, ApprovalStatus.PENDING.name(),
+                branchId, after != null ? after.createdAt() : null, after != null ? after.id() : null, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ApprovalRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            ApprovalRow last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
         
-        List<ApprovalWorkflowResponse> responses = new ArrayList<>();
-        for (TLoanApproval approval : approvals) {
-            TLoanApplication loanApplication = loanApplicationRepository.findById(approval.getLoanApplicationId())
-                    .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
-            responses.add(mapToResponse(approval, loanApplication));
+        return ApprovalQueuePage.builder()
+                .items(page.stream().map(this::mapToResponse).toList())
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Leases up to count of the oldest unclaimed PENDING approvals of a role to
+     * the approver for the configured claim lease, optionally limited to one
+     * branch. Items claimed by others are skipped rather than waited on, and
+     * an expired lease puts an item back in the queue without any cleanup.
+     * Only the holder can decide a claimed approval until its lease expires.
+     */
+    @Transactional
+    public List<ApprovalWorkflowResponse> claimNext(String approverRole, Long branchId, String approverUsername,
+                                                    Integer count) {
+        if (approverRole == null || approverRole.isBlank() || approverUsername == null || approverUsername.isBlank()) {
+            throw new IllegalArgumentException("Approver role and username are required");
         }
+        int limit = count != null ? count : 1;
+        if (limit <= 0 || limit > approvalProperties.getMaxClaimSize()) {
+            throw new IllegalArgumentException("Claim count must be between 1 and " + approvalProperties.getMaxClaimSize());
+        }
+        
+        Instant now = Instant.now();
+        List<Long> claimedIds = approvalQueryRepository.claimNext(approverRole, ApprovalStatus.PENDING.name(), branchId,
+                approverUsername, now, now.plus(approvalProperties.getClaimLease()), limit);
+        log.info("{} claimed {} of {} requested {} approvals", approverUsername, claimedIds.size(), limit, approverRole);
         
-        return responses;
+        return approvalQueryRepository.findByIds(claimedIds).stream().map(this::mapToResponse).toList();
+    }
+    
+    /**
+     * Hands a claimed PENDING approval back to the queue before its lease expires.
+     */
+    @Transactional
+    public void releaseClaim(Long approvalId, String approverUsername) {
+        if (!approvalQueryRepository.release(approvalId, ApprovalStatus.PENDING.name(), approverUsername, Instant.now())) {
+            throw new IllegalStateException("Approval " + approvalId + " is not claimed by " + approverUsername);
+        }
+        log.info("{} released approval {}", approverUsername, approvalId);
+    }
+    
+    /**
+     * Moves a PENDING approval to its decision with one conditional update and
+     * returns the decided row.
+     */
+    private TLoanApproval decide(Long approvalId, ApprovalStatus decision, String approverUsername, String remarks) {
+        TransitionOutcome<ApprovalStatus> outcome = statusTransitionService.decideApproval(approvalId, decision, approverUsername, remarks);
+        if (outcome.result() == TransitionOutcome.Result.NOT_FOUND) {
+            throw new IllegalArgumentException("Approval record not found with ID: " + approvalId);
+        }
+        if (outcome.result() == TransitionOutcome.Result.BLOCKED) {
+            throw new IllegalStateException("Approval " + approvalId + " cannot be decided: " + outcome.reason());
+        }
+        if (outcome.result() == TransitionOutcome.Result.CONFLICT) {
+            throw new IllegalStateException("Approval " + approvalId + " was claimed concurrently; retry the request");
+        }
+        if (!outcome.isApplied()) {
+            throw new IllegalStateException("Approval is not in PENDING status");
+        }
+        return loanApprovalRepository.findById(approvalId)
+                .orElseThrow(() -> new IllegalArgumentException("Approval record not found with ID: " + approvalId));
     }
     
-    private Integer getNextApprovalLevel(Integer currentLevel, BigDecimal loanAmount) {
-        // Define approval levels based on loan amount
-        if (currentLevel == null) {
-            return 1; // Start with level 1
+    /**
+     * Decides the level 1 approval the way an approver would, so the decision
+     * goes through the same conditional update and listeners, with the rule
+     * trace as its remarks.
+     */
+    private ApprovalWorkflowResponse applyAutoDecision(TLoanApproval approval, AutoDecision autoDecision) {
+        boolean approved = autoDecision.outcome() == AutoDecision.Outcome.APPROVE;
+        TLoanApproval decided = decide(approval.getId(), approved ? ApprovalStatus.APPROVED : ApprovalStatus.REJECTED,
+                AUTO_DECIDER, (approved ? "Auto-approved: " : "Auto-rejected: ") + autoDecision.trace());
+        TLoanApplication loanApplication = findLoanApplication(approval.getLoanApplicationId());
+        
+        if (approved) {
+            moveApplication(loanApplication, ApplicationStatus.APPROVED);
+            repaymentScheduleService.persistSchedule(loanApplication, LocalDate.now());
+        } else {
+            moveApplication(loanApplication, ApplicationStatus.REJECTED);
         }
         
-        // Level 1: Loan Officer (up to $10,000)
-        // Level 2: Branch Manager (up to $50,000)
-        // Level 3: Regional Director (up to $200,000)
-        // Level 4: Chief Credit Officer (above $200,000)
+        log.info("Loan application {} {} by auto-decision [{}]", loanApplication.getId(),
+                approved ? "approved" : "rejected", autoDecision.trace());
+        return mapToResponse(decided, loanApplication);
+    }
+    
+    /**
+     * Reports CONFLICT for every item whose move the lifecycle or the guards refuse.
+     */
+    private void refuseBlockedMoves(List<ApprovalDecisionItem> items, ApprovalDecisionResult[] results,
+                                    ApplicationTransition[] moves) {
+        List<Integer> moving = new ArrayList<>();
+        List<ApplicationTransition> transitions = new ArrayList<>();
+        for (int i = 0; i < moves.length; i++) {
+            if (results[i] == null && moves[i] != null) {
+                moving.add(i);
+                transitions.add(moves[i]);
+            }
+        }
+        if (transitions.isEmpty()) {
+            return;
+        }
         
-        if (currentLevel == 1 && loanAmount.compareTo(new BigDecimal("10000")) > 0) {
-            return 2;
-        } else if (currentLevel == 2 && loanAmount.compareTo(new BigDecimal("50000")) > 0) {
-            return 3;
-        } else if (currentLevel == 3 && loanAmount.compareTo(new BigDecimal("200000")) > 0) {
-            return 4;
+        List<TransitionOutcome<ApplicationStatus>> outcomes = statusTransitionService.checkApplications(transitions);
+        for (int k = 0; k < moving.size(); k++) {
+            TransitionOutcome<ApplicationStatus> outcome = outcomes.get(k);
+            if (!outcome.isApplied()) {
+                String message = String.format("Loan application %d cannot move from %s to %s",
+                        outcome.id(), outcome.fromStatus(), outcome.toStatus());
+                results[moving.get(k)] = result(items.get(moving.get(k)), ApprovalDecisionResult.CONFLICT,
+                        outcome.reason() != null ? message + ": " + outcome.reason() : message);
+            }
+        }
+    }
+    
+    /**
+     * Writes the moves of the items still going ahead. They were checked, so a
+     * refused one rolls the whole batch back rather than leave an item half moved.
+     */
+    private void moveApplications(ApprovalDecisionResult[] results, TLoanApplication[] applicationOf,
+                                  ApplicationTransition[] moves) {
+        List<Integer> moving = new ArrayList<>();
+        List<ApplicationTransition> transitions = new ArrayList<>();
+        for (int i = 0; i < moves.length; i++) {
+            if (results[i] == null && moves[i] != null) {
+                moving.add(i);
+                transitions.add(moves[i]);
+            }
+        }
+        if (transitions.isEmpty()) {
+            return;
         }
         
-        return null; // No more levels needed
+        List<TransitionOutcome<ApplicationStatus>> outcomes = statusTransitionService.transitionApplications(transitions);
+        for (int k = 0; k < moving.size(); k++) {
+            TransitionOutcome<ApplicationStatus> outcome = outcomes.get(k);
+            if (!outcome.isApplied()) {
+                throw new IllegalStateException(String.format("Loan application %d could not move from %s to %s",
+                        outcome.id(), outcome.fromStatus(), outcome.toStatus()));
+            }
+            // The conditional update cleared the persistence context; keep the detached copy in step
+            applicationOf[moving.get(k)].setStatusCode(outcome.toStatus());
+        }
     }
     
-    private String getApproverRoleForLevel(Integer level) {
-        switch (level) {
-            case 1: return "LOAN_OFFICER";
-            case 2: return "BRANCH_MANAGER";
-            case 3: return "REGIONAL_DIRECTOR";
-            case 4: return "CHIEF_CREDIT_OFFICER";
-            default: return "UNKNOWN";
+    private static ApplicationTransition transition(TLoanApplication loanApplication, ApplicationStatus from,
+                                                    ApplicationStatus to) {
+        return new ApplicationTransition(loanApplication.getId(), from, to, loanApplication.getBranchId(),
+                loanApplication.getProductId(), loanApplication.getLoanAmount(), loanApplication.getLoanAmount(),
+                loanApplication.getCreatedAt());
+    }
+    
+    private static ApprovalStatus parseDecision(String decision) {
+        if (decision == null) {
+            return null;
         }
+        return switch (decision.trim().toUpperCase()) {
+            case "APPROVED" -> ApprovalStatus.APPROVED;
+            case "REJECTED" -> ApprovalStatus.REJECTED;
+            default -> null;
+        };
+    }
+    
+    private static ApprovalDecisionResult result(ApprovalDecisionItem item, String result, String message) {
+        return ApprovalDecisionResult.builder()
+                .approvalId(item.getApprovalId())
+                .decision(item.getDecision())
+                .result(result)
+                .message(message)
+                .build();
+    }
+    
+    /**
+     * Moves an application to the outcome of an approval decision through the
+     * lifecycle: a decision on an application not yet under review first takes it
+     * UNDER_REVIEW. The approval row has already been decided, so a failure here
+     * rolls that back.
+     */
+    private void moveApplication(TLoanApplication loanApplication, ApplicationStatus statusCode) {
+        if (loanApplication.getStatusCode() != ApplicationStatus.UNDER_REVIEW) {
+            requireApplied(statusTransitionService.transitionApplication(loanApplication.getId(),
+                    ApplicationStatus.UNDER_REVIEW));
+        }
+        if (statusCode != ApplicationStatus.UNDER_REVIEW) {
+            requireApplied(statusTransitionService.transitionApplication(loanApplication.getId(), statusCode));
+        }
+        // The conditional update cleared the persistence context; keep the detached copy in step
+        loanApplication.setStatusCode(statusCode);
+    }
+    
+    private void requireApplied(TransitionOutcome<ApplicationStatus> outcome) {
+        switch (outcome.result()) {
+            case APPLIED:
+                return;
+            case NOT_FOUND:
+                throw new IllegalArgumentException("Loan application not found with ID: " + outcome.id());
+            case INVALID_TRANSITION:
+                throw new IllegalStateException(String.format(
+                    "Loan application %d cannot move from %s to %s", 
+                    outcome.id(), outcome.fromStatus(), outcome.toStatus()));
+            case BLOCKED:
+                throw new IllegalStateException(String.format(
+                    "Loan application %d cannot move from %s to %s: %s", 
+                    outcome.id(), outcome.fromStatus(), outcome.toStatus(), outcome.reason()));
+            default:
+                throw new IllegalStateException(String.format(
+                    "Loan application %d was changed concurrently after %d attempts; retry the request",
+                    outcome.id(), outcome.attempts()));
+        }
+    }
+    
+    private TLoanApplication findLoanApplication(Long loanApplicationId) {
+        return loanApplicationRepository.findById(loanApplicationId)
+                .orElseThrow(() -> new IllegalArgumentException("Loan application not found"));
     }
     
     private ApprovalWorkflowResponse mapToResponse(TLoanApproval approval, TLoanApplication loanApplication) {
@@ -269,14 +637,37 @@ public class ApprovalWorkflowService {
                 .loanApplicationId(approval.getLoanApplicationId())
                 .approvalLevel(approval.getApprovalLevel())
                 .approverRole(approval.getApproverRole())
-                .status(approval.getStatus())
+                .status(approval.getStatus() != null ? approval.getStatus().name() : null)
                 .remarks(approval.getRemarks())
                 .createdAt(approval.getCreatedAt())
                 .createdBy(approval.getCreatedBy())
                 .approvedAt(approval.getApprovedAt())
                 .approvedBy(approval.getApprovedBy())
-                .loanApplicationStatus(loanApplication.getStatusCode())
+                .loanApplicationStatus(loanApplication.getStatusCode() != null ? loanApplication.getStatusCode().name() : null)
                 .loanAmount(loanApplication.getLoanAmount())
+                .branchId(loanApplication.getBranchId())
+                .claimedBy(approval.getClaimedBy())
+                .claimExpiresAt(approval.getClaimExpiresAt())
+                .build();
+    }
+    
+    private ApprovalWorkflowResponse mapToResponse(ApprovalRow approval) {
+        return ApprovalWorkflowResponse.builder()
+                .id(approval.id())
+                .loanApplicationId(approval.loanApplicationId())
+                .approvalLevel(approval.approvalLevel())
+                .approverRole(approval.approverRole())
+                .status(approval.statusCode())
+                .remarks(approval.remarks())
+                .createdAt(approval.createdAt())
+                .createdBy(approval.createdBy())
+                .approvedAt(approval.approvedAt())
+                .approvedBy(approval.approvedBy())
+                .loanApplicationStatus(approval.applicationStatusCode())
+                .loanAmount(approval.loanAmount())
+                .branchId(approval.branchId())
+                .claimedBy(approval.claimedBy())
+                .claimExpiresAt(approval.claimExpiresAt())
                 .build();
     }
 }
\ No newline at end of file
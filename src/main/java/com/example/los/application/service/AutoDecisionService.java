@@ -0,0 +1,79 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.decision.AutoDecision;
+import com.example.los.application.decision.AutoDecisionRules;
+import com.example.los.application.decision.DecisionFacts;
+import com.example.los.application.workflow.ApprovalRoutingTable;
+import com.example.los.infrastructure.config.ApprovalProperties;
+import com.example.los.infrastructure.repository.DecisionFactsRepository;
+import com.example.los.infrastructure.repository.DecisionFactsRepository.ApplicationFacts;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decides submitted applications by rule where no human is needed.
+ *
+ * The facts of an application are read in one query and evaluated against an
+ * {@link AutoDecisionRules} compiled from app.approval.auto-decision and the
+ * first approval level's limit. The compiled rules are rebuilt whenever the
+ * approval chain is reloaded, so limit changes apply without a restart.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AutoDecisionService {
+
+    private final DecisionFactsRepository decisionFactsRepository;
+    private final ApprovalRoutingService approvalRoutingService;
+    private final ApprovalProperties approvalProperties;
+
+    private volatile CompiledRules compiled;
+
+    public boolean isEnabled() {
+        return approvalProperties.getAutoDecision().isEnabled();
+    }
+
+    public AutoDecision decide(Long loanApplicationId) {
+        ApplicationFacts facts = decisionFactsRepository.findFacts(loanApplicationId, LocalDate.now())
+                .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + loanApplicationId));
+        AutoDecision decision = currentRules().evaluate(toDecisionFacts(facts));
+        log.debug("Auto-decision for loan application {}: {} [{}]", loanApplicationId, decision.outcome(),
+                decision.trace());
+        return decision;
+    }
+
+    private AutoDecisionRules currentRules() {
+        ApprovalRoutingTable table = approvalRoutingService.getTable();
+        CompiledRules current = compiled;
+        if (current == null || current.table() != table) {
+            ApprovalProperties.AutoDecision settings = approvalProperties.getAutoDecision();
+            current = new CompiledRules(table, AutoDecisionRules.compile(settings.getMaxAmount(),
+                    table.maxCentsForLevel(1), settings.getMaxCustomerExposure(), settings.getMaxUnsecuredAmount(),
+                    settings.getMaxLtvPercent(), settings.getRejectOverdueInstallments()));
+            compiled = current;
+            log.info("Auto-decision rules compiled; approving automatically up to {}",
+                    BigDecimal.valueOf(current.rules().getMaxAmountCents(), 2));
+        }
+        return current.rules();
+    }
+
+    private static DecisionFacts toDecisionFacts(ApplicationFacts facts) {
+        return new DecisionFacts(
+                AutoDecisionRules.toCents(facts.loanAmount()),
+                "ACTIVE".equals(facts.productStatus()),
+                AutoDecisionRules.toCents(facts.productMinAmount()),
+                facts.productMaxAmount() != null ? AutoDecisionRules.toCents(facts.productMaxAmount()) : Long.MAX_VALUE,
+                AutoDecisionRules.toCents(facts.collateralValue()),
+                AutoDecisionRules.toCents(facts.customerExposure()),
+                facts.overdueInstallments());
+    }
+
+    private record CompiledRules(ApprovalRoutingTable table, AutoDecisionRules rules) {
+    }
+}
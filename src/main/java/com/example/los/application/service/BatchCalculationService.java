@@ -0,0 +1,205 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.dto.EMIBatchRequest;
+import com.example.los.application.dto.EMIBatchResponse;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMICalculationResponse;
+import com.example.los.application.dto.EMIScenarioResult;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Calculates quote grids (amounts x rates x tenures) in parallel on a dedicated,
+ * bounded fork-join pool so large grids cannot starve the common pool.
+ */
+@Service
+@Slf4j
+public class BatchCalculationService {
+
+    private final CalculationService calculationService;
+    private final CalculationProperties.Batch properties;
+    private final int maxTenureMonths;
+    private final ForkJoinPool pool;
+
+    public BatchCalculationService(CalculationService calculationService, CalculationProperties calculationProperties) {
+        this.calculationService = calculationService;
+        this.properties = calculationProperties.getBatch();
+        this.maxTenureMonths = calculationProperties.getMaxTenureMonths();
+        int parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(parallelism);
+        log.info("Batch calculation pool started with parallelism {}", parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public EMIBatchResponse calculateEMIBatch(EMIBatchRequest request) {
+        List<BigDecimal> amounts = requireNonEmpty(request.getPrincipalAmounts(), "principalAmounts");
+        List<BigDecimal> rates = requireNonEmpty(request.getAnnualInterestRates(), "annualInterestRates");
+        List<Integer> tenures = requireNonEmpty(request.getTenureMonths(), "tenureMonths");
+
+        long scenarioCount = (long) amounts.size() * rates.size() * tenures.size();
+        if (scenarioCount > properties.getMaxScenarios()) {
+            throw new IllegalArgumentException(String.format(
+                    "Scenario matrix of %d cells exceeds the limit of %d", scenarioCount, properties.getMaxScenarios()));
+        }
+        if (!request.isSummaryOnly()) {
+            long scheduleRows = (long) amounts.size() * rates.size() * tenures.stream()
+                    .filter(tenure -> tenure != null && tenure > 0 && tenure <= maxTenureMonths)
+                    .mapToLong(Integer::longValue)
+                    .sum();
+            if (scheduleRows > properties.getMaxScheduleRows()) {
+                throw new IllegalArgumentException(String.format(
+                        "Full schedules for this matrix have %d installments, exceeding the limit of %d; request summaryOnly",
+                        scheduleRows, properties.getMaxScheduleRows()));
+            }
+        }
+
+        log.debug("Calculating {} EMI scenarios (summary only: {})", scenarioCount, request.isSummaryOnly());
+        long start = System.nanoTime();
+
+        EMIScenarioResult[] results = new EMIScenarioResult[(int) scenarioCount];
+        pool.invoke(new ScenarioTask(request, amounts, rates, tenures, results, 0, results.length));
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        int failedCount = (int) Arrays.stream(results).filter(result -> result.getError() != null).count();
+
+        log.info("Calculated {} EMI scenarios in {} ms ({} failed)", scenarioCount, elapsedMillis, failedCount);
+
+        return EMIBatchResponse.builder()
+                .scenarioCount(results.length)
+                .failedCount(failedCount)
+                .elapsedMillis(elapsedMillis)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * EMI summaries for independent scenarios, computed on the batch pool. A scenario
+     * that fails keeps its position in the result with the error set.
+     */
+    public List<EMIScenarioResult> calculateEMISummaries(List<EMICalculationRequest> scenarios) {
+        EMIScenarioResult[] results = new EMIScenarioResult[scenarios.size()];
+        pool.submit(() -> IntStream.range(0, results.length).parallel()
+                .forEach(i -> results[i] = calculateSummary(scenarios.get(i))))
+                .join();
+        return Arrays.asList(results);
+    }
+
+    private EMIScenarioResult calculateSummary(EMICalculationRequest scenario) {
+        EMIScenarioResult.EMIScenarioResultBuilder result = EMIScenarioResult.builder()
+                .principalAmount(scenario.getPrincipalAmount())
+                .annualInterestRate(scenario.getAnnualInterestRate())
+                .tenureMonths(scenario.getTenureMonths());
+        try {
+            EMICalculationResponse response = calculationService.calculateEMISummary(scenario);
+            return result
+                    .emi(response.getEmi())
+                    .totalPayment(response.getTotalPayment())
+                    .totalInterest(response.getTotalInterest())
+                    .build();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return result.error(e.getMessage()).build();
+        }
+    }
+
+    private EMIScenarioResult calculateScenario(EMIBatchRequest request, BigDecimal amount, BigDecimal rate, Integer tenure) {
+        EMIScenarioResult.EMIScenarioResultBuilder result = EMIScenarioResult.builder()
+                .principalAmount(amount)
+                .annualInterestRate(rate)
+                .tenureMonths(tenure != null ? tenure : 0);
+        try {
+            if (tenure == null) {
+                throw new IllegalArgumentException("Tenure is required");
+            }
+            if (tenure > maxTenureMonths) {
+                throw new IllegalArgumentException(String.format(
+                        "Tenure must not exceed %d months", maxTenureMonths));
+            }
+            EMICalculationRequest scenario = EMICalculationRequest.builder()
+                    .principalAmount(amount)
+                    .annualInterestRate(rate)
+                    .tenureMonths(tenure)
+                    .startDate(request.getStartDate())
+                    .build();
+            EMICalculationResponse response = request.isSummaryOnly()
+                    ? calculationService.calculateEMISummary(scenario)
+                    : calculationService.calculateEMI(scenario);
+            return result
+                    .emi(response.getEmi())
+                    .totalPayment(response.getTotalPayment())
+                    .totalInterest(response.getTotalInterest())
+                    .repaymentSchedule(response.getRepaymentSchedule())
+                    .build();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return result.error(e.getMessage()).build();
+        }
+    }
+
+    private static <T> List<T> requireNonEmpty(List<T> values, String name) {
+        if (values == null || values.isEmpty()) {
+            throw new IllegalArgumentException(name + " must not be empty");
+        }
+        return values;
+    }
+
+    /**
+     * Splits the flattened scenario index range in halves until it is small
+     * enough to compute sequentially. Index i maps to amount i / (R x T),
+     * rate (i / T) % R and tenure i % T.
+     */
+    private class ScenarioTask extends RecursiveAction {
+
+        private final EMIBatchRequest request;
+        private final List<BigDecimal> amounts;
+        private final List<BigDecimal> rates;
+        private final List<Integer> tenures;
+        private final EMIScenarioResult[] results;
+        private final int from;
+        private final int to;
+
+        ScenarioTask(EMIBatchRequest request, List<BigDecimal> amounts, List<BigDecimal> rates,
+                     List<Integer> tenures, EMIScenarioResult[] results, int from, int to) {
+            this.request = request;
+            this.amounts = amounts;
+            this.rates = rates;
+            this.tenures = tenures;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= properties.getSplitThreshold()) {
+                int tenureCount = tenures.size();
+                int rateCount = rates.size();
+                for (int i = from; i < to; i++) {
+                    results[i] = calculateScenario(request,
+                            amounts.get(i / (rateCount * tenureCount)),
+                            rates.get((i / tenureCount) % rateCount),
+                            tenures.get(i % tenureCount));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ScenarioTask(request, amounts, rates, tenures, results, from, mid),
+                      new ScenarioTask(request, amounts, rates, tenures, results, mid, to));
+        }
+    }
+}
@@ -4,23 +4,37 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AmortizationSchedule;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.calculation.ExactAmortizationSchedule;
+import com.example.los.application.dto.CalculationCacheStats;
 import com.example.los.application.dto.EMICalculationRequest;
 import com.example.los.application.dto.EMICalculationResponse;
 import com.example.los.application.dto.InterestCalculationRequest;
 import com.example.los.application.dto.InterestCalculationResponse;
 import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class CalculationService {
     
+    private final AmortizationEngine amortizationEngine;
+    private final AnnuityFactorCache annuityFactorCache;
+    private final CalculationProperties calculationProperties;
+    
     /**
      * Calculate EMI (Equated Monthly Installment) using the formula:
      * EMI = [P x R x (1+R)^N]/[(1+R)^N-1]
@@ -30,39 +44,77 @@ public class CalculationService {
      * N = Loan tenure in months
      */
     public EMICalculationResponse calculateEMI(EMICalculationRequest request) {
-        log.debug("Calculating EMI for amount: {}, interest rate: {}, tenure: {} months", 
-                request.getPrincipalAmount(), request.getAnnualInterestRate(), request.getTenureMonths());
+        EMICalculationResponse response = calculateEMI(request, true);
+        
+        log.info("EMI calculated: {} for principal: {}, rate: {}%, tenure: {} months", 
+                response.getEmi(), response.getPrincipalAmount(), response.getAnnualInterestRate(), 
+                response.getTenureMonths());
+        
+        return response;
+    }
+    
+    /**
+     * Calculate EMI, total payment and total interest without building the
+     * repayment schedule. Used for quote grids where only the summary is shown.
+     */
+    public EMICalculationResponse calculateEMISummary(EMICalculationRequest request) {
+        return calculateEMI(request, false);
+    }
+    
+    /**
+     * Lazily generated repayment schedule for installments fromInstallment..toInstallment
+     * (inclusive). Rows are computed as the stream is consumed, so memory does not grow
+     * with tenure.
+     */
+    public Stream<RepaymentSchedule> streamRepaymentSchedule(EMICalculationRequest request, 
+                                                             int fromInstallment, int toInstallment) {
+        validate(request);
         
         BigDecimal principal = request.getPrincipalAmount();
-        BigDecimal annualInterestRate = request.getAnnualInterestRate();
         int tenureMonths = request.getTenureMonths();
+        long monthlyRateUnits = amortizationEngine.monthlyRateUnits(request.getAnnualInterestRate());
+        BigDecimal emi = resolveEmi(principal, monthlyRateUnits, tenureMonths);
         
-        // Validate inputs
-        if (principal.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new IllegalArgumentException("Principal amount must be greater than zero");
-        }
+        return generateRepaymentSchedule(principal, monthlyRateUnits, tenureMonths, emi, 
+                request.getStartDate(), fromInstallment, toInstallment);
+    }
+    
+    /**
+     * Primitive amortization schedule for a principal in whole cents, for callers that
+     * write installments somewhere other than an API response.
+     */
+    public AmortizationSchedule buildAmortizationSchedule(EMICalculationRequest request) {
+        validate(request);
         
-        if (annualInterestRate.compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Interest rate cannot be negative");
+        BigDecimal principal = request.getPrincipalAmount();
+        if (!amortizationEngine.isWholeCents(principal)) {
+            throw new IllegalArgumentException("Principal amount must be in whole cents: " + principal);
         }
         
-        if (tenureMonths <= 0) {
-            throw new IllegalArgumentException("Tenure must be greater than zero months");
-        }
+        int tenureMonths = request.getTenureMonths();
+        long principalCents = amortizationEngine.toCents(principal);
+        long monthlyRateUnits = amortizationEngine.monthlyRateUnits(request.getAnnualInterestRate());
+        long emiCents = amortizationEngine.emiCents(principalCents, monthlyRateUnits, tenureMonths);
+        LocalDate firstPaymentDate = request.getStartDate() != null ? request.getStartDate() : LocalDate.now().plusMonths(1);
+        
+        return new AmortizationSchedule(amortizationEngine, principalCents, monthlyRateUnits, 
+                tenureMonths, emiCents, firstPaymentDate);
+    }
+    
+    private EMICalculationResponse calculateEMI(EMICalculationRequest request, boolean includeSchedule) {
+        log.debug("Calculating EMI for amount: {}, interest rate: {}, tenure: {} months", 
+                request.getPrincipalAmount(), request.getAnnualInterestRate(), request.getTenureMonths());
         
-        // Calculate monthly interest rate (annual rate / 12 / 100)
-        BigDecimal monthlyInterestRate = annualInterestRate
-                .divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP)
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+        validate(request);
+        
+        BigDecimal principal = request.getPrincipalAmount();
+        BigDecimal annualInterestRate = request.getAnnualInterestRate();
+        int tenureMonths = request.getTenureMonths();
         
-        // Calculate (1+R)^N
-        BigDecimal onePlusR = BigDecimal.ONE.add(monthlyInterestRate);
-        BigDecimal onePlusRPowN = pow(onePlusR, tenureMonths);
+        // Monthly rate as a long scaled by 10^10 (annual rate / 12 / 100)
+        long monthlyRateUnits = amortizationEngine.monthlyRateUnits(annualInterestRate);
         
-        // Calculate EMI using formula: EMI = [P x R x (1+R)^N] / [(1+R)^N - 1]
-        BigDecimal numerator = principal.multiply(monthlyInterestRate).multiply(onePlusRPowN);
-        BigDecimal denominator = onePlusRPowN.subtract(BigDecimal.ONE);
-        BigDecimal emi = numerator.divide(denominator, 2, RoundingMode.HALF_UP);
+        BigDecimal emi = resolveEmi(principal, monthlyRateUnits, tenureMonths);
         
         // Calculate total payment
         BigDecimal totalPayment = emi.multiply(BigDecimal.valueOf(tenureMonths));
@@ -70,12 +122,15 @@ public class CalculationService {
         // Calculate total interest
         BigDecimal totalInterest = totalPayment.subtract(principal);
         
-        // Generate repayment schedule
-        List<RepaymentSchedule> schedule = generateRepaymentSchedule(
-                principal, annualInterestRate, tenureMonths, emi, request.getStartDate());
-        
-        log.info("EMI calculated: {} for principal: {}, rate: {}%, tenure: {} months", 
-                emi, principal, annualInterestRate, tenureMonths);
+        // Generate repayment schedule, optionally limited to the requested installment range
+        List<RepaymentSchedule> schedule = null;
+        if (includeSchedule) {
+            int fromInstallment = request.getScheduleFromInstallment() != null ? request.getScheduleFromInstallment() : 1;
+            int toInstallment = request.getScheduleToInstallment() != null ? request.getScheduleToInstallment() : tenureMonths;
+            schedule = generateRepaymentSchedule(principal, monthlyRateUnits, tenureMonths, emi, 
+                    request.getStartDate(), fromInstallment, toInstallment)
+                    .collect(Collectors.toList());
+        }
         
         return EMICalculationResponse.builder()
                 .principalAmount(principal)
@@ -88,6 +143,58 @@ public class CalculationService {
                 .build();
     }
     
+    private void validate(EMICalculationRequest request) {
+        BigDecimal principal = request.getPrincipalAmount();
+        BigDecimal annualInterestRate = request.getAnnualInterestRate();
+        
+        if (principal == null || annualInterestRate == null) {
+            throw new IllegalArgumentException("Principal amount and interest rate are required");
+        }
+        
+        if (principal.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Principal amount must be greater than zero");
+        }
+        
+        if (annualInterestRate.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Interest rate cannot be negative");
+        }
+        
+        if (request.getTenureMonths() <= 0) {
+            throw new IllegalArgumentException("Tenure must be greater than zero months");
+        }
+        
+        if (request.getTenureMonths() > calculationProperties.getMaxTenureMonths()) {
+            throw new IllegalArgumentException(String.format(
+                    "Tenure must not exceed %d months", calculationProperties.getMaxTenureMonths()));
+        }
+    }
+    
+    /**
+     * EMI = [P x R x (1+R)^N] / [(1+R)^N - 1], in cents unless the principal has sub-cent digits
+     */
+    private BigDecimal resolveEmi(BigDecimal principal, long monthlyRateUnits, int tenureMonths) {
+        if (amortizationEngine.isWholeCents(principal)) {
+            return AmortizationEngine.fromCents(amortizationEngine.emiCents(
+                    amortizationEngine.toCents(principal), monthlyRateUnits, tenureMonths));
+        }
+        return amortizationEngine.exactEmi(principal, monthlyRateUnits, tenureMonths);
+    }
+    
+    /**
+     * Hit/miss metrics of the annuity factor cache behind every EMI calculation
+     */
+    public CalculationCacheStats getFactorCacheStats() {
+        CacheStats stats = annuityFactorCache.stats();
+        return CalculationCacheStats.builder()
+                .size(annuityFactorCache.size())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .averageLoadPenaltyNanos(stats.averageLoadPenalty())
+                .build();
+    }
+    
     /**
      * Calculate simple interest
      * Simple Interest = (P x R x T) / 100
@@ -240,73 +347,32 @@ public class CalculationService {
     }
     
     /**
-     * Generate amortization schedule (repayment schedule)
+     * Generate amortization schedule (repayment schedule) for an installment range
      */
-    private List<RepaymentSchedule> generateRepaymentSchedule(BigDecimal principal, 
-                                                             BigDecimal annualInterestRate,
-                                                             int tenureMonths,
-                                                             BigDecimal emi,
-                                                             LocalDate startDate) {
-        List<RepaymentSchedule> schedule = new ArrayList<>();
-        
-        BigDecimal remainingPrincipal = principal;
-        BigDecimal monthlyInterestRate = annualInterestRate
-                .divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP)
-                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
-        
-        LocalDate paymentDate = startDate != null ? startDate : LocalDate.now().plusMonths(1);
-        
-        for (int month = 1; month <= tenureMonths; month++) {
-            // Calculate interest for this month
-            BigDecimal interest = remainingPrincipal.multiply(monthlyInterestRate)
-                    .setScale(2, RoundingMode.HALF_UP);
-            
-            // Calculate principal for this month
-            BigDecimal principalComponent = emi.subtract(interest);
-            
-            // Adjust for last month to avoid rounding errors
-            if (month == tenureMonths) {
-                principalComponent = remainingPrincipal;
-                BigDecimal lastEMI = principalComponent.add(interest);
-                if (lastEMI.compareTo(emi) != 0) {
-                    // Recalculate EMI for last month
-                    emi = lastEMI;
-                }
-            }
-            
-            // Update remaining principal
-            remainingPrincipal = remainingPrincipal.subtract(principalComponent);
-            if (remainingPrincipal.compareTo(BigDecimal.ZERO) < 0) {
-                remainingPrincipal = BigDecimal.ZERO;
-            }
-            
-            // Create schedule entry
-            RepaymentSchedule entry = RepaymentSchedule.builder()
-                    .installmentNumber(month)
-                    .paymentDate(paymentDate)
-                    .emi(emi)
-                    .principalComponent(principalComponent)
-                    .interestComponent(interest)
-                    .remainingBalance(remainingPrincipal)
-                    .build();
-            
-            schedule.add(entry);
-            
-            // Move to next month
-            paymentDate = paymentDate.plusMonths(1);
+    private Stream<RepaymentSchedule> generateRepaymentSchedule(BigDecimal principal, 
+                                                               long monthlyRateUnits,
+                                                               int tenureMonths,
+                                                               BigDecimal emi,
+                                                               LocalDate startDate,
+                                                               int fromInstallment,
+                                                               int toInstallment) {
+        LocalDate firstPaymentDate = startDate != null ? startDate : LocalDate.now().plusMonths(1);
+        
+        if (!amortizationEngine.isWholeCents(principal) || !amortizationEngine.isWholeCents(emi)) {
+            return new ExactAmortizationSchedule(principal, monthlyRateUnits, tenureMonths, emi, firstPaymentDate)
+                    .stream(fromInstallment, toInstallment);
         }
         
-        return schedule;
+        AmortizationSchedule schedule = new AmortizationSchedule(amortizationEngine, 
+                amortizationEngine.toCents(principal), monthlyRateUnits, tenureMonths, 
+                amortizationEngine.toCents(emi), firstPaymentDate);
+        return schedule.stream(fromInstallment, toInstallment);
     }
     
     /**
-     * Helper method to calculate power for BigDecimal
+     * Helper method to calculate power for BigDecimal (exact, by repeated squaring)
      */
     private BigDecimal pow(BigDecimal base, int exponent) {
-        BigDecimal result = BigDecimal.ONE;
-        for (int i = 0; i < exponent; i++) {
-            result = result.multiply(base);
-        }
-        return result;
+        return exponent <= 0 ? BigDecimal.ONE : base.pow(exponent);
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.example.los.application.dto.CustomerRequest;
 import com.example.los.application.dto.CustomerResponse;
 import com.example.los.domain.entity.TCustomer;
+import com.example.los.domain.lifecycle.ApplicationStatus;
 import com.example.los.infrastructure.repository.CustomerRepository;
 import com.example.los.infrastructure.repository.LoanApplicationRepository;
 
@@ -186,7 +187,7 @@ public class CustomerService {
         
         int totalLoanApplications = applications.size();
         int activeLoans = (int) applications.stream()
-                .filter(app -> "ACTIVE".equals(app.getStatusCode()))
+                .filter(app -> app.getStatusCode() == ApplicationStatus.ACTIVE)
                 .count();
         
         BigDecimal totalLoanAmount = applications.stream()
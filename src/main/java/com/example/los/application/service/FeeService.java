@@ -0,0 +1,199 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.dto.FeeBatchRequest;
+import com.example.los.application.dto.FeeBatchResponse;
+import com.example.los.application.dto.FeeCalculationRequest;
+import com.example.los.application.dto.FeeCalculationResponse;
+import com.example.los.application.pricing.ProductFeeSchedule;
+import com.example.los.domain.policy.CfgFee;
+import com.example.los.infrastructure.config.PricingProperties;
+import com.example.los.infrastructure.repository.FeeRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prices product fees from cfg_fee.
+ *
+ * Every product's fee rows are compiled into a {@link ProductFeeSchedule} and the
+ * whole set is published as one immutable map, rebuilt on startup, on the
+ * pricing refresh interval and on {@link #reload()}. A product without fee rows
+ * has no fees. A batch is priced against a single snapshot, so it never mixes
+ * old and new configuration.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FeeService {
+
+    private static final ProductFeeSchedule NO_FEES = ProductFeeSchedule.compile(null, List.of());
+
+    private final FeeRepository feeRepository;
+    private final PricingProperties pricingProperties;
+
+    private volatile Map<Long, ProductFeeSchedule> schedules;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "#{@pricingProperties.refreshInterval.toMillis()}",
+            fixedDelayString = "#{@pricingProperties.refreshInterval.toMillis()}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Recompile all product fee schedules and swap them in. Call after changing cfg_fee.
+     */
+    public synchronized Map<Long, ProductFeeSchedule> reload() {
+        Map<Long, List<CfgFee>> feesByProduct = feeRepository.findAll().stream()
+                .filter(fee -> fee.getProductId() != null)
+                .sorted(Comparator.comparing(CfgFee::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .collect(Collectors.groupingBy(CfgFee::getProductId, LinkedHashMap::new, Collectors.toList()));
+
+        Map<Long, ProductFeeSchedule> compiled = new HashMap<>();
+        int skipped = 0;
+        for (Map.Entry<Long, List<CfgFee>> entry : feesByProduct.entrySet()) {
+            ProductFeeSchedule schedule = ProductFeeSchedule.compile(entry.getKey(), entry.getValue());
+            skipped += schedule.getSkippedCount();
+            compiled.put(entry.getKey(), schedule);
+        }
+
+        Map<Long, ProductFeeSchedule> rebuilt = Map.copyOf(compiled);
+        Map<Long, ProductFeeSchedule> previous = schedules;
+        schedules = rebuilt;
+        if (previous == null || previous.size() != rebuilt.size() || skipped > 0) {
+            log.info("Fee schedules compiled for {} products ({} fee rows skipped)", rebuilt.size(), skipped);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Fee schedule of a product; empty when the product has no fees configured.
+     */
+    public ProductFeeSchedule getSchedule(Long productId) {
+        return currentSchedules().getOrDefault(productId, NO_FEES);
+    }
+
+    /**
+     * Sum of all fees of a product for a loan amount.
+     */
+    public BigDecimal calculateTotalFee(Long productId, BigDecimal loanAmount) {
+        return total(getSchedule(productId).evaluate(loanAmount));
+    }
+
+    public FeeCalculationResponse calculateFees(FeeCalculationRequest request) {
+        validate(request);
+        return evaluate(currentSchedules(), request, false);
+    }
+
+    /**
+     * Prices many applications at once against one configuration snapshot.
+     * Invalid items are reported individually instead of failing the batch.
+     */
+    public FeeBatchResponse calculateFeesBatch(FeeBatchRequest request) {
+        List<FeeCalculationRequest> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > pricingProperties.getMaxFeeBatchSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch of %d items exceeds the limit of %d", items.size(), pricingProperties.getMaxFeeBatchSize()));
+        }
+
+        long start = System.nanoTime();
+        Map<Long, ProductFeeSchedule> snapshot = currentSchedules();
+        List<FeeCalculationResponse> results = new ArrayList<>(items.size());
+        int failed = 0;
+        for (FeeCalculationRequest item : items) {
+            try {
+                validate(item);
+                results.add(evaluate(snapshot, item, request.isTotalsOnly()));
+            } catch (IllegalArgumentException e) {
+                failed++;
+                results.add(FeeCalculationResponse.builder()
+                        .productId(item.getProductId())
+                        .loanAmount(item.getLoanAmount())
+                        .error(e.getMessage())
+                        .build());
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.debug("Priced fees for {} applications in {} ms ({} failed)", items.size(), elapsedMillis, failed);
+
+        return FeeBatchResponse.builder()
+                .itemCount(items.size())
+                .failedCount(failed)
+                .elapsedMillis(elapsedMillis)
+                .results(results)
+                .build();
+    }
+
+    private FeeCalculationResponse evaluate(Map<Long, ProductFeeSchedule> snapshot, FeeCalculationRequest request,
+                                            boolean totalsOnly) {
+        ProductFeeSchedule schedule = snapshot.getOrDefault(request.getProductId(), NO_FEES);
+        BigDecimal loanAmount = request.getLoanAmount();
+
+        Map<String, BigDecimal> fees = null;
+        BigDecimal totalFee;
+        if (totalsOnly && loanAmount.scale() <= 2 && loanAmount.precision() - loanAmount.scale() <= 15) {
+            totalFee = AmortizationEngine.fromCents(schedule.totalCents(loanAmount.movePointRight(2).longValueExact()));
+        } else {
+            fees = schedule.evaluate(loanAmount);
+            totalFee = total(fees);
+            if (totalsOnly) {
+                fees = null;
+            }
+        }
+
+        return FeeCalculationResponse.builder()
+                .productId(request.getProductId())
+                .loanAmount(loanAmount)
+                .fees(fees)
+                .totalFee(totalFee)
+                .build();
+    }
+
+    private void validate(FeeCalculationRequest request) {
+        if (request.getProductId() == null || request.getLoanAmount() == null) {
+            throw new IllegalArgumentException("Product and loan amount are required");
+        }
+        if (request.getLoanAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Loan amount must be greater than zero");
+        }
+    }
+
+    private static BigDecimal total(Map<String, BigDecimal> fees) {
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        for (BigDecimal fee : fees.values()) {
+            total = total.add(fee);
+        }
+        return total;
+    }
+
+    private Map<Long, ProductFeeSchedule> currentSchedules() {
+        Map<Long, ProductFeeSchedule> current = schedules;
+        if (current == null) {
+            // First lookup before the startup load finished
+            current = reload();
+        }
+        return current;
+    }
+}
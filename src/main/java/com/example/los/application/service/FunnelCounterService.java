@@ -0,0 +1,370 @@
+package com.example.los.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.los.application.funnel.FunnelCounters;
+import com.example.los.application.funnel.FunnelCounters.Bucket;
+import com.example.los.application.funnel.FunnelCounters.Delta;
+import com.example.los.application.funnel.FunnelCounters.Resolution;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.TransitionListener;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.lifecycle.ApplicationSnapshot;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.infrastructure.config.FunnelProperties;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers "how many applications created since T are now in status S" from
+ * bucketed counters instead of a COUNT over t_loan_application.
+ *
+ * Every committed creation, deletion and status change moves one application
+ * between statuses in the minute and hour buckets of its creation time. Counts
+ * accumulate in memory in {@link FunnelCounters} and are added to Redis hashes,
+ * one per bucket with a field per status, on the flush interval; the hashes
+ * expire after their retention. A window is answered by summing its buckets in
+ * one pipelined round trip, plus this instance's unflushed counts, starting from
+ * the beginning of the minute that contains T (of the hour, past the minute
+ * retention). Windows reaching past the hour retention, or back before the
+ * counters were started, are counted in the database over that same window, as
+ * is any window while Redis is unavailable. The start is a marker in Redis that
+ * is checked on every flush and count, so a flushed Redis falls back to the
+ * database until the buckets are complete again. The recent buckets are
+ * periodically rebuilt from the database, which repairs counts lost by an
+ * unclean stop or an evicted key.
+ */
+@Service
+@Slf4j
+public class FunnelCounterService implements TransitionListener {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final FunnelProperties properties;
+    private final Clock clock;
+    private final FunnelCounters counters = new FunnelCounters();
+
+    /**
+     * Epoch minute from which the Redis buckets are complete; null until read from Redis.
+     * Compared with the marker in Redis on every flush and count.
+     */
+    private volatile Long countedFromMinute;
+
+    @Autowired
+    public FunnelCounterService(RedisTemplate<String, String> redisTemplate,
+                                LoanApplicationRepository loanApplicationRepository, FunnelProperties properties) {
+        this(redisTemplate, loanApplicationRepository, properties, Clock.systemUTC());
+    }
+
+    public FunnelCounterService(RedisTemplate<String, String> redisTemplate,
+                                LoanApplicationRepository loanApplicationRepository, FunnelProperties properties,
+                                Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @Override
+    public void onTransition(ApplicationTransition transition) {
+        if (transition.createdAt() == null) {
+            return;
+        }
+        long minute = epochMinute(transition.createdAt());
+        afterCommit(() -> {
+            counters.add(minute, transition.from().name(), -1);
+            counters.add(minute, transition.to().name(), 1);
+        });
+    }
+
+    public void recordCreated(Collection<TLoanApplication> applications) {
+        List<TLoanApplication> counted = applications.stream()
+                .filter(application -> application.getCreatedAt() != null && application.getStatusCode() != null)
+                .toList();
+        afterCommit(() -> counted.forEach(application ->
+                counters.add(epochMinute(application.getCreatedAt()), application.getStatusCode().name(), 1)));
+    }
+
+    public void recordDeleted(TLoanApplication application) {
+        if (application.getCreatedAt() != null && application.getStatusCode() != null) {
+            long minute = epochMinute(application.getCreatedAt());
+            String status = application.getStatusCode().name();
+            afterCommit(() -> counters.add(minute, status, -1));
+        }
+    }
+
+    /**
+     * Applications created since the start of the minute containing the given
+     * instant (of its hour, past the minute retention) that are now in status.
+     */
+    public long countSince(ApplicationStatus status, Instant since) {
+        long nowMinute = epochMinute(clock.instant());
+        long fromMinute = epochMinute(since);
+        if (fromMinute > nowMinute) {
+            return 0;
+        }
+        long oldestMinute = nowMinute - properties.getMinuteRetention().toMinutes();
+        List<Bucket> buckets = FunnelCounters.covering(status.name(), fromMinute, nowMinute, oldestMinute);
+        // The database is asked for the same window the buckets cover
+        Instant windowStart = Instant.ofEpochSecond(startMinute(buckets.get(0)) * 60);
+        Long countedFrom = countedFromMinute;
+        if (countedFrom == null || startMinute(buckets.get(0)) < countedFrom
+                || fromMinute < nowMinute - properties.getHourRetention().toMinutes()) {
+            return countExactly(status, windowStart);
+        }
+
+        try {
+            List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    redis.opsForValue().get(countedFromKey());
+                    for (Bucket bucket : buckets) {
+                        redis.opsForHash().get(key(bucket), bucket.status());
+                    }
+                    return null;
+                }
+            });
+            // The buckets cannot be trusted once the marker is gone (Redis flushed) or moved past the window
+            Long marker = values.get(0) != null ? Long.valueOf(values.get(0).toString()) : null;
+            if (!Objects.equals(marker, countedFrom)) {
+                updateCountedFrom(marker);
+            }
+            if (marker == null || startMinute(buckets.get(0)) < marker) {
+                return countExactly(status, windowStart);
+            }
+            long count = 0;
+            for (int i = 0; i < buckets.size(); i++) {
+                Object value = values.get(i + 1);
+                count += (value != null ? Long.parseLong(value.toString()) : 0) + counters.pending(buckets.get(i));
+            }
+            return count;
+        } catch (RuntimeException e) {
+            log.warn("Funnel counters unavailable, counting {} since {} in the database: {}", status, windowStart,
+                    e.getMessage());
+            return countExactly(status, windowStart);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startCounting() {
+        loadCountedFrom();
+    }
+
+    @Scheduled(initialDelayString = "#{@funnelProperties.flushInterval.toMillis()}",
+            fixedDelayString = "#{@funnelProperties.flushInterval.toMillis()}")
+    public void scheduledFlush() {
+        // Re-created after a Redis flush, from which point the buckets are complete again
+        loadCountedFrom();
+        flush();
+    }
+
+    @Scheduled(initialDelayString = "#{@funnelProperties.reconcileInterval.toMillis()}",
+            fixedDelayString = "#{@funnelProperties.reconcileInterval.toMillis()}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Funnel counter reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuilds the minute and hour buckets of the applications created in the
+     * reconcile window from t_loan_application, replacing whatever Redis holds
+     * for them, and marks the counters complete from the start of the window.
+     * Repairs counts lost by an instance that stopped before its last flush or by
+     * evicted keys. Changes flushed by other instances while the rebuild runs may
+     * be overwritten or counted twice until the next rebuild. Only one instance
+     * rebuilds per interval.
+     */
+    public void reconcile() {
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(properties.getKeyPrefix() + ":reconcile",
+                String.valueOf(clock.millis()), properties.getReconcileInterval());
+        if (!Boolean.TRUE.equals(claimed)) {
+            return;
+        }
+        // Counts of this instance are in the database already; write them now so they are not added again later
+        flush();
+
+        Instant now = clock.instant();
+        long nowMinute = epochMinute(now);
+        long fromMinute = Math.floorDiv(nowMinute - properties.getReconcileWindow().toMinutes(), 60) * 60;
+        FunnelCounters actual = new FunnelCounters();
+        for (ApplicationSnapshot application : loanApplicationRepository.findSnapshotsCreatedBetween(
+                Instant.ofEpochSecond(fromMinute * 60), now)) {
+            actual.add(epochMinute(application.createdAt()), application.status().name(), 1);
+        }
+
+        // Every bucket of the window gets every status, so counts that dropped to zero are reset as well
+        Map<Bucket, Long> rebuilt = new LinkedHashMap<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            for (long minute = fromMinute; minute <= nowMinute; minute++) {
+                rebuilt.put(new Bucket(Resolution.MINUTE, minute, status.name()), 0L);
+            }
+            for (long hour = fromMinute / 60; hour <= Math.floorDiv(nowMinute, 60); hour++) {
+                rebuilt.put(new Bucket(Resolution.HOUR, hour, status.name()), 0L);
+            }
+        }
+        actual.drain().forEach(delta -> rebuilt.put(delta.bucket(), delta.count()));
+        Map<String, Map<String, String>> hashes = new LinkedHashMap<>();
+        Map<String, Instant> expiries = new HashMap<>();
+        rebuilt.forEach((bucket, count) -> {
+            hashes.computeIfAbsent(key(bucket), key -> new HashMap<>()).put(bucket.status(), String.valueOf(count));
+            expiries.putIfAbsent(key(bucket), expiry(bucket));
+        });
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                hashes.forEach((key, fields) -> {
+                    redis.opsForHash().putAll(key, fields);
+                    redis.expireAt(key, Date.from(expiries.get(key)));
+                });
+                return null;
+            }
+        });
+
+        String marker = redisTemplate.opsForValue().get(countedFromKey());
+        if (marker == null || Long.parseLong(marker) > fromMinute) {
+            redisTemplate.opsForValue().set(countedFromKey(), String.valueOf(fromMinute));
+            updateCountedFrom(fromMinute);
+        }
+        log.debug("Rebuilt {} funnel counter buckets from {}", hashes.size(), Instant.ofEpochSecond(fromMinute * 60));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Adds the counts accumulated since the last flush to the Redis hashes. They
+     * are kept for the next flush when Redis cannot be reached.
+     */
+    public void flush() {
+        Instant now = clock.instant();
+        long oldestMinute = epochMinute(now) - properties.getMinuteRetention().toMinutes();
+        long oldestHour = Math.floorDiv(epochMinute(now) - properties.getHourRetention().toMinutes(), 60);
+        // Buckets past their retention have expired in Redis and are no longer read
+        List<Delta> deltas = counters.drain().stream()
+                .filter(delta -> delta.bucket().index() >= (delta.bucket().resolution() == Resolution.MINUTE
+                        ? oldestMinute : oldestHour))
+                .toList();
+        counters.evictBefore(oldestMinute, oldestHour);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> redis = (RedisOperations<String, String>) operations;
+                    for (Delta delta : deltas) {
+                        String key = key(delta.bucket());
+                        redis.opsForHash().increment(key, delta.bucket().status(), delta.count());
+                        redis.expireAt(key, Date.from(expiry(delta.bucket())));
+                    }
+                    return null;
+                }
+            });
+            log.debug("Flushed {} funnel counter deltas", deltas.size());
+        } catch (RuntimeException e) {
+            counters.restore(deltas);
+            log.warn("Could not flush {} funnel counter deltas, keeping them: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void loadCountedFrom() {
+        try {
+            // Applications created earlier in the current minute may have been missed
+            redisTemplate.opsForValue().setIfAbsent(countedFromKey(), String.valueOf(epochMinute(clock.instant()) + 1));
+            String value = redisTemplate.opsForValue().get(countedFromKey());
+            Long marker = value != null ? Long.valueOf(value) : null;
+            if (!Objects.equals(marker, countedFromMinute)) {
+                updateCountedFrom(marker);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not read the funnel counter start from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void updateCountedFrom(Long minute) {
+        countedFromMinute = minute;
+        if (minute != null) {
+            log.info("Funnel counters are complete from {}", Instant.ofEpochSecond(minute * 60));
+        } else {
+            log.warn("Funnel counter start is missing in Redis, counting in the database until it is set again");
+        }
+    }
+
+    private String countedFromKey() {
+        return properties.getKeyPrefix() + ":counted-from";
+    }
+
+    private long countExactly(ApplicationStatus status, Instant since) {
+        return loanApplicationRepository.countByStatusCodeSinceDate(status, since);
+    }
+
+    private String key(Bucket bucket) {
+        return properties.getKeyPrefix() + (bucket.resolution() == Resolution.MINUTE ? ":m:" : ":h:")
+                + bucket.index();
+    }
+
+    private static long startMinute(Bucket bucket) {
+        return bucket.resolution() == Resolution.MINUTE ? bucket.index() : bucket.index() * 60;
+    }
+
+    private Instant expiry(Bucket bucket) {
+        return bucket.resolution() == Resolution.MINUTE
+                ? Instant.ofEpochSecond((bucket.index() + 1) * 60).plus(properties.getMinuteRetention())
+                : Instant.ofEpochSecond((bucket.index() + 1) * 3_600).plus(properties.getHourRetention());
+    }
+
+    private static long epochMinute(Instant instant) {
+        return Math.floorDiv(instant.getEpochSecond(), 60);
+    }
+
+    /**
+     * Runs the update once the surrounding transaction commits, so rolled back
+     * changes are never counted; immediately when there is no transaction.
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+}
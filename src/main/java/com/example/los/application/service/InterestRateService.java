@@ -0,0 +1,87 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.pricing.InterestRateIndex;
+import com.example.los.application.pricing.ResolvedInterestRate;
+import com.example.los.infrastructure.repository.InterestRateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves product interest rates from an in-memory {@link InterestRateIndex}.
+ *
+ * Lookups never touch the database. The index is rebuilt from cfg_interest_rate
+ * on startup, on a fixed schedule and on {@link #reload()}, and published with a
+ * single volatile write, so readers always see either the old or the new
+ * configuration in full.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InterestRateService {
+
+    private final InterestRateRepository interestRateRepository;
+
+    private volatile InterestRateIndex index;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "#{@pricingProperties.refreshInterval.toMillis()}",
+            fixedDelayString = "#{@pricingProperties.refreshInterval.toMillis()}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * Rebuild the index from the database and swap it in. Call after changing cfg_interest_rate.
+     */
+    public synchronized InterestRateIndex reload() {
+        InterestRateIndex rebuilt = InterestRateIndex.build(interestRateRepository.findAll());
+        InterestRateIndex previous = index;
+        index = rebuilt;
+        if (previous == null || previous.getRateCount() != rebuilt.getRateCount()) {
+            log.info("Interest rate index loaded: {} rates for {} products",
+                    rebuilt.getRateCount(), rebuilt.getProductCount());
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Rate configured for a product, tenure and date, if any.
+     */
+    public Optional<ResolvedInterestRate> resolve(Long productId, int tenureMonths, LocalDate date) {
+        return currentIndex().resolve(productId, tenureMonths, date);
+    }
+
+    /**
+     * Annual rate (base rate + risk premium) for a product and tenure on the given date.
+     */
+    public BigDecimal getAnnualRate(Long productId, int tenureMonths, LocalDate date) {
+        return resolve(productId, tenureMonths, date)
+                .map(ResolvedInterestRate::annualRate)
+                .orElseThrow(() -> new IllegalArgumentException(String.format(
+                        "No interest rate configured for product %d, tenure %d months on %s",
+                        productId, tenureMonths, date)));
+    }
+
+    private InterestRateIndex currentIndex() {
+        InterestRateIndex current = index;
+        if (current == null) {
+            // First lookup before the startup load finished
+            current = reload();
+        }
+        return current;
+    }
+}
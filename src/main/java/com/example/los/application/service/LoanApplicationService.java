@@ -2,20 +2,36 @@ package com.example.los.application.service;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.los.application.dto.LoanApplicationBulkRequest;
+import com.example.los.application.dto.LoanApplicationBulkResponse;
+import com.example.los.application.dto.LoanApplicationFilter;
+import com.example.los.application.dto.LoanApplicationPage;
 import com.example.los.application.dto.LoanApplicationRequest;
 import com.example.los.application.dto.LoanApplicationResponse;
+import com.example.los.application.paging.KeysetCursor;
+import com.example.los.application.workflow.TransitionOutcome;
 import com.example.los.domain.entity.MProduct;
 import com.example.los.domain.entity.TCustomer;
 import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
 import com.example.los.infrastructure.repository.CustomerRepository;
+import com.example.los.infrastructure.repository.LoanApplicationQueryRepository;
+import com.example.los.infrastructure.repository.LoanApplicationQueryRepository.ApplicationSummary;
+import com.example.los.infrastructure.repository.LoanApplicationQueryRepository.ListingFilter;
 import com.example.los.infrastructure.repository.LoanApplicationRepository;
 import com.example.los.infrastructure.repository.ProductRepository;
 
@@ -28,8 +44,16 @@ import lombok.extern.slf4j.Slf4j;
 public class LoanApplicationService {
     
     private final LoanApplicationRepository loanApplicationRepository;
+    private final LoanApplicationQueryRepository loanApplicationQueryRepository;
     private final CustomerRepository customerRepository;
     private final ProductRepository productRepository;
+    private final InterestRateService interestRateService;
+    private final FeeService feeService;
+    private final ApplicationNumberService applicationNumberService;
+    private final StatusTransitionService statusTransitionService;
+    private final ApplicationAggregateService applicationAggregateService;
+    private final FunnelCounterService funnelCounterService;
+    private final LoanApplicationProperties loanApplicationProperties;
     
     @Transactional
     public LoanApplicationResponse createLoanApplication(LoanApplicationRequest request) {
@@ -43,36 +67,102 @@ public class LoanApplicationService {
         MProduct product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("Product not found with ID: " + request.getProductId()));
         
-        if (!"ACTIVE".equals(product.getStatus())) {
-            throw new IllegalArgumentException("Product is not active: " + product.getProductCode());
-        }
-        
-        // Validate loan amount is within product limits
-        BigDecimal appliedAmount = request.getAppliedAmount();
-        if (appliedAmount.compareTo(product.getMinAmount()) < 0 || 
-            appliedAmount.compareTo(product.getMaxAmount()) > 0) {
-            throw new IllegalArgumentException(
-                String.format("Applied amount %.2f is outside product limits [%.2f - %.2f]", 
-                    appliedAmount, product.getMinAmount(), product.getMaxAmount()));
-        }
-        
-        // Create loan application
-        TLoanApplication loanApplication = new TLoanApplication();
-        loanApplication.setCustomerId(customer.getId());
-        loanApplication.setProductId(product.getId());
-        loanApplication.setApplicationNo(generateApplicationNumber());
-        loanApplication.setLoanAmount(appliedAmount);
-        loanApplication.setTenureMonth(request.getLoanTermMonths());
-        loanApplication.setStatusCode("DRAFT");
-        loanApplication.setCreatedAt(Instant.now());
+        TLoanApplication loanApplication = newApplication(request, customer, product, LocalDate.now());
         
         // Save loan application
         TLoanApplication savedApplication = loanApplicationRepository.save(loanApplication);
+        applicationAggregateService.recordCreated(List.of(savedApplication));
+        funnelCounterService.recordCreated(List.of(savedApplication));
         log.info("Loan application created with ID: {}", savedApplication.getId());
         
         return mapToResponse(savedApplication);
     }
     
+    /**
+     * Creates many applications in one transaction. Customers and products are
+     * loaded with one IN query each, and valid items are inserted together so
+     * their ids come from the pooled sequence and the inserts go out as JDBC
+     * batches. Invalid items are reported individually instead of failing the batch.
+     */
+    @Transactional
+    public LoanApplicationBulkResponse createLoanApplications(LoanApplicationBulkRequest request) {
+        List<LoanApplicationRequest> items = request.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one item is required");
+        }
+        if (items.size() > loanApplicationProperties.getMaxBulkSize()) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch of %d items exceeds the limit of %d", items.size(), loanApplicationProperties.getMaxBulkSize()));
+        }
+        
+        long start = System.nanoTime();
+        Set<Long> customerIds = new HashSet<>();
+        Set<Long> productIds = new HashSet<>();
+        for (LoanApplicationRequest item : items) {
+            if (item.getCustomerId() != null) {
+                customerIds.add(item.getCustomerId());
+            }
+            if (item.getProductId() != null) {
+                productIds.add(item.getProductId());
+            }
+        }
+        Map<Long, TCustomer> customers = customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(TCustomer::getId, Function.identity()));
+        Map<Long, MProduct> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(MProduct::getId, Function.identity()));
+        
+        LocalDate today = LocalDate.now();
+        LoanApplicationResponse[] results = new LoanApplicationResponse[items.size()];
+        List<TLoanApplication> accepted = new ArrayList<>(items.size());
+        List<Integer> acceptedPositions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            LoanApplicationRequest item = items.get(i);
+            try {
+                if (item.getCustomerId() == null || item.getProductId() == null || item.getAppliedAmount() == null) {
+                    throw new IllegalArgumentException("Customer, product and applied amount are required");
+                }
+                TCustomer customer = customers.get(item.getCustomerId());
+                if (customer == null) {
+                    throw new IllegalArgumentException("Customer not found with ID: " + item.getCustomerId());
+                }
+                MProduct product = products.get(item.getProductId());
+                if (product == null) {
+                    throw new IllegalArgumentException("Product not found with ID: " + item.getProductId());
+                }
+                accepted.add(newApplication(item, customer, product, today));
+                acceptedPositions.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = LoanApplicationResponse.builder()
+                        .customerId(item.getCustomerId())
+                        .productId(item.getProductId())
+                        .appliedAmount(item.getAppliedAmount())
+                        .remarks(e.getMessage())
+                        .build();
+            }
+        }
+        
+        List<TLoanApplication> saved = loanApplicationRepository.saveAll(accepted);
+        // Send the pending inserts now so a database failure surfaces here, not at commit
+        loanApplicationRepository.flush();
+        applicationAggregateService.recordCreated(saved);
+        funnelCounterService.recordCreated(saved);
+        for (int i = 0; i < saved.size(); i++) {
+            results[acceptedPositions.get(i)] = mapToResponse(saved.get(i));
+        }
+        
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Bulk intake created {} of {} loan applications in {} ms",
+                saved.size(), items.size(), elapsedMillis);
+        
+        return LoanApplicationBulkResponse.builder()
+                .itemCount(items.size())
+                .createdCount(saved.size())
+                .failedCount(items.size() - saved.size())
+                .elapsedMillis(elapsedMillis)
+                .results(Arrays.asList(results))
+                .build();
+    }
+    
     @Transactional(readOnly = true)
     public LoanApplicationResponse getLoanApplicationById(Long id) {
         log.debug("Fetching loan application with ID: {}", id);
@@ -83,48 +173,65 @@ public class LoanApplicationService {
         return mapToResponse(loanApplication);
     }
     
+    /**
+     * One page of applications matching the filter, newest first. Pass the
+     * previous page's nextCursor to continue; null starts from the newest.
+     */
     @Transactional(readOnly = true)
-    public List<LoanApplicationResponse> getLoanApplicationsByCustomerId(Long customerId) {
-        log.debug("Fetching loan applications for customer: {}", customerId);
-        
-        List<TLoanApplication> applications = loanApplicationRepository.findByCustomerId(customerId);
-        
-        return applications.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
-    }
-    
-    @Transactional(readOnly = true)
-    public List<LoanApplicationResponse> getLoanApplicationsByStatus(String statusCode) {
-        log.debug("Fetching loan applications with status: {}", statusCode);
-        
-        List<TLoanApplication> applications = loanApplicationRepository.findByStatusCode(statusCode);
+    public LoanApplicationPage listLoanApplications(LoanApplicationFilter filter, String cursor, Integer size) {
+        int pageSize = size != null ? size : loanApplicationProperties.getDefaultPageSize();
+        if (pageSize <= 0 || pageSize > loanApplicationProperties.getMaxPageSize()) {
+            throw new IllegalArgumentException(
+                    "Page size must be between 1 and " + loanApplicationProperties.getMaxPageSize());
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount().compareTo(filter.getMaxAmount()) > 0) {
+            throw new IllegalArgumentException("Minimum amount cannot exceed maximum amount");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("Created-from must be before created-to");
+        }
+        log.debug("Listing loan applications with {} after cursor {}", filter, cursor);
+        
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        
+        String statusCode = filter.getStatusCode() != null
+                ? ApplicationStatus.fromCode(filter.getStatusCode()).name()
+                : null;
+        
+        // One extra row tells whether another page follows
+        List<ApplicationSummary> rows = loanApplicationQueryRepository.findPage(new ListingFilter(
+                statusCode, filter.getCustomerId(), filter.getBranchId(), filter.getProductId(),
+                filter.getMinAmount(), filter.getMaxAmount(), filter.getCreatedFrom(), filter.getCreatedTo()),
+                after != null ? after.createdAt() : null, after != null ? after.id() : null, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicationSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationSummary last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.createdAt(), last.id()).encode();
+        }
         
-        return applications.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return LoanApplicationPage.builder()
+                .items(page.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
     }
     
     @Transactional
     public LoanApplicationResponse updateLoanApplicationStatus(Long id, String statusCode, String remarks) {
         log.info("Updating loan application {} status to: {}", id, statusCode);
         
-        TLoanApplication loanApplication = loanApplicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + id));
-        
-        // Validate status transition
-        if (!isValidStatusTransition(loanApplication.getStatusCode(), statusCode)) {
-            throw new IllegalArgumentException(
-                String.format("Invalid status transition from %s to %s", 
-                    loanApplication.getStatusCode(), statusCode));
-        }
-        
-        loanApplication.setStatusCode(statusCode);
-        
-        TLoanApplication updatedApplication = loanApplicationRepository.save(loanApplication);
+        TransitionOutcome<ApplicationStatus> outcome = statusTransitionService.transitionApplication(id,
+                ApplicationStatus.fromCode(statusCode));
+        requireApplied(outcome);
         log.info("Loan application {} status updated to: {}", id, statusCode);
         
-        return mapToResponse(updatedApplication);
+        return getLoanApplicationById(id);
     }
     
     @Transactional
@@ -134,10 +241,6 @@ public class LoanApplicationService {
         TLoanApplication loanApplication = loanApplicationRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + id));
         
-        if (!"UNDER_REVIEW".equals(loanApplication.getStatusCode())) {
-            throw new IllegalArgumentException("Loan application must be in UNDER_REVIEW status for approval");
-        }
-        
         // Validate approved amount
         if (approvedAmount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new IllegalArgumentException("Approved amount must be greater than zero");
@@ -147,32 +250,31 @@ public class LoanApplicationService {
             throw new IllegalArgumentException("Approved amount cannot exceed applied amount");
         }
         
-        loanApplication.setStatusCode("APPROVED");
-        loanApplication.setLoanAmount(approvedAmount); // Update with approved amount
-        
-        TLoanApplication updatedApplication = loanApplicationRepository.save(loanApplication);
+        // Update with approved amount in the same conditional update
+        TransitionOutcome<ApplicationStatus> outcome = statusTransitionService.transitionApplication(id,
+                ApplicationStatus.APPROVED, approvedAmount);
+        if (outcome.result() == TransitionOutcome.Result.INVALID_TRANSITION) {
+            throw new IllegalArgumentException("Loan application must be in UNDER_REVIEW status for approval");
+        }
+        requireApplied(outcome);
         log.info("Loan application {} approved with amount: {}", id, approvedAmount);
         
-        return mapToResponse(updatedApplication);
+        return getLoanApplicationById(id);
     }
     
     @Transactional
     public LoanApplicationResponse rejectLoanApplication(Long id, String rejectionReason, String rejectedBy) {
         log.info("Rejecting loan application: {}", id);
         
-        TLoanApplication loanApplication = loanApplicationRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + id));
-        
-        if (!"UNDER_REVIEW".equals(loanApplication.getStatusCode())) {
+        TransitionOutcome<ApplicationStatus> outcome = statusTransitionService.transitionApplication(id,
+                ApplicationStatus.REJECTED);
+        if (outcome.result() == TransitionOutcome.Result.INVALID_TRANSITION) {
             throw new IllegalArgumentException("Loan application must be in UNDER_REVIEW status for rejection");
         }
-        
-        loanApplication.setStatusCode("REJECTED");
-        
-        TLoanApplication updatedApplication = loanApplicationRepository.save(loanApplication);
+        requireApplied(outcome);
         log.info("Loan application {} rejected", id);
         
-        return mapToResponse(updatedApplication);
+        return getLoanApplicationById(id);
     }
     
     @Transactional
@@ -183,58 +285,111 @@ public class LoanApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("Loan application not found with ID: " + id));
         
         // Only allow deletion of DRAFT applications
-        if (!"DRAFT".equals(loanApplication.getStatusCode())) {
+        if (loanApplication.getStatusCode() != ApplicationStatus.DRAFT) {
             throw new IllegalArgumentException("Only DRAFT loan applications can be deleted");
         }
         
         loanApplicationRepository.delete(loanApplication);
+        applicationAggregateService.recordDeleted(loanApplication);
+        funnelCounterService.recordDeleted(loanApplication);
         log.info("Loan application {} deleted", id);
     }
     
-    @Transactional(readOnly = true)
     public BigDecimal calculateTotalApprovedAmountByBranch(Long branchId) {
         log.debug("Calculating total approved amount for branch: {}", branchId);
         
-        Optional<Double> total = loanApplicationRepository.sumApprovedAmountByBranch(branchId);
-        return BigDecimal.valueOf(total.orElse(0.0));
+        return applicationAggregateService.totalAmount(branchId, ApplicationStatus.APPROVED);
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * Applications created since sinceDate, counted from the start of its minute,
+     * that are now in the given status.
+     */
     public long countApplicationsByStatusSince(String statusCode, Instant sinceDate) {
         log.debug("Counting {} applications since: {}", statusCode, sinceDate);
         
-        return loanApplicationRepository.countByStatusCodeSinceDate(statusCode, sinceDate);
+        return funnelCounterService.countSince(ApplicationStatus.fromCode(statusCode), sinceDate);
     }
     
-    private String generateApplicationNumber() {
-        String timestamp = String.valueOf(System.currentTimeMillis());
-        String random = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        return "APP-" + timestamp.substring(timestamp.length() - 6) + "-" + random;
+    /**
+     * Checks the product rules and prices a new DRAFT application. The customer
+     * and product must already have been loaded.
+     */
+    private TLoanApplication newApplication(LoanApplicationRequest request, TCustomer customer, MProduct product,
+                                            LocalDate pricingDate) {
+        if (!"ACTIVE".equals(product.getStatus())) {
+            throw new IllegalArgumentException("Product is not active: " + product.getProductCode());
+        }
+        
+        // Validate loan amount is within product limits
+        BigDecimal appliedAmount = request.getAppliedAmount();
+        if (appliedAmount.compareTo(product.getMinAmount()) < 0 || 
+            appliedAmount.compareTo(product.getMaxAmount()) > 0) {
+            throw new IllegalArgumentException(
+                String.format("Applied amount %.2f is outside product limits [%.2f - %.2f]", 
+                    appliedAmount, product.getMinAmount(), product.getMaxAmount()));
+        }
+        
+        TLoanApplication loanApplication = new TLoanApplication();
+        loanApplication.setCustomerId(customer.getId());
+        loanApplication.setProductId(product.getId());
+        loanApplication.setApplicationNo(applicationNumberService.nextApplicationNumber());
+        loanApplication.setLoanAmount(appliedAmount);
+        loanApplication.setTenureMonth(request.getLoanTermMonths());
+        if (request.getLoanTermMonths() != null) {
+            // Price from cfg_interest_rate when configured; otherwise the product rate applies later
+            interestRateService.resolve(product.getId(), request.getLoanTermMonths(), pricingDate)
+                    .ifPresent(rate -> loanApplication.setInterestRate(rate.annualRate()));
+        }
+        loanApplication.setProcessingFee(feeService.calculateTotalFee(product.getId(), appliedAmount));
+        loanApplication.setStatusCode(ApplicationStatus.DRAFT);
+        loanApplication.setCreatedAt(Instant.now());
+        return loanApplication;
     }
     
-    private boolean isValidStatusTransition(String currentStatus, String newStatus) {
-        // Define valid status transitions
-        switch (currentStatus) {
-            case "DRAFT":
-                return List.of("SUBMITTED", "CANCELLED").contains(newStatus);
-            case "SUBMITTED":
-                return List.of("UNDER_REVIEW", "CANCELLED").contains(newStatus);
-            case "UNDER_REVIEW":
-                return List.of("APPROVED", "REJECTED", "REQUIRES_MORE_INFO").contains(newStatus);
-            case "REQUIRES_MORE_INFO":
-                return List.of("UNDER_REVIEW", "CANCELLED").contains(newStatus);
-            case "APPROVED":
-                return List.of("DISBURSED", "CANCELLED").contains(newStatus);
-            case "DISBURSED":
-                return List.of("ACTIVE", "CANCELLED").contains(newStatus);
-            case "ACTIVE":
-                return List.of("CLOSED", "DEFAULTED").contains(newStatus);
+    /**
+     * Not found and invalid transitions are the caller's error; a conflict means
+     * the application kept changing and the request may be retried.
+     */
+    private void requireApplied(TransitionOutcome<ApplicationStatus> outcome) {
+        switch (outcome.result()) {
+            case APPLIED:
+                return;
+            case NOT_FOUND:
+                throw new IllegalArgumentException("Loan application not found with ID: " + outcome.id());
+            case INVALID_TRANSITION:
+                throw new IllegalArgumentException(
+                    String.format("Invalid status transition from %s to %s", 
+                        outcome.fromStatus(), outcome.toStatus()));
+            case BLOCKED:
+                throw new IllegalArgumentException(
+                    String.format("Status transition from %s to %s refused: %s", 
+                        outcome.fromStatus(), outcome.toStatus(), outcome.reason()));
             default:
-                return false;
+                throw new IllegalStateException(String.format(
+                    "Loan application %d was changed concurrently after %d attempts; retry the request",
+                    outcome.id(), outcome.attempts()));
         }
     }
     
+    private LoanApplicationResponse mapToResponse(ApplicationSummary summary) {
+        return LoanApplicationResponse.builder()
+                .id(summary.id())
+                .customerId(summary.customerId())
+                .productId(summary.productId())
+                .branchId(summary.branchId())
+                .applicationNumber(summary.applicationNo())
+                .appliedAmount(summary.loanAmount())
+                .approvedAmount(summary.loanAmount()) // Using same field for simplicity
+                .loanTermMonths(summary.tenureMonth())
+                .statusCode(summary.statusCode())
+                .statusDescription(ApplicationStatus.describe(summary.statusCode()))
+                .createdAt(summary.createdAt())
+                .build();
+    }
+    
     private LoanApplicationResponse mapToResponse(TLoanApplication loanApplication) {
+        ApplicationStatus status = loanApplication.getStatusCode();
         return LoanApplicationResponse.builder()
                 .id(loanApplication.getId())
                 .customerId(loanApplication.getCustomerId())
@@ -243,26 +398,9 @@ public class LoanApplicationService {
                 .appliedAmount(loanApplication.getLoanAmount())
                 .approvedAmount(loanApplication.getLoanAmount()) // Using same field for simplicity
                 .loanTermMonths(loanApplication.getTenureMonth())
-                .statusCode(loanApplication.getStatusCode())
-                .statusDescription(getStatusDescription(loanApplication.getStatusCode()))
+                .statusCode(status != null ? status.name() : null)
+                .statusDescription(status != null ? status.getDescription() : ApplicationStatus.UNKNOWN_DESCRIPTION)
                 .createdAt(loanApplication.getCreatedAt())
                 .build();
     }
-    
-    private String getStatusDescription(String statusCode) {
-        switch (statusCode) {
-            case "DRAFT": return "Draft - Application being prepared";
-            case "SUBMITTED": return "Submitted - Application submitted for review";
-            case "UNDER_REVIEW": return "Under Review - Being evaluated by loan officer";
-            case "REQUIRES_MORE_INFO": return "Requires More Information - Additional documents needed";
-            case "APPROVED": return "Approved - Loan application approved";
-            case "REJECTED": return "Rejected - Loan application rejected";
-            case "DISBURSED": return "Disbursed - Loan amount disbursed to customer";
-            case "ACTIVE": return "Active - Loan is active and repayments ongoing";
-            case "CLOSED": return "Closed - Loan fully repaid";
-            case "DEFAULTED": return "Defaulted - Loan in default";
-            case "CANCELLED": return "Cancelled - Application cancelled by customer";
-            default: return "Unknown Status";
-        }
-    }
 }
\ No newline at end of file
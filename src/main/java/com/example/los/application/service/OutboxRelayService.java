@@ -0,0 +1,195 @@
+package com.example.los.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.los.infrastructure.config.OutboxProperties;
+import com.example.los.infrastructure.repository.OutboxJdbcRepository;
+import com.example.los.infrastructure.repository.OutboxJdbcRepository.OutboxRecord;
+import com.example.los.infrastructure.repository.OutboxJdbcRepository.SendFailure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes t_outbox_event rows to Kafka.
+ *
+ * Each batch is one transaction: the oldest unlocked events are locked with SKIP
+ * LOCKED, handed to the producer together so it can pack them into a few
+ * requests per partition, and the rows whose sends were acknowledged are deleted.
+ * Unacknowledged rows keep their lock until the transaction ends and are retried
+ * on a later poll, so delivery is at least once. An application with several
+ * events in the batch has them sent one round at a time, and once one of its
+ * sends fails its later events are held back unsent, so no event reaches
+ * consumers ahead of an earlier one that is still pending. An event whose
+ * sends failed max-attempts times is parked: it stays in the table with its last
+ * error and is no longer picked up until its attempts are reset.
+ *
+ * Records are keyed by loan application id, which keeps the events of one
+ * application on one partition. Every record carries its outbox id in the
+ * eventId header; as events may be redelivered, consumers should ignore an
+ * eventId not above the last one they applied for that key.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelayService {
+
+    static final String EVENT_ID_HEADER = "eventId";
+    static final String EVENT_TYPE_HEADER = "eventType";
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionOperations transactionOperations;
+    private final OutboxProperties properties;
+
+    @Scheduled(initialDelayString = "#{@outboxProperties.pollInterval.toMillis()}",
+            fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    public void scheduledRelay() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            relayPending();
+        } catch (RuntimeException e) {
+            log.warn("Outbox relay run failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drains full batches until the outbox is empty, a send fails or the per-run
+     * limit is reached. Returns the number of events published.
+     */
+    public int relayPending() {
+        int published = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            BatchResult result = transactionOperations.execute(status -> relayBatch());
+            if (result == null) {
+                break;
+            }
+            published += result.published();
+            if (result.locked() < properties.getBatchSize() || result.failed() > 0) {
+                break;
+            }
+        }
+        if (published > 0) {
+            log.debug("Relayed {} outbox events", published);
+        }
+        return published;
+    }
+
+    private BatchResult relayBatch() {
+        List<OutboxRecord> events = outboxJdbcRepository.lockNextBatch(properties.getBatchSize(),
+                properties.getMaxAttempts());
+        if (events.isEmpty()) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        List<Long> published = new ArrayList<>(events.size());
+        List<SendFailure> failures = new ArrayList<>();
+        List<Long> parked = new ArrayList<>();
+        Set<Long> failedApplications = new HashSet<>();
+        int held = 0;
+        for (List<OutboxRecord> round : rounds(events)) {
+            List<OutboxRecord> sending = new ArrayList<>(round.size());
+            for (OutboxRecord event : round) {
+                if (failedApplications.contains(event.aggregateId())) {
+                    held++;
+                } else {
+                    sending.add(event);
+                }
+            }
+            if (sending.isEmpty()) {
+                continue;
+            }
+
+            List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(sending.size());
+            for (OutboxRecord event : sending) {
+                sends.add(kafkaTemplate.send(toRecord(event)));
+            }
+            // Everything is queued; send the partly filled batches now instead of after linger.ms
+            kafkaTemplate.flush();
+
+            long deadline = System.nanoTime() + properties.getSendTimeout().toNanos();
+            for (int i = 0; i < sending.size(); i++) {
+                OutboxRecord event = sending.get(i);
+                String error;
+                try {
+                    sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    published.add(event.id());
+                    continue;
+                } catch (ExecutionException e) {
+                    error = String.valueOf(e.getCause());
+                } catch (TimeoutException e) {
+                    error = "No acknowledgement within " + properties.getSendTimeout();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while relaying outbox events", e);
+                }
+                failures.add(new SendFailure(event.id(), error));
+                failedApplications.add(event.aggregateId());
+                // This failure is recorded as the last allowed attempt; lockNextBatch skips the event from now on
+                if (event.attempts() + 1 >= properties.getMaxAttempts()) {
+                    parked.add(event.id());
+                }
+            }
+        }
+
+        outboxJdbcRepository.deleteByIds(published);
+        outboxJdbcRepository.recordFailures(failures);
+        if (!failures.isEmpty()) {
+            log.warn("{} of {} outbox events were not acknowledged, {} later events of the same applications "
+                    + "held back, first: {}", failures.size(), events.size(), held, failures.get(0).error());
+        }
+        if (!parked.isEmpty()) {
+            log.error("Parked outbox events {} after {} failed sends; reset their attempts to retry them", parked,
+                    properties.getMaxAttempts());
+        }
+        return new BatchResult(events.size(), published.size(), failures.size());
+    }
+
+    /**
+     * Splits the batch so that each round holds at most one event per application, in
+     * outbox order. Usually an application has a single event in the batch and
+     * everything goes out in the first round.
+     */
+    private static List<List<OutboxRecord>> rounds(List<OutboxRecord> events) {
+        List<List<OutboxRecord>> rounds = new ArrayList<>();
+        Map<Long, Integer> sentPerApplication = new HashMap<>();
+        for (OutboxRecord event : events) {
+            int round = sentPerApplication.merge(event.aggregateId(), 1, Integer::sum) - 1;
+            if (round == rounds.size()) {
+                rounds.add(new ArrayList<>());
+            }
+            rounds.get(round).add(event);
+        }
+        return rounds;
+    }
+
+    private static ProducerRecord<String, String> toRecord(OutboxRecord event) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(event.topic(),
+                String.valueOf(event.aggregateId()), event.payload());
+        record.headers().add(EVENT_ID_HEADER, String.valueOf(event.id()).getBytes(StandardCharsets.UTF_8));
+        record.headers().add(EVENT_TYPE_HEADER, event.eventType().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private record BatchResult(int locked, int published, int failed) {
+    }
+}
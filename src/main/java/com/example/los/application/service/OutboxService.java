@@ -0,0 +1,82 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.ApprovalDecision;
+import com.example.los.application.workflow.ApprovalDecisionListener;
+import com.example.los.application.workflow.TransitionListener;
+import com.example.los.domain.entity.TOutboxEvent;
+import com.example.los.infrastructure.config.OutboxProperties;
+import com.example.los.infrastructure.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Records application status changes and approval decisions in t_outbox_event.
+ *
+ * Rows are written in the transaction that made the change, so an event exists
+ * exactly when its change was committed; {@link OutboxRelayService} publishes
+ * them afterwards. Every event is keyed by its loan application id and carries one
+ * of the payload records below as flat JSON.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService implements TransitionListener, ApprovalDecisionListener {
+
+    public static final String APPLICATION_STATUS_CHANGED = "APPLICATION_STATUS_CHANGED";
+    public static final String APPROVAL_DECIDED = "APPROVAL_DECIDED";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onTransition(ApplicationTransition transition) {
+        Instant now = Instant.now();
+        String payload = objectMapper.writeValueAsString(new ApplicationStatusChanged(APPLICATION_STATUS_CHANGED,
+                transition.applicationId(), transition.from().name(), transition.to().name(), transition.branchId(),
+                transition.productId(), transition.toAmount(), now.toString()));
+        record(transition.applicationId(), APPLICATION_STATUS_CHANGED, properties.getApplicationTopic(), payload, now);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onDecision(ApprovalDecision decision) {
+        if (decision.loanApplicationId() == null) {
+            throw new IllegalStateException("Approval " + decision.approvalId() + " has no loan application");
+        }
+        String payload = objectMapper.writeValueAsString(new ApprovalDecided(APPROVAL_DECIDED,
+                decision.loanApplicationId(), decision.approvalId(), decision.approvalLevel(),
+                decision.decision().name(), decision.decidedBy(), decision.decidedAt().toString(),
+                decision.remarks()));
+        record(decision.loanApplicationId(), APPROVAL_DECIDED, properties.getApprovalTopic(), payload,
+                decision.decidedAt());
+    }
+
+    private void record(Long aggregateId, String eventType, String topic, String payload, Instant createdAt) {
+        TOutboxEvent event = new TOutboxEvent();
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        event.setTopic(topic);
+        event.setPayload(payload);
+        event.setCreatedAt(createdAt);
+        event.setAttempts(0);
+        outboxEventRepository.save(event);
+    }
+
+    record ApplicationStatusChanged(String type, Long loanApplicationId, String fromStatus, String toStatus,
+                                    Long branchId, Long productId, BigDecimal loanAmount, String occurredAt) {
+    }
+
+    record ApprovalDecided(String type, Long loanApplicationId, Long approvalId, Integer approvalLevel,
+                           String decision, String decidedBy, String decidedAt, String remarks) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.dto.PenaltySweepResult;
+import com.example.los.domain.entity.TBatchCheckpoint;
+import com.example.los.infrastructure.config.PenaltySweepProperties;
+import com.example.los.infrastructure.repository.BatchCheckpointRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository.OverdueInstallment;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository.PenaltyUpdate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Nightly late-payment penalty sweep over t_loan_repayment_schedule.
+ *
+ * Overdue installments are read in id order one keyset page at a time. Each page
+ * is split by loan application id across a fixed set of workers, so all
+ * installments of a loan are handled by the same thread, and every worker writes
+ * its penalties back with batched updates while the next page is being read.
+ *
+ * The penalty is recomputed from the run date rather than accumulated, so
+ * replaying a page is harmless. After each page the last id is checkpointed per
+ * run date; a rerun on the same day resumes from there, and a completed run is
+ * not repeated.
+ *
+ * Every instance fires the schedule, so a run is first claimed with a conditional
+ * update on its checkpoint. Only the owner writes progress, which doubles as its
+ * heartbeat; a run whose owner stops checkpointing for the claim timeout is
+ * taken over and resumed by the next instance to start the sweep.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PenaltySweepService {
+
+    static final String JOB_NAME = "LATE_PAYMENT_PENALTY_SWEEP";
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_FAILED = "FAILED";
+
+    private final RepaymentScheduleJdbcRepository repaymentScheduleJdbcRepository;
+    private final BatchCheckpointRepository batchCheckpointRepository;
+    private final CalculationService calculationService;
+    private final PenaltySweepProperties properties;
+
+    @Scheduled(cron = "${app.penalty-sweep.cron:0 30 1 * * *}")
+    public void scheduledSweep() {
+        if (!properties.isEnabled()) {
+            log.debug("Penalty sweep is disabled");
+            return;
+        }
+        runSweep(LocalDate.now());
+    }
+
+    public PenaltySweepResult runSweep(LocalDate runDate) {
+        String ownerId = UUID.randomUUID().toString();
+        Instant now = Instant.now();
+        batchCheckpointRepository.insertIfAbsent(JOB_NAME, runDate, now);
+        boolean claimed = batchCheckpointRepository.claim(JOB_NAME, runDate, ownerId, STATUS_RUNNING,
+                STATUS_COMPLETED, now, now.minus(properties.getClaimTimeout())) == 1;
+        TBatchCheckpoint checkpoint = batchCheckpointRepository.findByJobNameAndRunDate(JOB_NAME, runDate)
+                .orElseThrow(() -> new IllegalStateException("Penalty sweep checkpoint missing for " + runDate));
+
+        if (!claimed) {
+            if (STATUS_COMPLETED.equals(checkpoint.getStatusCode())) {
+                log.info("Penalty sweep for {} already completed, skipping", runDate);
+            } else {
+                log.info("Penalty sweep for {} is being run by {}, skipping", runDate, checkpoint.getOwnerId());
+            }
+            return PenaltySweepResult.builder()
+                    .runDate(runDate)
+                    .status(checkpoint.getStatusCode())
+                    .resumedFromId(checkpoint.getLastProcessedId())
+                    .build();
+        }
+
+        long resumeFromId = checkpoint.getLastProcessedId() != null ? checkpoint.getLastProcessedId() : 0L;
+        long previouslyScanned = checkpoint.getProcessedCount() != null ? checkpoint.getProcessedCount() : 0L;
+        log.info("Starting penalty sweep for {} from id {} with {} workers as {}",
+                runDate, resumeFromId, properties.getWorkers(), ownerId);
+
+        LocalDate dueBefore = runDate.minusDays(properties.getGraceDays());
+        int workers = Math.max(1, properties.getWorkers());
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+
+        long start = System.nanoTime();
+        long lastId = resumeFromId;
+        long scanned = 0;
+        long updated = 0;
+        int pages = 0;
+        try {
+            List<OverdueInstallment> page = repaymentScheduleJdbcRepository
+                    .findOverduePage(lastId, dueBefore, properties.getPageSize());
+            while (!page.isEmpty()) {
+                List<Future<Integer>> writes = submitPartitions(executor, page, runDate, workers);
+                long pageLastId = page.get(page.size() - 1).id();
+
+                // Read ahead while the workers are writing
+                List<OverdueInstallment> next = page.size() < properties.getPageSize()
+                        ? List.of()
+                        : repaymentScheduleJdbcRepository.findOverduePage(pageLastId, dueBefore, properties.getPageSize());
+
+                for (Future<Integer> write : writes) {
+                    updated += write.get();
+                }
+                scanned += page.size();
+                pages++;
+                lastId = pageLastId;
+
+                if (batchCheckpointRepository.recordProgress(checkpoint.getId(), ownerId, lastId,
+                        previouslyScanned + scanned, Instant.now()) == 0) {
+                    throw new IllegalStateException("Penalty sweep for " + runDate + " was taken over by another instance");
+                }
+                page = next;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            release(checkpoint, ownerId, STATUS_FAILED);
+            throw new IllegalStateException("Penalty sweep interrupted after id " + lastId, e);
+        } catch (ExecutionException | RuntimeException e) {
+            release(checkpoint, ownerId, STATUS_FAILED);
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            log.error("Penalty sweep for {} failed after id {}: {}", runDate, lastId, cause.getMessage());
+            throw new IllegalStateException("Penalty sweep failed after id " + lastId, cause);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        release(checkpoint, ownerId, STATUS_COMPLETED);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        double rowsPerSecond = elapsedMillis > 0 ? scanned * 1000.0 / elapsedMillis : scanned;
+        log.info("Penalty sweep for {} completed: {} installments scanned, {} updated, {} pages in {} ms ({} rows/sec)",
+                runDate, scanned, updated, pages, elapsedMillis, String.format("%.0f", rowsPerSecond));
+
+        return PenaltySweepResult.builder()
+                .runDate(runDate)
+                .status(STATUS_COMPLETED)
+                .resumedFromId(resumeFromId)
+                .rowsScanned(scanned)
+                .rowsUpdated(updated)
+                .pages(pages)
+                .elapsedMillis(elapsedMillis)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    private List<Future<Integer>> submitPartitions(ExecutorService executor, List<OverdueInstallment> page,
+                                                   LocalDate runDate, int workers) {
+        List<List<OverdueInstallment>> partitions = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (OverdueInstallment installment : page) {
+            partitions.get(Math.floorMod(Long.hashCode(installment.loanApplicationId()), workers)).add(installment);
+        }
+
+        List<Future<Integer>> futures = new ArrayList<>(workers);
+        for (List<OverdueInstallment> partition : partitions) {
+            if (!partition.isEmpty()) {
+                futures.add(executor.submit(() -> applyPenalties(partition, runDate)));
+            }
+        }
+        return futures;
+    }
+
+    private int applyPenalties(List<OverdueInstallment> installments, LocalDate runDate) {
+        List<PenaltyUpdate> updates = new ArrayList<>(installments.size());
+        for (OverdueInstallment installment : installments) {
+            int daysLate = (int) ChronoUnit.DAYS.between(installment.dueDate(), runDate);
+            BigDecimal penalty = calculationService.calculateLatePaymentPenalty(installment.outstanding(),
+                    properties.getFixedPenalty(), properties.getPercentagePenalty(), daysLate);
+            updates.add(new PenaltyUpdate(installment.id(), penalty.setScale(2, RoundingMode.HALF_UP)));
+        }
+        return repaymentScheduleJdbcRepository.updatePenalties(updates, properties.getBatchSize());
+    }
+
+    private void release(TBatchCheckpoint checkpoint, String ownerId, String statusCode) {
+        if (batchCheckpointRepository.release(checkpoint.getId(), ownerId, statusCode, Instant.now()) == 0) {
+            log.warn("Penalty sweep checkpoint {} is no longer owned by {}; {} not recorded",
+                    checkpoint.getId(), ownerId, statusCode);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.CashFlowProjection;
+import com.example.los.application.dto.CashFlowSeries;
+import com.example.los.application.dto.PortfolioProjectionResponse;
+import com.example.los.infrastructure.config.PortfolioProperties;
+import com.example.los.infrastructure.repository.PortfolioJdbcRepository;
+import com.example.los.infrastructure.repository.PortfolioJdbcRepository.ActiveLoan;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Projects expected monthly inflows of every ACTIVE loan.
+ *
+ * The request thread reads active loans from a JDBC cursor and hands them to
+ * workers in chunks; at most two chunks per worker are in flight, so a slow
+ * consumer throttles the cursor rather than buffering the portfolio. Each chunk
+ * is amortized on the fixed-point engine into its own {@link CashFlowProjection}
+ * and merged into the result when done.
+ */
+@Service
+@Slf4j
+public class PortfolioProjectionService {
+
+    private final PortfolioJdbcRepository portfolioJdbcRepository;
+    private final AmortizationEngine amortizationEngine;
+    private final PortfolioProperties properties;
+    private final ExecutorService executor;
+    private final int parallelism;
+
+    public PortfolioProjectionService(PortfolioJdbcRepository portfolioJdbcRepository,
+                                      AmortizationEngine amortizationEngine, PortfolioProperties properties) {
+        this.portfolioJdbcRepository = portfolioJdbcRepository;
+        this.amortizationEngine = amortizationEngine;
+        this.properties = properties;
+        this.parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        log.info("Portfolio projection pool started with parallelism {}", parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Transactional(readOnly = true)
+    public PortfolioProjectionResponse projectActivePortfolio(int horizonMonths) {
+        if (horizonMonths <= 0 || horizonMonths > properties.getMaxHorizonMonths()) {
+            throw new IllegalArgumentException(
+                    "Horizon must be between 1 and " + properties.getMaxHorizonMonths() + " months");
+        }
+
+        long start = System.nanoTime();
+        YearMonth startMonth = YearMonth.now();
+        CashFlowProjection result = new CashFlowProjection(startMonth, horizonMonths);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        List<Future<?>> chunks = new ArrayList<>();
+        List<ActiveLoan> chunk = new ArrayList<>(properties.getChunkSize());
+
+        try {
+            portfolioJdbcRepository.streamActiveLoans(properties.getFetchSize(), loan -> {
+                chunk.add(loan);
+                if (chunk.size() >= properties.getChunkSize()) {
+                    chunks.add(submit(List.copyOf(chunk), startMonth, horizonMonths, result, inFlight));
+                    chunk.clear();
+                }
+            });
+            if (!chunk.isEmpty()) {
+                chunks.add(submit(List.copyOf(chunk), startMonth, horizonMonths, result, inFlight));
+            }
+            for (Future<?> future : chunks) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            chunks.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Portfolio projection interrupted", e);
+        } catch (ExecutionException e) {
+            chunks.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("Portfolio projection failed", e.getCause());
+        }
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Projected {} active loans over {} months in {} ms ({} skipped)",
+                result.getLoanCount(), horizonMonths, elapsedMillis, result.getSkippedLoanCount());
+        return toResponse(result, elapsedMillis);
+    }
+
+    private Future<?> submit(List<ActiveLoan> loans, YearMonth startMonth, int horizonMonths,
+                             CashFlowProjection result, Semaphore inFlight) {
+        inFlight.acquireUninterruptibly();
+        try {
+            return executor.submit(() -> {
+                try {
+                    CashFlowProjection partial = project(loans, startMonth, horizonMonths);
+                    synchronized (result) {
+                        result.merge(partial);
+                    }
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    private CashFlowProjection project(List<ActiveLoan> loans, YearMonth startMonth, int horizonMonths) {
+        CashFlowProjection projection = new CashFlowProjection(startMonth, horizonMonths);
+        for (ActiveLoan loan : loans) {
+            BigDecimal amount = loan.loanAmount();
+            BigDecimal rate = loan.annualInterestRate();
+            if (amount == null || amount.signum() <= 0 || !amortizationEngine.isWholeCents(amount)
+                    || rate == null || rate.signum() < 0 || loan.tenureMonths() <= 0 || loan.startDate() == null) {
+                projection.skipLoan();
+                continue;
+            }
+            // First installment falls due one month after disbursement
+            projection.addLoan(amortizationEngine, loan.branchId(), loan.productId(),
+                    amortizationEngine.toCents(amount), amortizationEngine.monthlyRateUnits(rate),
+                    loan.tenureMonths(), loan.startDate().plusMonths(1));
+        }
+        return projection;
+    }
+
+    private PortfolioProjectionResponse toResponse(CashFlowProjection projection, long elapsedMillis) {
+        int horizon = projection.getHorizonMonths();
+        long[] totalPrincipal = new long[horizon];
+        long[] totalInterest = new long[horizon];
+        List<CashFlowSeries> series = new ArrayList<>(projection.getSeries().size());
+
+        projection.getSeries().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator
+                        .comparingLong(CashFlowProjection.SeriesKey::branchId)
+                        .thenComparingLong(CashFlowProjection.SeriesKey::productId)))
+                .forEach(entry -> {
+                    long[] principal = entry.getValue().getPrincipal();
+                    long[] interest = entry.getValue().getInterest();
+                    for (int m = 0; m < horizon; m++) {
+                        totalPrincipal[m] += principal[m];
+                        totalInterest[m] += interest[m];
+                    }
+                    CashFlowProjection.SeriesKey key = entry.getKey();
+                    series.add(CashFlowSeries.builder()
+                            .branchId(key.branchId() != 0 ? key.branchId() : null)
+                            .productId(key.productId() != 0 ? key.productId() : null)
+                            .principal(toAmounts(principal, interest))
+                            .interest(toAmounts(interest, principal))
+                            .build());
+                });
+
+        return PortfolioProjectionResponse.builder()
+                .startMonth(projection.getStartMonth().toString())
+                .horizonMonths(horizon)
+                .loanCount(projection.getLoanCount())
+                .skippedLoanCount(projection.getSkippedLoanCount())
+                .elapsedMillis(elapsedMillis)
+                .totalPrincipal(toAmounts(totalPrincipal, totalInterest))
+                .totalInterest(toAmounts(totalInterest, totalPrincipal))
+                .series(series)
+                .build();
+    }
+
+    /**
+     * Cents to amounts, dropping the months after the last one with any inflow in
+     * either series so principal and interest stay the same length.
+     */
+    private static List<BigDecimal> toAmounts(long[] cents, long[] companion) {
+        int length = cents.length;
+        while (length > 0 && cents[length - 1] == 0 && companion[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.stream(cents, 0, length).mapToObj(AmortizationEngine::fromCents).toList();
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMIScenarioResult;
+import com.example.los.application.dto.ProductQuote;
+import com.example.los.application.dto.ProductQuoteResponse;
+import com.example.los.application.pricing.ResolvedInterestRate;
+import com.example.los.domain.entity.MProduct;
+import com.example.los.infrastructure.config.PricingProperties;
+import com.example.los.infrastructure.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Side-by-side quotes of every active product eligible for an amount.
+ *
+ * The products whose amount range overlaps the requested amount's bucket, with
+ * the rate each would be quoted at, are cached per (bucket, tenure) for a short
+ * TTL, so visitors comparing similar amounts share the product and rate lookups.
+ * Eligibility, EMI and fees are always computed for the exact requested amount;
+ * the EMI summaries of all eligible products are computed in parallel on the
+ * batch calculation pool.
+ */
+@Service
+@Slf4j
+public class ProductQuoteService {
+
+    private final ProductRepository productRepository;
+    private final InterestRateService interestRateService;
+    private final FeeService feeService;
+    private final BatchCalculationService batchCalculationService;
+    private final PricingProperties.Quote properties;
+    private final Cache<QuoteKey, List<Candidate>> candidates;
+
+    public ProductQuoteService(ProductRepository productRepository, InterestRateService interestRateService,
+                               FeeService feeService, BatchCalculationService batchCalculationService,
+                               PricingProperties pricingProperties) {
+        this.productRepository = productRepository;
+        this.interestRateService = interestRateService;
+        this.feeService = feeService;
+        this.batchCalculationService = batchCalculationService;
+        this.properties = pricingProperties.getQuote();
+        this.candidates = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxEntries())
+                .expireAfterWrite(properties.getCacheTtl())
+                .build();
+    }
+
+    /**
+     * Quotes for all eligible active products, cheapest total cost first. When
+     * tenureMonths is null each product is quoted at its own tenure.
+     */
+    public ProductQuoteResponse compareProducts(BigDecimal amount, Integer tenureMonths) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Amount must be greater than zero");
+        }
+        if (tenureMonths != null && tenureMonths <= 0) {
+            throw new IllegalArgumentException("Tenure must be greater than zero months");
+        }
+
+        BigDecimal bucket = properties.getAmountBucket();
+        long bucketIndex = amount.divide(bucket, 0, RoundingMode.FLOOR).longValueExact();
+        List<Candidate> overlapping = candidates.get(new QuoteKey(bucketIndex, tenureMonths), key -> {
+            BigDecimal lower = bucket.multiply(BigDecimal.valueOf(bucketIndex));
+            return findCandidates(lower, lower.add(bucket), tenureMonths);
+        });
+
+        List<Candidate> eligible = new ArrayList<>(overlapping.size());
+        List<EMICalculationRequest> scenarios = new ArrayList<>(overlapping.size());
+        for (Candidate candidate : overlapping) {
+            MProduct product = candidate.product();
+            if (product.getMinAmount().compareTo(amount) > 0 || product.getMaxAmount().compareTo(amount) < 0) {
+                continue;
+            }
+            eligible.add(candidate);
+            scenarios.add(EMICalculationRequest.builder()
+                    .principalAmount(amount)
+                    .annualInterestRate(candidate.annualInterestRate())
+                    .tenureMonths(candidate.tenureMonths())
+                    .build());
+        }
+
+        List<EMIScenarioResult> summaries = batchCalculationService.calculateEMISummaries(scenarios);
+
+        List<ProductQuote> results = new ArrayList<>(eligible.size());
+        for (int i = 0; i < eligible.size(); i++) {
+            EMIScenarioResult summary = summaries.get(i);
+            MProduct product = eligible.get(i).product();
+            if (summary.getError() != null) {
+                log.warn("Skipping product {} in comparison: {}", product.getProductCode(), summary.getError());
+                continue;
+            }
+            BigDecimal totalFees = feeService.calculateTotalFee(product.getId(), amount);
+            results.add(ProductQuote.builder()
+                    .productId(product.getId())
+                    .productCode(product.getProductCode())
+                    .productName(product.getProductNameEn())
+                    .productType(product.getProductType())
+                    .annualInterestRate(summary.getAnnualInterestRate())
+                    .tenureMonths(summary.getTenureMonths())
+                    .emi(summary.getEmi())
+                    .totalPayment(summary.getTotalPayment())
+                    .totalInterest(summary.getTotalInterest())
+                    .totalFees(totalFees)
+                    .totalCost(summary.getTotalPayment().add(totalFees))
+                    .build());
+        }
+
+        results.sort(Comparator.comparing(ProductQuote::getTotalCost).thenComparing(ProductQuote::getEmi));
+        for (int i = 0; i < results.size(); i++) {
+            results.get(i).setRank(i + 1);
+        }
+        log.debug("Compared {} products for amount {} and tenure {}", results.size(), amount, tenureMonths);
+
+        return ProductQuoteResponse.builder()
+                .requestedAmount(amount)
+                .tenureMonths(tenureMonths)
+                .generatedAt(Instant.now())
+                .quotes(List.copyOf(results))
+                .build();
+    }
+
+    private List<Candidate> findCandidates(BigDecimal lower, BigDecimal upper, Integer tenureMonths) {
+        LocalDate today = LocalDate.now();
+        List<MProduct> products = productRepository.findActiveProductsOverlapping(lower, upper);
+
+        List<Candidate> found = new ArrayList<>(products.size());
+        for (MProduct product : products) {
+            int tenure = tenureMonths != null ? tenureMonths
+                    : product.getTenureMonth() != null ? product.getTenureMonth() : 0;
+            BigDecimal rate = interestRateService.resolve(product.getId(), tenure, today)
+                    .map(ResolvedInterestRate::annualRate)
+                    .orElse(product.getInterestRate());
+            if (tenure <= 0 || rate == null) {
+                log.debug("Skipping product {} in comparison: no tenure or rate", product.getProductCode());
+                continue;
+            }
+            found.add(new Candidate(product, rate, tenure));
+        }
+        return List.copyOf(found);
+    }
+
+    record QuoteKey(long amountBucket, Integer tenureMonths) {
+    }
+
+    // A product that may be eligible for amounts in the bucket, and the rate and tenure it is quoted at
+    record Candidate(MProduct product, BigDecimal annualInterestRate, int tenureMonths) {
+    }
+}
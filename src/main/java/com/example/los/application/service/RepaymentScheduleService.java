@@ -0,0 +1,122 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AmortizationSchedule;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.pricing.ResolvedInterestRate;
+import com.example.los.domain.entity.MProduct;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.entity.TLoanRepaymentSchedule;
+import com.example.los.infrastructure.repository.ProductRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RepaymentScheduleService {
+    
+    private final CalculationService calculationService;
+    private final InterestRateService interestRateService;
+    private final ProductRepository productRepository;
+    private final RepaymentScheduleRepository repaymentScheduleRepository;
+    private final RepaymentScheduleJdbcRepository repaymentScheduleJdbcRepository;
+    
+    /**
+     * Generate the amortization schedule of an approved loan and write it to
+     * t_loan_repayment_schedule in one batched operation. The first installment is
+     * due one month after the given date. Does nothing if the loan already has a schedule,
+     * has no tenure, no resolvable interest rate or a principal the schedule cannot be built
+     * for; those are logged and skipped, so a schedule problem never undoes the approval itself.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int persistSchedule(TLoanApplication loanApplication, LocalDate approvalDate) {
+        Long loanApplicationId = loanApplication.getId();
+        
+        if (repaymentScheduleRepository.existsByLoanApplicationId(loanApplicationId)) {
+            log.warn("Repayment schedule already exists for loan application {}", loanApplicationId);
+            return 0;
+        }
+        Integer tenureMonths = loanApplication.getTenureMonth();
+        if (tenureMonths == null || tenureMonths <= 0) {
+            log.warn("Loan application {} has no tenure; repayment schedule not generated", loanApplicationId);
+            return 0;
+        }
+        
+        AmortizationSchedule schedule;
+        try {
+            BigDecimal annualInterestRate = resolveInterestRate(loanApplication, approvalDate);
+            schedule = calculationService.buildAmortizationSchedule(EMICalculationRequest.builder()
+                    .principalAmount(loanApplication.getLoanAmount())
+                    .annualInterestRate(annualInterestRate)
+                    .tenureMonths(tenureMonths)
+                    .startDate(approvalDate.plusMonths(1))
+                    .build());
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.warn("Repayment schedule not generated for loan application {}: {}", loanApplicationId, e.getMessage());
+            return 0;
+        }
+        
+        Instant createdAt = Instant.now();
+        List<TLoanRepaymentSchedule> rows = new ArrayList<>(schedule.getTenureMonths());
+        AmortizationSchedule.Cursor cursor = schedule.cursor();
+        LocalDate dueDate = schedule.paymentDate(1);
+        while (cursor.hasNext()) {
+            cursor.advance();
+            
+            TLoanRepaymentSchedule row = new TLoanRepaymentSchedule();
+            row.setLoanApplicationId(loanApplicationId);
+            row.setInstallmentNo(cursor.getInstallmentNumber());
+            row.setDueDate(dueDate);
+            row.setPrincipalAmount(AmortizationEngine.fromCents(cursor.getPrincipalComponent()));
+            row.setInterestAmount(AmortizationEngine.fromCents(cursor.getInterest()));
+            row.setTotalAmount(AmortizationEngine.fromCents(cursor.getInstallment()));
+            row.setPaymentStatusCode("PENDING");
+            row.setCreatedAt(createdAt);
+            rows.add(row);
+            
+            dueDate = dueDate.plusMonths(1);
+        }
+        
+        int inserted = repaymentScheduleJdbcRepository.insertSchedule(rows);
+        log.info("Persisted {} repayment schedule rows for loan application {}", inserted, loanApplicationId);
+        return inserted;
+    }
+    
+    private BigDecimal resolveInterestRate(TLoanApplication loanApplication, LocalDate approvalDate) {
+        if (loanApplication.getInterestRate() != null) {
+            return loanApplication.getInterestRate();
+        }
+        if (loanApplication.getProductId() == null) {
+            throw new IllegalStateException(
+                    "No interest rate or product for loan application: " + loanApplication.getId());
+        }
+        if (loanApplication.getTenureMonth() != null) {
+            Optional<ResolvedInterestRate> configured = interestRateService.resolve(
+                    loanApplication.getProductId(), loanApplication.getTenureMonth(), approvalDate);
+            if (configured.isPresent()) {
+                return configured.get().annualRate();
+            }
+        }
+        MProduct product = productRepository.findById(loanApplication.getProductId())
+                .orElseThrow(() -> new IllegalStateException("Product not found for loan application: " + loanApplication.getId()));
+        if (product.getInterestRate() == null) {
+            throw new IllegalStateException("No interest rate available for loan application: " + loanApplication.getId());
+        }
+        return product.getInterestRate();
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AmortizationSchedule;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.application.dto.ScheduleEvent;
+import com.example.los.application.dto.ScheduleSimulationRequest;
+import com.example.los.application.dto.ScheduleSimulationResponse;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * What-if simulations (prepayments, rate resets, tenure changes, payment
+ * holidays) against a base repayment schedule.
+ *
+ * Installments before the first event are identical to the base schedule, so
+ * they are never recomputed: the opening balance of every base installment is
+ * cached per (principal, rate, tenure) and a simulation starts from the cached
+ * balance at its first event. A customer trying many variants of the same loan
+ * pays for the base schedule once and for each variant only its suffix.
+ */
+@Service
+@Slf4j
+public class ScheduleSimulationService {
+
+    public static final String PREPAYMENT = "PREPAYMENT";
+    public static final String RATE_CHANGE = "RATE_CHANGE";
+    public static final String TENURE_CHANGE = "TENURE_CHANGE";
+    public static final String PAYMENT_HOLIDAY = "PAYMENT_HOLIDAY";
+
+    private final CalculationService calculationService;
+    private final AmortizationEngine amortizationEngine;
+    private final CalculationProperties.Simulation properties;
+    private final Cache<BaseKey, BaseSchedule> baseSchedules;
+
+    public ScheduleSimulationService(CalculationService calculationService, AmortizationEngine amortizationEngine,
+                                     CalculationProperties calculationProperties) {
+        this.calculationService = calculationService;
+        this.amortizationEngine = amortizationEngine;
+        this.properties = calculationProperties.getSimulation();
+        this.baseSchedules = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxCachedMonths())
+                .weigher((BaseKey key, BaseSchedule base) -> base.openingBalances().length)
+                .expireAfterAccess(properties.getTtl())
+                .build();
+    }
+
+    public ScheduleSimulationResponse simulate(ScheduleSimulationRequest request) {
+        // Checked before the base schedule is tabulated, which allocates one slot per month
+        if (request.getTenureMonths() > properties.getMaxTenureMonths()) {
+            throw new IllegalArgumentException(String.format(
+                    "Tenure must not exceed %d months", properties.getMaxTenureMonths()));
+        }
+        AmortizationSchedule schedule = calculationService.buildAmortizationSchedule(EMICalculationRequest.builder()
+                .principalAmount(request.getPrincipalAmount())
+                .annualInterestRate(request.getAnnualInterestRate())
+                .tenureMonths(request.getTenureMonths())
+                .startDate(request.getStartDate())
+                .build());
+        List<ScheduleEvent> events = sortedEvents(request.getEvents(), schedule.getTenureMonths());
+
+        BaseKey key = new BaseKey(schedule.getPrincipalCents(), schedule.getMonthlyRateUnits(), schedule.getTenureMonths());
+        BaseSchedule base = baseSchedules.get(key, k -> tabulate(schedule));
+
+        int first = events.get(0).getInstallmentNumber();
+        log.debug("Simulating {} events from installment {} of {}", events.size(), first, schedule.getTenureMonths());
+
+        long balance = base.openingBalances()[first];
+        long monthlyRateUnits = schedule.getMonthlyRateUnits();
+        long emi = base.emiCents();
+        int remaining = schedule.getTenureMonths() - first + 1;
+        int holidayLeft = 0;
+        long paid = (first - 1L) * base.emiCents();
+        long prepaid = 0;
+        int installment = first;
+        int lastPaidInstallment = first - 1;
+        int eventIndex = 0;
+        LocalDate paymentDate = schedule.paymentDate(first);
+        List<RepaymentSchedule> rows = request.isIncludeSchedule() ? new ArrayList<>() : null;
+
+        while (balance > 0) {
+            if (installment > properties.getMaxTenureMonths()) {
+                throw new IllegalArgumentException(
+                        "Simulated schedule exceeds " + properties.getMaxTenureMonths() + " months");
+            }
+
+            boolean recompute = false;
+            while (eventIndex < events.size() && events.get(eventIndex).getInstallmentNumber() == installment) {
+                ScheduleEvent event = events.get(eventIndex++);
+                switch (event.getEventType()) {
+                    case PREPAYMENT -> {
+                        long amount = Math.min(wholeCents(event.getAmount(), "Prepayment amount"), balance);
+                        balance -= amount;
+                        prepaid += amount;
+                        if (event.isReduceTenure()) {
+                            remaining = monthsToRepay(balance, monthlyRateUnits, emi, remaining);
+                        } else {
+                            recompute = true;
+                        }
+                    }
+                    case RATE_CHANGE -> {
+                        if (event.getAnnualInterestRate() == null || event.getAnnualInterestRate().signum() < 0) {
+                            throw new IllegalArgumentException("Rate change requires a non-negative annual interest rate");
+                        }
+                        monthlyRateUnits = amortizationEngine.monthlyRateUnits(event.getAnnualInterestRate());
+                        recompute = true;
+                    }
+                    case TENURE_CHANGE -> {
+                        Integer tenure = event.getTenureMonths();
+                        if (tenure == null || tenure > properties.getMaxTenureMonths()
+                                || tenure - installment + 1 - holidayLeft < 1) {
+                            throw new IllegalArgumentException("Invalid tenure change to " + tenure
+                                    + " months at installment " + installment);
+                        }
+                        remaining = tenure - installment + 1 - holidayLeft;
+                        recompute = true;
+                    }
+                    case PAYMENT_HOLIDAY -> {
+                        if (event.getMonths() == null || event.getMonths() <= 0) {
+                            throw new IllegalArgumentException("Payment holiday requires a positive number of months");
+                        }
+                        holidayLeft += event.getMonths();
+                    }
+                    default -> throw new IllegalArgumentException("Unknown event type: " + event.getEventType());
+                }
+            }
+            if (balance == 0) {
+                break;
+            }
+            if (recompute && holidayLeft == 0) {
+                emi = amortizationEngine.emiCents(balance, monthlyRateUnits, remaining);
+            }
+
+            long opening = balance;
+            long interest = amortizationEngine.interestCents(opening, monthlyRateUnits);
+            long principalComponent;
+            long amountDue;
+            if (holidayLeft > 0) {
+                // Nothing is paid; the month's interest is capitalised and the tenure extends
+                principalComponent = -interest;
+                amountDue = 0;
+                balance += interest;
+                if (--holidayLeft == 0) {
+                    emi = amortizationEngine.emiCents(balance, monthlyRateUnits, remaining);
+                }
+            } else {
+                principalComponent = emi - interest;
+                if (principalComponent < 0) {
+                    throw new IllegalArgumentException("EMI no longer covers interest at installment " + installment);
+                }
+                // Last month, or an early payoff, settles whatever principal is left
+                if (remaining <= 1 || principalComponent >= balance) {
+                    principalComponent = balance;
+                }
+                amountDue = principalComponent + interest;
+                balance -= principalComponent;
+                paid += amountDue;
+                remaining--;
+                lastPaidInstallment = installment;
+            }
+
+            if (rows != null) {
+                rows.add(RepaymentSchedule.builder()
+                        .installmentNumber(installment)
+                        .paymentDate(paymentDate)
+                        .emi(AmortizationEngine.fromCents(amountDue))
+                        .principalComponent(AmortizationEngine.fromCents(principalComponent))
+                        .interestComponent(AmortizationEngine.fromCents(interest))
+                        .remainingBalance(AmortizationEngine.fromCents(balance))
+                        .build());
+            }
+            installment++;
+            paymentDate = paymentDate.plusMonths(1);
+        }
+
+        long totalPayment = paid + prepaid;
+        long totalInterest = totalPayment - schedule.getPrincipalCents();
+        long baseTotalInterest = base.totalPaymentCents() - schedule.getPrincipalCents();
+
+        return ScheduleSimulationResponse.builder()
+                .baseEmi(AmortizationEngine.fromCents(base.emiCents()))
+                .baseTotalInterest(AmortizationEngine.fromCents(baseTotalInterest))
+                .baseTenureMonths(schedule.getTenureMonths())
+                .firstRecomputedInstallment(first)
+                .finalEmi(AmortizationEngine.fromCents(emi))
+                .simulatedTenureMonths(lastPaidInstallment)
+                .totalPrepaid(AmortizationEngine.fromCents(prepaid))
+                .totalPayment(AmortizationEngine.fromCents(totalPayment))
+                .totalInterest(AmortizationEngine.fromCents(totalInterest))
+                .interestSaved(AmortizationEngine.fromCents(baseTotalInterest - totalInterest))
+                .repaymentSchedule(rows)
+                .build();
+    }
+
+    public long cachedBaseSchedules() {
+        return baseSchedules.estimatedSize();
+    }
+
+    private List<ScheduleEvent> sortedEvents(List<ScheduleEvent> events, int baseTenure) {
+        if (events == null || events.isEmpty()) {
+            throw new IllegalArgumentException("At least one event is required");
+        }
+        if (events.size() > properties.getMaxEvents()) {
+            throw new IllegalArgumentException("At most " + properties.getMaxEvents() + " events are allowed");
+        }
+        List<ScheduleEvent> sorted = new ArrayList<>(events);
+        // Stable, so events in the same month apply in request order
+        sorted.sort(Comparator.comparingInt(ScheduleEvent::getInstallmentNumber));
+        for (ScheduleEvent event : sorted) {
+            if (event.getEventType() == null || event.getInstallmentNumber() < 1) {
+                throw new IllegalArgumentException("Each event needs a type and an installment number from 1");
+            }
+        }
+        if (sorted.get(0).getInstallmentNumber() > baseTenure) {
+            throw new IllegalArgumentException("First event must fall within the base tenure of " + baseTenure + " months");
+        }
+        return sorted;
+    }
+
+    private long wholeCents(BigDecimal amount, String name) {
+        if (amount == null || amount.signum() <= 0 || !amortizationEngine.isWholeCents(amount)) {
+            throw new IllegalArgumentException(name + " must be a positive amount in whole cents");
+        }
+        return amortizationEngine.toCents(amount);
+    }
+
+    /**
+     * Months needed to clear a balance at an unchanged EMI, never more than the
+     * months already remaining: n = -ln(1 - B x R / EMI) / ln(1 + R).
+     */
+    private static int monthsToRepay(long balanceCents, long monthlyRateUnits, long emiCents, int remaining) {
+        if (balanceCents == 0) {
+            return remaining;
+        }
+        double months;
+        if (monthlyRateUnits == 0) {
+            months = (double) balanceCents / emiCents;
+        } else {
+            double rate = (double) monthlyRateUnits / AmortizationEngine.RATE_ONE;
+            double coverage = balanceCents * rate / emiCents;
+            if (coverage >= 1.0) {
+                return remaining;
+            }
+            months = -Math.log1p(-coverage) / Math.log1p(rate);
+        }
+        // Tolerate floating error just above a whole month; the last installment settles the rest
+        return (int) Math.max(1, Math.min(remaining, Math.ceil(months - 1e-9)));
+    }
+
+    private static BaseSchedule tabulate(AmortizationSchedule schedule) {
+        long[] openingBalances = new long[schedule.getTenureMonths() + 1];
+        long totalPayment = 0;
+        AmortizationSchedule.Cursor cursor = schedule.cursor();
+        while (cursor.hasNext()) {
+            cursor.advance();
+            openingBalances[cursor.getInstallmentNumber()] = cursor.getOpeningBalance();
+            totalPayment += cursor.getInstallment();
+        }
+        return new BaseSchedule(schedule.getEmiCents(), totalPayment, openingBalances);
+    }
+
+    record BaseKey(long principalCents, long monthlyRateUnits, int tenureMonths) {
+    }
+
+    /**
+     * Opening balance of every base installment (index = installment number) and
+     * the base schedule's actual total payment.
+     */
+    record BaseSchedule(long emiCents, long totalPaymentCents, long[] openingBalances) {
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.los.application.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.ApprovalDecision;
+import com.example.los.application.workflow.ApprovalDecisionListener;
+import com.example.los.application.workflow.TransitionGuard;
+import com.example.los.application.workflow.TransitionListener;
+import com.example.los.application.workflow.TransitionOutcome;
+import com.example.los.domain.lifecycle.ApplicationSnapshot;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository.DecisionUpdate;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+import com.example.los.infrastructure.repository.LoanApprovalRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Status changes of loan applications and approvals as conditional UPDATEs.
+ *
+ * Each change is a single UPDATE ... WHERE status = expected that also bumps the
+ * row version, so the database decides which of two concurrent writers wins and
+ * no row lock is held between reading and writing. An application change must be
+ * allowed by the {@link ApplicationStatus} matrix and by every
+ * {@link TransitionGuard}; once written, every {@link TransitionListener} runs.
+ * A recorded approval decision is likewise passed to every
+ * {@link ApprovalDecisionListener}.
+ *
+ * When the status moves underneath an attempt, the new status is re-read and the
+ * change re-validated against it, up to the configured number of attempts. The
+ * UPDATE only misses once the competing change has committed, so the re-read
+ * already sees it and the retry follows immediately; sleeping here would hold
+ * the caller's connection and row locks.
+ *
+ * Runs in the caller's transaction; the conditional UPDATEs flush and clear the
+ * persistence context, so entities loaded earlier must be re-read afterwards.
+ */
+@Service
+@Slf4j
+public class StatusTransitionService {
+
+    private final LoanApplicationRepository loanApplicationRepository;
+    private final LoanApprovalRepository loanApprovalRepository;
+    private final ApprovalBatchJdbcRepository approvalBatchJdbcRepository;
+    private final LoanApplicationProperties properties;
+    private final List<TransitionGuard> guards;
+    private final List<TransitionListener> listeners;
+    private final List<ApprovalDecisionListener> decisionListeners;
+
+    @Autowired
+    public StatusTransitionService(LoanApplicationRepository loanApplicationRepository,
+                                   LoanApprovalRepository loanApprovalRepository,
+                                   ApprovalBatchJdbcRepository approvalBatchJdbcRepository,
+                                   LoanApplicationProperties properties,
+                                   ObjectProvider<TransitionGuard> guards,
+                                   ObjectProvider<TransitionListener> listeners,
+                                   ObjectProvider<ApprovalDecisionListener> decisionListeners) {
+        this(loanApplicationRepository, loanApprovalRepository, approvalBatchJdbcRepository, properties,
+                guards.orderedStream().toList(),
+                listeners.orderedStream().toList(), decisionListeners.orderedStream().toList());
+    }
+
+    public StatusTransitionService(LoanApplicationRepository loanApplicationRepository,
+                                   LoanApprovalRepository loanApprovalRepository,
+                                   ApprovalBatchJdbcRepository approvalBatchJdbcRepository,
+                                   LoanApplicationProperties properties,
+                                   List<TransitionGuard> guards,
+                                   List<TransitionListener> listeners,
+                                   List<ApprovalDecisionListener> decisionListeners) {
+        this.loanApplicationRepository = loanApplicationRepository;
+        this.loanApprovalRepository = loanApprovalRepository;
+        this.approvalBatchJdbcRepository = approvalBatchJdbcRepository;
+        this.properties = properties;
+        this.guards = List.copyOf(guards);
+        this.listeners = List.copyOf(listeners);
+        this.decisionListeners = List.copyOf(decisionListeners);
+    }
+
+    /**
+     * Moves an application to targetStatus if its lifecycle and the guards allow it.
+     */
+    @Transactional
+    public TransitionOutcome<ApplicationStatus> transitionApplication(Long applicationId, ApplicationStatus targetStatus) {
+        return transitionApplication(applicationId, targetStatus, null);
+    }
+
+    /**
+     * As {@link #transitionApplication(Long, ApplicationStatus)}, also setting the
+     * loan amount in the same UPDATE when loanAmount is not null.
+     */
+    @Transactional
+    public TransitionOutcome<ApplicationStatus> transitionApplication(Long applicationId, ApplicationStatus targetStatus,
+                                                                      BigDecimal loanAmount) {
+        int maxAttempts = Math.max(1, properties.getStatusRetryAttempts());
+        ApplicationStatus current = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Optional<ApplicationSnapshot> snapshot = loanApplicationRepository.findSnapshotById(applicationId);
+            if (snapshot.isEmpty()) {
+                return TransitionOutcome.notFound(applicationId, targetStatus, attempt);
+            }
+            current = snapshot.get().status();
+            if (current == null || !current.canTransitionTo(targetStatus)) {
+                return TransitionOutcome.invalid(applicationId, current, targetStatus, attempt);
+            }
+            ApplicationTransition transition = new ApplicationTransition(applicationId, current, targetStatus,
+                    snapshot.get().branchId(), snapshot.get().productId(), snapshot.get().loanAmount(),
+                    loanAmount != null ? loanAmount : snapshot.get().loanAmount(), snapshot.get().createdAt());
+            String reason = check(transition);
+            if (reason != null) {
+                return TransitionOutcome.blocked(applicationId, current, targetStatus, attempt, reason);
+            }
+
+            int updated = loanAmount == null
+                    ? loanApplicationRepository.updateStatusIfCurrent(applicationId, current, targetStatus)
+                    : loanApplicationRepository.updateStatusAndAmountIfCurrent(applicationId, current, targetStatus,
+                            loanAmount);
+            if (updated == 1) {
+                for (TransitionListener listener : listeners) {
+                    listener.onTransition(transition);
+                }
+                return TransitionOutcome.applied(applicationId, current, targetStatus, attempt);
+            }
+            log.debug("Loan application {} left status {} before moving to {} (attempt {})",
+                    applicationId, current, targetStatus, attempt);
+        }
+        log.warn("Loan application {} status change to {} gave up after {} attempts", applicationId, targetStatus,
+                maxAttempts);
+        return TransitionOutcome.conflict(applicationId, current, targetStatus, maxAttempts);
+    }
+
+    /**
+     * Applies many transitions whose from status the caller read under a row
+     * lock (see {@link LoanApplicationRepository#lockAllById}). Each is checked
+     * against the lifecycle and the guards on its own; the allowed ones are
+     * written with one conditional UPDATE per (from, to) pair and then passed to
+     * the listeners. Outcomes are returned in order. A row that is no longer in
+     * its from status means the caller did not hold the lock, and fails the
+     * whole call.
+     */
+    @Transactional
+    public List<TransitionOutcome<ApplicationStatus>> transitionApplications(List<ApplicationTransition> transitions) {
+        List<TransitionOutcome<ApplicationStatus>> outcomes = new ArrayList<>(transitions.size());
+        List<ApplicationTransition> allowed = new ArrayList<>(transitions.size());
+        Map<StatusChange, List<Long>> idsByChange = new LinkedHashMap<>();
+        for (ApplicationTransition transition : transitions) {
+            TransitionOutcome<ApplicationStatus> outcome = evaluate(transition);
+            outcomes.add(outcome);
+            if (outcome.isApplied()) {
+                allowed.add(transition);
+                idsByChange.computeIfAbsent(new StatusChange(transition.from(), transition.to()),
+                        change -> new ArrayList<>()).add(transition.applicationId());
+            }
+        }
+
+        idsByChange.forEach((change, ids) -> {
+            int updated = loanApplicationRepository.updateStatusesIfCurrent(ids, change.from(), change.to());
+            if (updated != ids.size()) {
+                throw new IllegalStateException(String.format(
+                        "%d of %d loan applications left status %s before moving to %s",
+                        ids.size() - updated, ids.size(), change.from(), change.to()));
+            }
+        });
+        for (ApplicationTransition transition : allowed) {
+            for (TransitionListener listener : listeners) {
+                listener.onTransition(transition);
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Checks transitions against the lifecycle and the guards as
+     * {@link #transitionApplications} would, without writing anything. An
+     * outcome per transition, in order: APPLIED where it would be allowed.
+     */
+    public List<TransitionOutcome<ApplicationStatus>> checkApplications(List<ApplicationTransition> transitions) {
+        return transitions.stream().map(this::evaluate).toList();
+    }
+
+    /**
+     * Records many decisions on PENDING approvals with one batched conditional
+     * UPDATE and passes the recorded ones to the decision listeners. Returns an
+     * outcome per decision, in order: CONFLICT where the approval was no longer
+     * PENDING or was claimed by another approver.
+     */
+    @Transactional
+    public List<TransitionOutcome<ApprovalStatus>> decideApprovals(List<ApprovalDecision> decisions) {
+        List<DecisionUpdate> updates = new ArrayList<>(decisions.size());
+        for (ApprovalDecision decision : decisions) {
+            if (!ApprovalStatus.PENDING.canTransitionTo(decision.decision())) {
+                throw new IllegalArgumentException("Not an approval decision: " + decision.decision());
+            }
+            updates.add(new DecisionUpdate(decision.approvalId(), decision.decision().name(), decision.decidedAt(),
+                    decision.decidedBy(), decision.remarks()));
+        }
+
+        boolean[] written = approvalBatchJdbcRepository.decideIfCurrent(updates, ApprovalStatus.PENDING.name());
+        List<TransitionOutcome<ApprovalStatus>> outcomes = new ArrayList<>(decisions.size());
+        for (int i = 0; i < decisions.size(); i++) {
+            ApprovalDecision decision = decisions.get(i);
+            if (!written[i]) {
+                outcomes.add(TransitionOutcome.conflict(decision.approvalId(), null, decision.decision(), 1));
+                continue;
+            }
+            for (ApprovalDecisionListener listener : decisionListeners) {
+                listener.onDecision(decision);
+            }
+            outcomes.add(TransitionOutcome.applied(decision.approvalId(), ApprovalStatus.PENDING, decision.decision(), 1));
+        }
+        return outcomes;
+    }
+
+    /**
+     * Records the decision on a PENDING approval. Only PENDING can be decided, so
+     * losing the race is final and there is no retry. An approval claimed by
+     * another approver whose lease has not expired is BLOCKED.
+     */
+    @Transactional
+    public TransitionOutcome<ApprovalStatus> decideApproval(Long approvalId, ApprovalStatus decision,
+                                                            String decidedBy, String remarks) {
+        if (!ApprovalStatus.PENDING.canTransitionTo(decision)) {
+            throw new IllegalArgumentException("Not an approval decision: " + decision);
+        }
+        Instant decidedAt = Instant.now();
+        int updated = loanApprovalRepository.decideIfCurrent(approvalId, ApprovalStatus.PENDING, decision,
+                decidedAt, decidedBy, remarks);
+        if (updated == 1) {
+            if (!decisionListeners.isEmpty()) {
+                loanApprovalRepository.findById(approvalId).ifPresent(approval -> {
+                    ApprovalDecision recorded = new ApprovalDecision(approvalId, approval.getLoanApplicationId(),
+                            approval.getApprovalLevel(), decision, decidedBy, decidedAt, remarks);
+                    for (ApprovalDecisionListener listener : decisionListeners) {
+                        listener.onDecision(recorded);
+                    }
+                });
+            }
+            return TransitionOutcome.applied(approvalId, ApprovalStatus.PENDING, decision, 1);
+        }
+        return loanApprovalRepository.findStatusById(approvalId)
+                .map(status -> {
+                    if (status != ApprovalStatus.PENDING) {
+                        return TransitionOutcome.invalid(approvalId, status, decision, 1);
+                    }
+                    // Still pending, so either someone else holds it or it changed hands in between
+                    return loanApprovalRepository.findActiveClaimHolder(approvalId, decidedAt)
+                            .map(holder -> TransitionOutcome.blocked(approvalId, status, decision, 1,
+                                    "Claimed by " + holder))
+                            .orElseGet(() -> TransitionOutcome.conflict(approvalId, status, decision, 1));
+                })
+                .orElseGet(() -> TransitionOutcome.notFound(approvalId, decision, 1));
+    }
+
+    private TransitionOutcome<ApplicationStatus> evaluate(ApplicationTransition transition) {
+        Long applicationId = transition.applicationId();
+        if (transition.from() == null || !transition.from().canTransitionTo(transition.to())) {
+            return TransitionOutcome.invalid(applicationId, transition.from(), transition.to(), 1);
+        }
+        String reason = check(transition);
+        if (reason != null) {
+            return TransitionOutcome.blocked(applicationId, transition.from(), transition.to(), 1, reason);
+        }
+        return TransitionOutcome.applied(applicationId, transition.from(), transition.to(), 1);
+    }
+
+    // Reason of the first guard refusing the transition; null when all allow it
+    private String check(ApplicationTransition transition) {
+        for (TransitionGuard guard : guards) {
+            String reason = guard.check(transition);
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return null;
+    }
+
+    private record StatusChange(ApplicationStatus from, ApplicationStatus to) {
+    }
+}
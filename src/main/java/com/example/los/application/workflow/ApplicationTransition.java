@@ -0,0 +1,16 @@
+package com.example.los.application.workflow;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.example.los.domain.lifecycle.ApplicationStatus;
+
+/**
+ * A loan application moving from one status to another, with the branch and
+ * product it belongs to, its loan amount before and after the change and when
+ * it was created.
+ */
+public record ApplicationTransition(Long applicationId, ApplicationStatus from, ApplicationStatus to,
+                                    Long branchId, Long productId, BigDecimal fromAmount, BigDecimal toAmount,
+                                    Instant createdAt) {
+}
@@ -0,0 +1,12 @@
+package com.example.los.application.workflow;
+
+import java.time.Instant;
+
+import com.example.los.domain.lifecycle.ApprovalStatus;
+
+/**
+ * A decision recorded on a pending approval of a loan application.
+ */
+public record ApprovalDecision(Long approvalId, Long loanApplicationId, Integer approvalLevel,
+                               ApprovalStatus decision, String decidedBy, Instant decidedAt, String remarks) {
+}
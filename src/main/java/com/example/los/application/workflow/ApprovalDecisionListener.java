@@ -0,0 +1,11 @@
+package com.example.los.application.workflow;
+
+/**
+ * Side effect of an approval decision. Listeners are Spring beans called in
+ * {@link org.springframework.core.annotation.Order} order right after the
+ * decision is written, inside the same transaction, like {@link TransitionListener}.
+ */
+public interface ApprovalDecisionListener {
+
+    void onDecision(ApprovalDecision decision);
+}
@@ -0,0 +1,154 @@
+package com.example.los.application.workflow;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.example.los.domain.policy.CfgApprovalLimit;
+
+/**
+ * cfg_approval_limit compiled into the approval chain.
+ *
+ * Limits are sorted by max amount into level 1, 2, ...; an amount needs every
+ * level up to the first whose limit covers it, found by binary search over the
+ * limits in cents. A row without a max amount has no limit. Amounts above every
+ * limit still stop at the top level. Rows without a role or with a negative
+ * limit are left out when compiling.
+ */
+public final class ApprovalRoutingTable {
+
+    private static final long UNLIMITED = Long.MAX_VALUE;
+
+    private final String[] roles;
+    private final long[] maxCents;
+    private final int skipped;
+
+    private ApprovalRoutingTable(String[] roles, long[] maxCents, int skipped) {
+        this.roles = roles;
+        this.maxCents = maxCents;
+        this.skipped = skipped;
+    }
+
+    public static ApprovalRoutingTable compile(List<CfgApprovalLimit> limits) {
+        List<CfgApprovalLimit> usable = new ArrayList<>(limits.size());
+        int skipped = 0;
+        for (CfgApprovalLimit limit : limits) {
+            if (limit.getRoleCode() == null || limit.getRoleCode().isBlank()
+                    || (limit.getMaxAmount() != null && limit.getMaxAmount().signum() < 0)) {
+                skipped++;
+                continue;
+            }
+            usable.add(limit);
+        }
+        usable.sort(Comparator.comparing(ApprovalRoutingTable::toMaxCents)
+                .thenComparing(CfgApprovalLimit::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        String[] roles = new String[usable.size()];
+        long[] maxCents = new long[usable.size()];
+        for (int i = 0; i < usable.size(); i++) {
+            roles[i] = usable.get(i).getRoleCode();
+            maxCents[i] = toMaxCents(usable.get(i));
+        }
+        return new ApprovalRoutingTable(roles, maxCents, skipped);
+    }
+
+    public int getLevelCount() {
+        return roles.length;
+    }
+
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    public boolean isEmpty() {
+        return roles.length == 0;
+    }
+
+    /**
+     * Number of levels that must approve an amount; 0 when the table is empty.
+     */
+    public int requiredLevels(BigDecimal amount) {
+        if (roles.length == 0) {
+            return 0;
+        }
+        BigDecimal cents = amount.setScale(2, RoundingMode.CEILING).movePointRight(2);
+        if (cents.compareTo(BigDecimal.valueOf(UNLIMITED)) >= 0) {
+            return roles.length;
+        }
+        long target = cents.longValueExact();
+        int low = 0;
+        int high = roles.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (maxCents[mid] >= target) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low + 1;
+    }
+
+    /**
+     * Level after currentLevel for an amount, 1 when currentLevel is null, or
+     * null when currentLevel was the last one needed.
+     */
+    public Integer nextLevel(Integer currentLevel, BigDecimal amount) {
+        if (currentLevel == null) {
+            return roles.length > 0 ? 1 : null;
+        }
+        return currentLevel < requiredLevels(amount) ? currentLevel + 1 : null;
+    }
+
+    /**
+     * Limit of a 1-based level in cents; Long.MAX_VALUE when it has none, 0 outside the table.
+     */
+    public long maxCentsForLevel(int level) {
+        return level >= 1 && level <= roles.length ? maxCents[level - 1] : 0;
+    }
+
+    /**
+     * Approver role of a 1-based level; null outside the table.
+     */
+    public String roleForLevel(int level) {
+        return level >= 1 && level <= roles.length ? roles[level - 1] : null;
+    }
+
+    /**
+     * Approver roles of every level an amount needs, lowest first.
+     */
+    public List<String> chain(BigDecimal amount) {
+        return List.of(Arrays.copyOf(roles, requiredLevels(amount)));
+    }
+
+    /**
+     * Tables are equal when they were compiled from the same usable limits and skipped as many rows.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ApprovalRoutingTable table)) {
+            return false;
+        }
+        return skipped == table.skipped && Arrays.equals(roles, table.roles) && Arrays.equals(maxCents, table.maxCents);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(roles) + Arrays.hashCode(maxCents)) + skipped;
+    }
+
+    private static long toMaxCents(CfgApprovalLimit limit) {
+        BigDecimal maxAmount = limit.getMaxAmount();
+        if (maxAmount == null) {
+            return UNLIMITED;
+        }
+        BigDecimal cents = maxAmount.setScale(2, RoundingMode.FLOOR).movePointRight(2);
+        return cents.compareTo(BigDecimal.valueOf(UNLIMITED)) >= 0 ? UNLIMITED : cents.longValueExact();
+    }
+}
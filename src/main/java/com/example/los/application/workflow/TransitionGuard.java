@@ -0,0 +1,14 @@
+package com.example.los.application.workflow;
+
+/**
+ * Extra condition on application status changes, checked after the transition
+ * matrix allows the change and before it is written. Guards are Spring beans and
+ * are consulted in {@link org.springframework.core.annotation.Order} order.
+ */
+public interface TransitionGuard {
+
+    /**
+     * Null to allow the transition, otherwise the reason it is refused.
+     */
+    String check(ApplicationTransition transition);
+}
@@ -0,0 +1,12 @@
+package com.example.los.application.workflow;
+
+/**
+ * Side effect of an application status change. Listeners are Spring beans called
+ * in {@link org.springframework.core.annotation.Order} order right after the
+ * change is written, inside the same transaction: an exception rolls the change
+ * back together with everything else the transaction did.
+ */
+public interface TransitionListener {
+
+    void onTransition(ApplicationTransition transition);
+}
@@ -0,0 +1,50 @@
+package com.example.los.application.workflow;
+
+/**
+ * Result of a compare-and-set status change on one row.
+ *
+ * fromStatus is the status the change was attempted from: the status replaced
+ * when APPLIED, the status that did not allow the change when INVALID_TRANSITION
+ * or BLOCKED, and the last status seen when CONFLICT. reason is set for BLOCKED.
+ */
+public record TransitionOutcome<S extends Enum<S>>(Result result, Long id, S fromStatus, S toStatus, int attempts,
+                                                   String reason) {
+
+    public enum Result {
+        /** The row moved to toStatus. */
+        APPLIED,
+        /** No row with this id. */
+        NOT_FOUND,
+        /** The lifecycle does not allow moving from the current status to toStatus. */
+        INVALID_TRANSITION,
+        /** A transition guard refused the change. */
+        BLOCKED,
+        /** The status kept changing underneath every attempt. */
+        CONFLICT
+    }
+
+    public static <S extends Enum<S>> TransitionOutcome<S> applied(Long id, S fromStatus, S toStatus, int attempts) {
+        return new TransitionOutcome<>(Result.APPLIED, id, fromStatus, toStatus, attempts, null);
+    }
+
+    public static <S extends Enum<S>> TransitionOutcome<S> notFound(Long id, S toStatus, int attempts) {
+        return new TransitionOutcome<>(Result.NOT_FOUND, id, null, toStatus, attempts, null);
+    }
+
+    public static <S extends Enum<S>> TransitionOutcome<S> invalid(Long id, S fromStatus, S toStatus, int attempts) {
+        return new TransitionOutcome<>(Result.INVALID_TRANSITION, id, fromStatus, toStatus, attempts, null);
+    }
+
+    public static <S extends Enum<S>> TransitionOutcome<S> blocked(Long id, S fromStatus, S toStatus, int attempts,
+                                                                   String reason) {
+        return new TransitionOutcome<>(Result.BLOCKED, id, fromStatus, toStatus, attempts, reason);
+    }
+
+    public static <S extends Enum<S>> TransitionOutcome<S> conflict(Long id, S fromStatus, S toStatus, int attempts) {
+        return new TransitionOutcome<>(Result.CONFLICT, id, fromStatus, toStatus, attempts, null);
+    }
+
+    public boolean isApplied() {
+        return result == Result.APPLIED;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.los.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.los.application.dto.ApprovalBulkDecisionRequest;
+import com.example.los.application.dto.ApprovalBulkDecisionResponse;
+import com.example.los.application.dto.ApprovalQueuePage;
+import com.example.los.application.dto.ApprovalWorkflowResponse;
+import com.example.los.application.service.ApprovalWorkflowService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/approvals")
+@RequiredArgsConstructor
+@Slf4j
+public class ApprovalController {
+    
+    private final ApprovalWorkflowService approvalWorkflowService;
+    
+    /**
+     * Approves or rejects many approvals at once; each item is reported as
+     * APPLIED, CONFLICT or FAILED.
+     */
+    @PostMapping("/bulk-decisions")
+    public ResponseEntity<ApprovalBulkDecisionResponse> decideApprovals(@RequestBody ApprovalBulkDecisionRequest request) {
+        try {
+            return ResponseEntity.ok(approvalWorkflowService.decideApprovals(request));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid bulk approval decision: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            log.warn("Bulk approval decision rolled back: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Error in bulk approval decision: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * One page of the PENDING approvals waiting for a role, oldest first. Pass
+     * the previous page's nextCursor to continue.
+     */
+    @GetMapping("/queue")
+    public ResponseEntity<ApprovalQueuePage> getQueuePage(
+            @RequestParam String approverRole,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(approvalWorkflowService.getPendingApprovalsByRole(approverRole, branchId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid approval queue request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error fetching approval queue for role {}: {}", approverRole, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Leases up to count of the oldest unclaimed approvals of a role to the
+     * approver; an empty list when the queue has none left.
+     */
+    @PostMapping("/claims")
+    public ResponseEntity<List<ApprovalWorkflowResponse>> claimNext(
+            @RequestParam String approverRole,
+            @RequestParam String approverUsername,
+            @RequestParam(required = false) Long branchId,
+            @RequestParam(required = false) Integer count) {
+        try {
+            return ResponseEntity.ok(approvalWorkflowService.claimNext(approverRole, branchId, approverUsername, count));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid approval claim request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error claiming approvals for {}: {}", approverUsername, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Hands a claimed approval back to the queue before its lease expires.
+     */
+    @DeleteMapping("/{id}/claim")
+    public ResponseEntity<Void> releaseClaim(@PathVariable Long id, @RequestParam String approverUsername) {
+        try {
+            approvalWorkflowService.releaseClaim(id, approverUsername);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalStateException e) {
+            log.warn("Cannot release approval {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            log.error("Error releasing approval {}: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.los.controller;
+
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.los.application.dto.CalculationCacheStats;
+import com.example.los.application.dto.EMIBatchRequest;
+import com.example.los.application.dto.EMIBatchResponse;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMICalculationResponse;
+import com.example.los.application.dto.FeeBatchRequest;
+import com.example.los.application.dto.FeeBatchResponse;
+import com.example.los.application.dto.FeeCalculationRequest;
+import com.example.los.application.dto.FeeCalculationResponse;
+import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.application.dto.ScheduleSimulationRequest;
+import com.example.los.application.dto.ScheduleSimulationResponse;
+import com.example.los.application.service.BatchCalculationService;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.FeeService;
+import com.example.los.application.service.ScheduleSimulationService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import tools.jackson.databind.ObjectMapper;
+
+@RestController
+@RequestMapping("/api/calculations")
+@RequiredArgsConstructor
+@Slf4j
+public class CalculationController {
+    
+    private final CalculationService calculationService;
+    private final BatchCalculationService batchCalculationService;
+    private final ScheduleSimulationService scheduleSimulationService;
+    private final FeeService feeService;
+    private final ObjectMapper objectMapper;
+    
+    @PostMapping("/emi")
+    public ResponseEntity<EMICalculationResponse> calculateEMI(@RequestBody EMICalculationRequest request) {
+        try {
+            EMICalculationResponse response = calculationService.calculateEMI(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid EMI calculation request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    /**
+     * Streams the repayment schedule as newline-delimited JSON, one installment per line,
+     * computing each row as it is written. Optional from/to limit the installment range.
+     */
+    @PostMapping(value = "/emi/schedule", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRepaymentSchedule(
+            @RequestBody EMICalculationRequest request,
+            @RequestParam(required = false, defaultValue = "1") int from,
+            @RequestParam(required = false) Integer to) {
+        Stream<RepaymentSchedule> schedule;
+        try {
+            schedule = calculationService.streamRepaymentSchedule(request, from, 
+                    to != null ? to : request.getTenureMonths());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid repayment schedule request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            Iterator<RepaymentSchedule> rows = schedule.iterator();
+            while (rows.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(rows.next()));
+                writer.write('\n');
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+    
+    @PostMapping("/emi/batch")
+    public ResponseEntity<EMIBatchResponse> calculateEMIBatch(@RequestBody EMIBatchRequest request) {
+        try {
+            EMIBatchResponse response = batchCalculationService.calculateEMIBatch(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid EMI batch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    /**
+     * What-if simulation: prepayments, rate changes, tenure changes and payment holidays
+     * applied to a base schedule. Only installments from the first event onwards are returned.
+     */
+    @PostMapping("/emi/simulate")
+    public ResponseEntity<ScheduleSimulationResponse> simulateSchedule(@RequestBody ScheduleSimulationRequest request) {
+        try {
+            ScheduleSimulationResponse response = scheduleSimulationService.simulate(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid schedule simulation request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @PostMapping("/fees")
+    public ResponseEntity<FeeCalculationResponse> calculateFees(@RequestBody FeeCalculationRequest request) {
+        try {
+            FeeCalculationResponse response = feeService.calculateFees(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fee calculation request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @PostMapping("/fees/batch")
+    public ResponseEntity<FeeBatchResponse> calculateFeesBatch(@RequestBody FeeBatchRequest request) {
+        try {
+            FeeBatchResponse response = feeService.calculateFeesBatch(request);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid fee batch request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CalculationCacheStats> getFactorCacheStats() {
+        return ResponseEntity.ok(calculationService.getFactorCacheStats());
+    }
+    
+    @GetMapping("/health")
+    public ResponseEntity<String> health() {
+        return ResponseEntity.ok("Calculation service is running");
+    }
+}
@@ -2,7 +2,6 @@ package com.example.los.controller;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.List;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +15,10 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.los.application.dto.LoanApplicationBulkRequest;
+import com.example.los.application.dto.LoanApplicationBulkResponse;
+import com.example.los.application.dto.LoanApplicationFilter;
+import com.example.los.application.dto.LoanApplicationPage;
 import com.example.los.application.dto.LoanApplicationRequest;
 import com.example.los.application.dto.LoanApplicationResponse;
 import com.example.los.application.service.LoanApplicationService;
@@ -54,6 +57,21 @@ public class LoanApplicationController {
         }
     }
     
+    @PostMapping("/bulk")
+    public ResponseEntity<LoanApplicationBulkResponse> createLoanApplications(@RequestBody LoanApplicationBulkRequest request) {
+        try {
+            LoanApplicationBulkResponse response = loanApplicationService.createLoanApplications(request);
+            log.info("Bulk intake: {} created, {} failed", response.getCreatedCount(), response.getFailedCount());
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Failed bulk loan application intake: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error in bulk loan application intake: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<LoanApplicationResponse> getLoanApplicationById(@PathVariable Long id) {
         try {
@@ -69,24 +87,42 @@ public class LoanApplicationController {
         }
     }
     
+    @GetMapping
+    public ResponseEntity<LoanApplicationPage> listLoanApplications(
+            LoanApplicationFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return listPage(filter, cursor, size);
+    }
+    
     @GetMapping("/customer/{customerId}")
-    public ResponseEntity<List<LoanApplicationResponse>> getLoanApplicationsByCustomerId(@PathVariable Long customerId) {
-        try {
-            List<LoanApplicationResponse> applications = loanApplicationService.getLoanApplicationsByCustomerId(customerId);
-            return ResponseEntity.ok(applications);
-        } catch (Exception e) {
-            log.error("Error fetching loan applications for customer {}: {}", customerId, e.getMessage(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
-        }
+    public ResponseEntity<LoanApplicationPage> getLoanApplicationsByCustomerId(
+            @PathVariable Long customerId,
+            LoanApplicationFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setCustomerId(customerId);
+        return listPage(filter, cursor, size);
     }
     
     @GetMapping("/status/{statusCode}")
-    public ResponseEntity<List<LoanApplicationResponse>> getLoanApplicationsByStatus(@PathVariable String statusCode) {
+    public ResponseEntity<LoanApplicationPage> getLoanApplicationsByStatus(
+            @PathVariable String statusCode,
+            LoanApplicationFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        filter.setStatusCode(statusCode);
+        return listPage(filter, cursor, size);
+    }
+    
+    private ResponseEntity<LoanApplicationPage> listPage(LoanApplicationFilter filter, String cursor, Integer size) {
         try {
-            List<LoanApplicationResponse> applications = loanApplicationService.getLoanApplicationsByStatus(statusCode);
-            return ResponseEntity.ok(applications);
+            return ResponseEntity.ok(loanApplicationService.listLoanApplications(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid loan application listing request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
-            log.error("Error fetching loan applications with status {}: {}", statusCode, e.getMessage(), e);
+            log.error("Error listing loan applications with {}: {}", filter, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -107,6 +143,13 @@ public class LoanApplicationController {
                     .remarks(e.getMessage())
                     .build()
             );
+        } catch (IllegalStateException e) {
+            log.warn("Conflict trying to update loan application {} status: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                LoanApplicationResponse.builder()
+                    .remarks(e.getMessage())
+                    .build()
+            );
         } catch (Exception e) {
             log.error("Error updating loan application status: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -133,6 +176,13 @@ public class LoanApplicationController {
                     .remarks(e.getMessage())
                     .build()
             );
+        } catch (IllegalStateException e) {
+            log.warn("Conflict trying to approve loan application {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                LoanApplicationResponse.builder()
+                    .remarks(e.getMessage())
+                    .build()
+            );
         } catch (Exception e) {
             log.error("Error approving loan application: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -159,6 +209,13 @@ public class LoanApplicationController {
                     .remarks(e.getMessage())
                     .build()
             );
+        } catch (IllegalStateException e) {
+            log.warn("Conflict trying to reject loan application {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                LoanApplicationResponse.builder()
+                    .remarks(e.getMessage())
+                    .build()
+            );
         } catch (Exception e) {
             log.error("Error rejecting loan application: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
@@ -205,6 +262,9 @@ public class LoanApplicationController {
         try {
             long count = loanApplicationService.countApplicationsByStatusSince(statusCode, sinceDate);
             return ResponseEntity.ok(count);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid status {}: {}", statusCode, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             log.error("Error counting applications with status {} since {}: {}", statusCode, sinceDate, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -0,0 +1,75 @@
+package com.example.los.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.los.application.dto.AggregateReconciliationResult;
+import com.example.los.application.dto.BranchAggregateResponse;
+import com.example.los.application.dto.PortfolioProjectionResponse;
+import com.example.los.application.service.ApplicationAggregateService;
+import com.example.los.application.service.PortfolioProjectionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+@Slf4j
+public class PortfolioController {
+    
+    private final PortfolioProjectionService portfolioProjectionService;
+    private final ApplicationAggregateService applicationAggregateService;
+    
+    /**
+     * Expected monthly principal and interest inflows of all ACTIVE loans, in total and
+     * per branch and product, starting from the current month.
+     */
+    @GetMapping("/cash-flow-projection")
+    public ResponseEntity<PortfolioProjectionResponse> projectCashFlows(
+            @RequestParam(required = false, defaultValue = "120") int horizonMonths) {
+        try {
+            PortfolioProjectionResponse response = portfolioProjectionService.projectActivePortfolio(horizonMonths);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid cash flow projection request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (IllegalStateException e) {
+            log.error("Cash flow projection failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Application counts and loan amount totals of a branch per status and product,
+     * read from the incrementally maintained aggregates.
+     */
+    @GetMapping("/branches/{branchId}/aggregates")
+    public ResponseEntity<BranchAggregateResponse> getBranchAggregates(@PathVariable Long branchId) {
+        try {
+            return ResponseEntity.ok(applicationAggregateService.getBranchAggregates(branchId));
+        } catch (Exception e) {
+            log.error("Error reading aggregates of branch {}: {}", branchId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    /**
+     * Runs the nightly check of the aggregates against t_loan_application now.
+     */
+    @PostMapping("/aggregates/reconcile")
+    public ResponseEntity<AggregateReconciliationResult> reconcileAggregates() {
+        try {
+            return ResponseEntity.ok(applicationAggregateService.reconcile());
+        } catch (Exception e) {
+            log.error("Aggregate reconciliation failed: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.los.controller;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import org.springframework.http.HttpStatus;
@@ -10,7 +11,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.los.application.dto.ProductQuoteResponse;
 import com.example.los.application.dto.ProductResponse;
+import com.example.los.application.service.ProductQuoteService;
 import com.example.los.application.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ProductController {
     
     private final ProductService productService;
+    private final ProductQuoteService productQuoteService;
     
     @GetMapping
     public ResponseEntity<List<ProductResponse>> getAllProducts() {
@@ -101,6 +105,22 @@ public class ProductController {
         }
     }
     
+    /**
+     * EMI, fees and total cost of every eligible active product for an amount, cheapest
+     * first. Each product is quoted at its own tenure unless one is given.
+     */
+    @GetMapping("/quotes")
+    public ResponseEntity<ProductQuoteResponse> compareProducts(@RequestParam BigDecimal amount,
+                                                                @RequestParam(required = false) Integer tenure) {
+        try {
+            ProductQuoteResponse response = productQuoteService.compareProducts(amount, tenure);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid product comparison request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+    }
+    
     @GetMapping("/count/active")
     public ResponseEntity<Long> countActiveProducts() {
         try {
@@ -0,0 +1,50 @@
+package com.example.los.domain.entity;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Number and total loan amount of the applications of one branch and product in
+ * one status. Branch and product 0 stand for applications without one.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "t_application_aggregate", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_aggregate_key",
+                columnNames = {"branch_id", "product_id", "status_code"}))
+public class TApplicationAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "branch_id", nullable = false)
+    private Long branchId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "status_code", length = 50, nullable = false)
+    private String statusCode;
+
+    @Column(name = "application_count", nullable = false)
+    private Long applicationCount;
+
+    @Column(name = "total_amount", precision = 20, scale = 2, nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,55 @@
+package com.example.los.domain.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Entity
+@Table(name = "t_batch_checkpoint", schema = "public",
+        uniqueConstraints = @UniqueConstraint(name = "uk_batch_checkpoint_job_run", columnNames = {"job_name", "run_date"}))
+public class TBatchCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id;
+
+    @Column(name = "job_name", length = 100, nullable = false)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "last_processed_id")
+    private Long lastProcessedId;
+
+    @Column(name = "processed_count")
+    private Long processedCount;
+
+    @Column(name = "status_code", length = 50)
+    private String statusCode;
+
+    @Column(name = "started_at")
+    private Instant startedAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Instance running the job; progress from anyone else is refused
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "heartbeat_at")
+    private Instant heartbeatAt;
+
+}
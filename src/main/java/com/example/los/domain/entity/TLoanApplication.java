@@ -3,22 +3,44 @@ package com.example.los.domain.entity;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApplicationStatusConverter;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "t_loan_application", schema = "public")
+@Table(name = "t_loan_application", schema = "public",
+        indexes = {
+                @Index(name = "idx_loan_application_no", columnList = "application_no", unique = true),
+                @Index(name = "idx_loan_application_created", columnList = "created_at, id"),
+                @Index(name = "idx_loan_application_status_created", columnList = "status_code, created_at, id"),
+                @Index(name = "idx_loan_application_customer_created", columnList = "customer_id, created_at, id"),
+                @Index(name = "idx_loan_application_branch_status_created",
+                        columnList = "branch_id, status_code, created_at, id"),
+                @Index(name = "idx_loan_application_product_status_created",
+                        columnList = "product_id, status_code, created_at, id")
+        })
 public class TLoanApplication {
+    // The sequence is moved past existing ids on startup by SchemaMigrations
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "loan_application_id")
+    @SequenceGenerator(name = "loan_application_id", sequenceName = "t_loan_application_seq",
+            schema = "public", allocationSize = 50)
     @Column(name = "id", nullable = false)
     private Long id;
 
@@ -46,10 +68,16 @@ public class TLoanApplication {
     @Column(name = "processing_fee", precision = 18, scale = 2)
     private BigDecimal processingFee;
 
+    @Convert(converter = ApplicationStatusConverter.class)
     @Column(name = "status_code", length = 50)
-    private String statusCode;
+    private ApplicationStatus statusCode;
 
     @Column(name = "created_at")
     private Instant createdAt;
 
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
 }
\ No newline at end of file
@@ -2,19 +2,31 @@ package com.example.los.domain.entity;
 
 import java.time.Instant;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.domain.lifecycle.ApprovalStatusConverter;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "t_loan_approval", schema = "public")
+@Table(name = "t_loan_approval", schema = "public",
+        indexes = {
+                @Index(name = "idx_loan_approval_queue", columnList = "approver_role, decision_code, created_at, id"),
+                @Index(name = "idx_loan_approval_application", columnList = "loan_application_id")
+        })
 public class TLoanApproval {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,8 +39,9 @@ public class TLoanApproval {
     @Column(name = "approver_id")
     private Long approverId;
 
+    @Convert(converter = ApprovalStatusConverter.class)
     @Column(name = "decision_code", length = 50)
-    private String status;
+    private ApprovalStatus status;
 
     @Column(name = "remark")
     private String remarks;
@@ -50,4 +63,16 @@ public class TLoanApproval {
 
     @Column(name = "created_by", length = 100)
     private String createdBy;
+
+    // Approver holding the item while it is PENDING; free again once claim_expires_at passes
+    @Column(name = "claimed_by", length = 100)
+    private String claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private Instant claimExpiresAt;
+
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
\ No newline at end of file
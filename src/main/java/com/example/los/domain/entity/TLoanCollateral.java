@@ -9,7 +9,8 @@ import java.math.BigDecimal;
 @Getter
 @Setter
 @Entity
-@Table(name = "t_loan_collateral", schema = "public")
+@Table(name = "t_loan_collateral", schema = "public",
+        indexes = @Index(name = "idx_loan_collateral_application", columnList = "loan_application_id"))
 public class TLoanCollateral {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,7 +12,11 @@ import java.time.LocalDate;
 @Getter
 @Setter
 @Entity
-@Table(name = "t_loan_repayment_schedule", schema = "public")
+// The penalty sweep's partial index on unpaid installments is created by SchemaMigrations
+@Table(name = "t_loan_repayment_schedule", schema = "public",
+        indexes = {
+                @Index(name = "idx_repayment_schedule_application_due", columnList = "loan_application_id, due_date")
+        })
 public class TLoanRepaymentSchedule {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,11 @@
+package com.example.los.domain.lifecycle;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * The columns of a loan application that a status change reads before writing.
+ */
+public record ApplicationSnapshot(ApplicationStatus status, Long branchId, Long productId, BigDecimal loanAmount,
+                                  Instant createdAt) {
+}
@@ -0,0 +1,92 @@
+package com.example.los.domain.lifecycle;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lifecycle of a loan application and the transitions allowed between states.
+ *
+ * Each state holds its allowed targets as an EnumSet built once at class
+ * initialisation, so checking a transition is a bit test. The name of each
+ * constant is the code stored in t_loan_application.status_code.
+ */
+public enum ApplicationStatus {
+
+    DRAFT("Draft - Application being prepared"),
+    SUBMITTED("Submitted - Application submitted for review"),
+    UNDER_REVIEW("Under Review - Being evaluated by loan officer"),
+    REQUIRES_MORE_INFO("Requires More Information - Additional documents needed"),
+    APPROVED("Approved - Loan application approved"),
+    REJECTED("Rejected - Loan application rejected"),
+    DISBURSED("Disbursed - Loan amount disbursed to customer"),
+    ACTIVE("Active - Loan is active and repayments ongoing"),
+    CLOSED("Closed - Loan fully repaid"),
+    DEFAULTED("Defaulted - Loan in default"),
+    CANCELLED("Cancelled - Application cancelled by customer");
+
+    public static final String UNKNOWN_DESCRIPTION = "Unknown Status";
+
+    private static final Map<String, ApplicationStatus> BY_CODE = new HashMap<>();
+
+    static {
+        DRAFT.allow(SUBMITTED, CANCELLED);
+        SUBMITTED.allow(UNDER_REVIEW, CANCELLED);
+        UNDER_REVIEW.allow(APPROVED, REJECTED, REQUIRES_MORE_INFO);
+        REQUIRES_MORE_INFO.allow(UNDER_REVIEW, CANCELLED);
+        APPROVED.allow(DISBURSED, CANCELLED);
+        DISBURSED.allow(ACTIVE, CANCELLED);
+        ACTIVE.allow(CLOSED, DEFAULTED);
+        for (ApplicationStatus status : values()) {
+            BY_CODE.put(status.name(), status);
+        }
+    }
+
+    private final String description;
+    private Set<ApplicationStatus> targets = Collections.emptySet();
+
+    ApplicationStatus(String description) {
+        this.description = description;
+    }
+
+    private void allow(ApplicationStatus first, ApplicationStatus... rest) {
+        targets = Collections.unmodifiableSet(EnumSet.of(first, rest));
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean canTransitionTo(ApplicationStatus target) {
+        return targets.contains(target);
+    }
+
+    public Set<ApplicationStatus> allowedTargets() {
+        return targets;
+    }
+
+    public boolean isTerminal() {
+        return targets.isEmpty();
+    }
+
+    public static ApplicationStatus fromCode(String code) {
+        ApplicationStatus status = code != null ? BY_CODE.get(code) : null;
+        if (status == null && code != null) {
+            status = BY_CODE.get(code.trim().toUpperCase());
+        }
+        if (status == null) {
+            throw new IllegalArgumentException("Unknown loan application status: " + code);
+        }
+        return status;
+    }
+
+    /**
+     * Description of a stored status code, tolerating codes outside the lifecycle.
+     */
+    public static String describe(String code) {
+        ApplicationStatus status = code != null ? BY_CODE.get(code) : null;
+        return status != null ? status.description : UNKNOWN_DESCRIPTION;
+    }
+}
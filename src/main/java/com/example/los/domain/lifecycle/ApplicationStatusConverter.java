@@ -0,0 +1,21 @@
+package com.example.los.domain.lifecycle;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link ApplicationStatus} as its code in the existing varchar column.
+ */
+@Converter
+public class ApplicationStatusConverter implements AttributeConverter<ApplicationStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApplicationStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+    @Override
+    public ApplicationStatus convertToEntityAttribute(String code) {
+        return code != null ? ApplicationStatus.fromCode(code) : null;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.los.domain.lifecycle;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Status of one approval level. A PENDING approval is decided exactly once; the
+ * name of each constant is the code stored in t_loan_approval.decision_code.
+ */
+public enum ApprovalStatus {
+
+    PENDING,
+    APPROVED,
+    REJECTED,
+    MORE_INFO_NEEDED;
+
+    private static final Set<ApprovalStatus> DECISIONS = EnumSet.of(APPROVED, REJECTED, MORE_INFO_NEEDED);
+
+    public boolean canTransitionTo(ApprovalStatus target) {
+        return this == PENDING && DECISIONS.contains(target);
+    }
+
+    public boolean isDecision() {
+        return DECISIONS.contains(this);
+    }
+
+    public static ApprovalStatus fromCode(String code) {
+        if (code != null) {
+            for (ApprovalStatus status : values()) {
+                if (status.name().equalsIgnoreCase(code.trim())) {
+                    return status;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown approval status: " + code);
+    }
+}
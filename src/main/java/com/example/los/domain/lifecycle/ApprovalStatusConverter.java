@@ -0,0 +1,21 @@
+package com.example.los.domain.lifecycle;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores {@link ApprovalStatus} as its code in the existing varchar column.
+ */
+@Converter
+public class ApprovalStatusConverter implements AttributeConverter<ApprovalStatus, String> {
+
+    @Override
+    public String convertToDatabaseColumn(ApprovalStatus status) {
+        return status != null ? status.name() : null;
+    }
+
+    @Override
+    public ApprovalStatus convertToEntityAttribute(String code) {
+        return code != null ? ApprovalStatus.fromCode(code) : null;
+    }
+}
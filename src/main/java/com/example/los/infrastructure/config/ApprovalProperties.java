@@ -0,0 +1,87 @@
+package com.example.los.infrastructure.config;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Approval workflow settings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.approval")
+public class ApprovalProperties {
+
+    /**
+     * Approver queue page size when the caller does not ask for one.
+     */
+    private int defaultPageSize = 50;
+
+    /**
+     * Largest approver queue page a caller may ask for.
+     */
+    private int maxPageSize = 500;
+
+    /**
+     * How long a claimed approval stays with its approver before returning to the queue.
+     */
+    private Duration claimLease = Duration.ofMinutes(15);
+
+    /**
+     * Most approvals an approver may claim in one call.
+     */
+    private int maxClaimSize = 50;
+
+    /**
+     * Most approvals decided in one bulk decision request.
+     */
+    private int maxBulkDecisionSize = 500;
+
+    /**
+     * How often the approval chain is recompiled from cfg_approval_limit.
+     */
+    private Duration routingRefreshInterval = Duration.ofMinutes(5);
+
+    private AutoDecision autoDecision = new AutoDecision();
+
+    @Getter
+    @Setter
+    public static class AutoDecision {
+
+        /**
+         * Decide submitted applications automatically where the rules allow; otherwise all go to a human.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Largest amount approved automatically, further capped by the first approval level's limit.
+         */
+        private BigDecimal maxAmount = new BigDecimal("5000");
+
+        /**
+         * Most a customer may owe across committed loans, this one included, for automatic approval.
+         */
+        private BigDecimal maxCustomerExposure = new BigDecimal("20000");
+
+        /**
+         * Largest amount approved automatically without collateral.
+         */
+        private BigDecimal maxUnsecuredAmount = new BigDecimal("2000");
+
+        /**
+         * Highest loan-to-collateral-value ratio, in percent, approved automatically.
+         */
+        private BigDecimal maxLtvPercent = new BigDecimal("80");
+
+        /**
+         * Past-due unpaid installments on the customer's loans that reject outright; fewer go to a human.
+         */
+        private int rejectOverdueInstallments = 3;
+    }
+}
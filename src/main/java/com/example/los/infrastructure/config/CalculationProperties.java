@@ -0,0 +1,102 @@
+package com.example.los.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Calculation engine tuning loaded from application.properties or environment variables.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.calculation")
+public class CalculationProperties {
+
+    /**
+     * Longest tenure accepted by the EMI and schedule calculations; batch scenarios with a
+     * longer tenure are reported as scenario errors.
+     */
+    private int maxTenureMonths = 1_200;
+
+    private Batch batch = new Batch();
+
+    private FactorCache factorCache = new FactorCache();
+
+    private Simulation simulation = new Simulation();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * Worker threads for batch quote grids. Zero or less means one per available core.
+         */
+        private int parallelism = 0;
+
+        /**
+         * Largest scenario matrix (amounts x rates x tenures) accepted in one request.
+         */
+        private int maxScenarios = 10_000;
+
+        /**
+         * Most repayment schedule rows (the sum of scenario tenures) returned in one request
+         * when full schedules are asked for.
+         */
+        private int maxScheduleRows = 100_000;
+
+        /**
+         * Scenarios computed sequentially by a single fork-join task before it stops splitting.
+         */
+        private int splitThreshold = 64;
+    }
+
+    @Getter
+    @Setter
+    public static class FactorCache {
+
+        /**
+         * Total months of growth tables kept in memory (8 bytes each).
+         */
+        private long maxTabulatedMonths = 2_000_000;
+
+        /**
+         * Longest tenure that is tabulated; longer tenures are computed directly.
+         */
+        private int maxTabulatedTenure = 1_200;
+
+        /**
+         * How long a table is kept after it was built.
+         */
+        private Duration ttl = Duration.ofHours(6);
+    }
+
+    @Getter
+    @Setter
+    public static class Simulation {
+
+        /**
+         * Months of cached base-schedule opening balances kept in memory (8 bytes each).
+         */
+        private long maxCachedMonths = 1_000_000;
+
+        /**
+         * How long a base schedule stays cached after its last use, roughly one customer session.
+         */
+        private Duration ttl = Duration.ofMinutes(30);
+
+        /**
+         * Longest schedule a simulation may produce after tenure changes and payment holidays.
+         */
+        private int maxTenureMonths = 1_200;
+
+        /**
+         * Most events accepted in one simulation request.
+         */
+        private int maxEvents = 120;
+    }
+}
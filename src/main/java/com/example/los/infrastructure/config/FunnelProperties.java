@@ -0,0 +1,51 @@
+package com.example.los.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Application funnel counter settings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.funnel")
+public class FunnelProperties {
+
+    /**
+     * Prefix of the Redis keys holding the counters.
+     */
+    private String keyPrefix = "los:funnel";
+
+    /**
+     * How often this instance adds its counts to Redis; read directly by the scheduler.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long per-minute buckets are kept.
+     */
+    private Duration minuteRetention = Duration.ofHours(48);
+
+    /**
+     * How long per-hour buckets are kept. Older windows are counted in the database.
+     */
+    private Duration hourRetention = Duration.ofDays(35);
+
+    /**
+     * How often the recent buckets are rebuilt from t_loan_application; read directly by the scheduler.
+     */
+    private Duration reconcileInterval = Duration.ofMinutes(10);
+
+    /**
+     * How far back the rebuild reaches, widened to the start of the hour. Counts lost
+     * in that window, for example by an instance stopped before its last flush, are
+     * restored on the next rebuild.
+     */
+    private Duration reconcileWindow = Duration.ofHours(6);
+}
@@ -0,0 +1,53 @@
+package com.example.los.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Loan application intake, listing, status change and aggregate settings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.loan-application")
+public class LoanApplicationProperties {
+
+    /**
+     * Most applications accepted by one bulk intake request.
+     */
+    private int maxBulkSize = 1_000;
+
+    /**
+     * Node id embedded in application numbers, 0-9999. Must differ between instances.
+     * Required unless running with no profile or a local, dev or test profile, where 0 is used.
+     */
+    private Integer nodeId;
+
+    /**
+     * Listing page size when the caller does not ask for one.
+     */
+    private int defaultPageSize = 50;
+
+    /**
+     * Largest listing page a caller may ask for.
+     */
+    private int maxPageSize = 500;
+
+    /**
+     * Attempts at a conditional status change while the status keeps moving underneath it.
+     */
+    private int statusRetryAttempts = 3;
+
+    /**
+     * Whether the branch and status aggregates are checked nightly against t_loan_application.
+     */
+    private boolean aggregateReconcileEnabled = true;
+
+    /**
+     * Cron expression for that check; read directly by the scheduler.
+     */
+    private String aggregateReconcileCron = "0 0 2 * * *";
+}
@@ -0,0 +1,60 @@
+package com.example.los.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Outbox relay settings: which topics events go to and how t_outbox_event is drained.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Whether this instance relays events to Kafka. Events are recorded either way.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Pause between relay runs; read directly by the scheduler.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Events locked and published per transaction.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Full batches drained per run before yielding to the next poll.
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * How long a batch waits for broker acknowledgements before its unacknowledged events are retried.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Failed sends after which an event is parked: the relay skips it until its attempts
+     * are reset. Keeps a permanently failing event from being retried forever.
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * Topic of loan application status changes.
+     */
+    private String applicationTopic = "los.loan-application.status-changed";
+
+    /**
+     * Topic of approval decisions.
+     */
+    private String approvalTopic = "los.loan-approval.decided";
+}
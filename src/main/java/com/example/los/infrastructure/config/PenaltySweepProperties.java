@@ -0,0 +1,57 @@
+package com.example.los.infrastructure.config;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Nightly late-payment penalty sweep settings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.penalty-sweep")
+public class PenaltySweepProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Cron expression for the sweep; read directly by the scheduler.
+     */
+    private String cron = "0 30 1 * * *";
+
+    /**
+     * A run whose owner has not checkpointed for this long is taken over by the next
+     * instance that starts the sweep; must be well above the time to process one page.
+     */
+    private Duration claimTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Overdue installments read per keyset page.
+     */
+    private int pageSize = 5_000;
+
+    /**
+     * Worker threads; installments are partitioned across them by loan application id.
+     */
+    private int workers = 4;
+
+    /**
+     * Penalty updates per JDBC batch.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Days after the due date before an installment is penalised.
+     */
+    private int graceDays = 0;
+
+    private BigDecimal fixedPenalty = BigDecimal.ZERO;
+
+    private BigDecimal percentagePenalty = new BigDecimal("2.00");
+}
@@ -0,0 +1,37 @@
+package com.example.los.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Portfolio cash-flow projection settings.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.portfolio")
+public class PortfolioProperties {
+
+    /**
+     * Rows fetched per round trip from the active-loan cursor.
+     */
+    private int fetchSize = 5_000;
+
+    /**
+     * Loans handed to a worker at a time.
+     */
+    private int chunkSize = 2_048;
+
+    /**
+     * Worker threads for schedule generation. Zero or less means one per available core.
+     */
+    private int parallelism = 0;
+
+    /**
+     * Longest projection horizon accepted, in months.
+     */
+    private int maxHorizonMonths = 480;
+}
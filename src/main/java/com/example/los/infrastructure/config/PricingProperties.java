@@ -0,0 +1,49 @@
+package com.example.los.infrastructure.config;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Pricing configuration (cfg_* tables) held in memory.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.pricing")
+public class PricingProperties {
+
+    /**
+     * How often pricing configuration is reloaded from the database and swapped in.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * Most applications priced in one fee batch request.
+     */
+    private int maxFeeBatchSize = 10_000;
+
+    private Quote quote = new Quote();
+
+    @Getter
+    @Setter
+    public static class Quote {
+
+        /**
+         * Width of the amount ranges for which the candidate products and their rates are cached.
+         */
+        private BigDecimal amountBucket = new BigDecimal("100");
+
+        /**
+         * How long the candidate products of an amount range are served from cache.
+         */
+        private Duration cacheTtl = Duration.ofSeconds(60);
+
+        private long cacheMaxEntries = 10_000;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.los.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Persistence tuning for t_loan_repayment_schedule.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "app.repayment-schedule")
+public class RepaymentScheduleProperties {
+
+    /**
+     * Rows per JDBC batch when inserting a schedule.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Tenures of at least this many months are inserted on PostgreSQL with a single
+     * array-unnest statement instead of a JDBC batch.
+     */
+    private int bulkInsertThreshold = 120;
+}
@@ -0,0 +1,12 @@
+package com.example.los.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled batch jobs such as the nightly late-payment penalty sweep.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
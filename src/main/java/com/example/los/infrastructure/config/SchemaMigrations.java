@@ -0,0 +1,61 @@
+package com.example.los.infrastructure.config;
+
+import java.sql.Connection;
+import java.util.List;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL schema changes that hibernate.ddl-auto=update cannot express, such as
+ * moving a sequence past existing ids or partial indexes. Initialized after the entity manager factory, so they run once
+ * Hibernate has updated the schema and before the application serves requests. Every
+ * statement is idempotent and runs on every start.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class SchemaMigrations {
+
+    private static final List<String> STATEMENTS = List.of(
+            // Loan application ids moved from IDENTITY to the pooled sequence t_loan_application_seq
+            // (allocation 50), which Hibernate creates starting at 1. Hibernate hands out the 50 ids
+            // up to each value it draws, so the next value must be at least MAX(id) + 50.
+            """
+            SELECT setval('public.t_loan_application_seq', m.max_id + 50, false)
+            FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM public.t_loan_application) m,
+                 public.t_loan_application_seq s
+            WHERE m.max_id > 0
+              AND CASE WHEN s.is_called THEN s.last_value + 50 ELSE s.last_value END < m.max_id + 50
+            """,
+            // Penalty sweep pages unpaid installments in id order
+            """
+            CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_repayment_schedule_unpaid_id
+                ON public.t_loan_repayment_schedule (id)
+                WHERE payment_status_code IN ('PENDING', 'OVERDUE')
+            """);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaMigrations(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        Boolean postgres = jdbcTemplate.execute((Connection connection) ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        if (!Boolean.TRUE.equals(postgres)) {
+            log.info("Skipping schema migrations on a database other than PostgreSQL");
+            return;
+        }
+        for (String statement : STATEMENTS) {
+            jdbcTemplate.execute(statement);
+        }
+        log.info("Applied {} schema migrations", STATEMENTS.size());
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.los.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Checks the stored status codes before the entities read them through the enum converters.
+ * Codes that only differ in case or surrounding whitespace are rewritten to the enum name;
+ * any other code stops the start with the ids of the offending rows, instead of failing every
+ * query that happens to load one of them.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class StatusCodeMigration {
+
+    private static final int REPORTED_ROWS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatusCodeMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        List<String> problems = new ArrayList<>();
+        migrate("t_loan_application", "status_code", ApplicationStatus.values(), ApplicationStatus::fromCode, problems);
+        migrate("t_loan_approval", "decision_code", ApprovalStatus.values(), ApprovalStatus::fromCode, problems);
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Unknown status codes found; map them to a lifecycle status "
+                    + "before starting: " + String.join("; ", problems));
+        }
+    }
+
+    private <E extends Enum<E>> void migrate(String table, String column, E[] values, Function<String, E> fromCode,
+            List<String> problems) {
+        String known = Arrays.stream(values).map(value -> "'" + value.name() + "'").collect(Collectors.joining(", "));
+        // Only rows outside the enum names come back, so this stays small on a clean table
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, " + column + " AS code FROM " + table
+                        + " WHERE " + column + " IS NOT NULL AND " + column + " NOT IN (" + known + ") ORDER BY id");
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<String> unknown = new ArrayList<>();
+        int normalized = 0;
+        for (Map<String, Object> row : rows) {
+            String code = (String) row.get("code");
+            E status;
+            try {
+                status = fromCode.apply(code);
+            } catch (IllegalArgumentException e) {
+                unknown.add("id " + row.get("id") + " '" + code + "'");
+                continue;
+            }
+            normalized += jdbcTemplate.update(
+                    "UPDATE " + table + " SET " + column + " = ? WHERE id = ? AND " + column + " = ?",
+                    status.name(), row.get("id"), code);
+        }
+        if (normalized > 0) {
+            log.info("Normalized {} {}.{} values to their enum names", normalized, table, column);
+        }
+        if (!unknown.isEmpty()) {
+            problems.add(table + "." + column + " has " + unknown.size() + " rows: "
+                    + String.join(", ", unknown.subList(0, Math.min(unknown.size(), REPORTED_ROWS)))
+                    + (unknown.size() > REPORTED_ROWS ? ", ..." : ""));
+        }
+    }
+}
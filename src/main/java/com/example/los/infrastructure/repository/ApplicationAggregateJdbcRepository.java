@@ -0,0 +1,137 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads and writes t_application_aggregate, the per branch, product and status
+ * counters of t_loan_application.
+ *
+ * Changes are applied as deltas with INSERT ... ON CONFLICT DO UPDATE, inside the
+ * transaction that changed the applications, so a counter row is locked only
+ * until that transaction commits. Callers pass deltas in key order so two
+ * transactions touching the same rows cannot deadlock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApplicationAggregateJdbcRepository {
+
+    private static final String ADD_DELTA_SQL = """
+            INSERT INTO public.t_application_aggregate AS a
+                (branch_id, product_id, status_code, application_count, total_amount, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (branch_id, product_id, status_code) DO UPDATE
+            SET application_count = a.application_count + EXCLUDED.application_count,
+                total_amount = a.total_amount + EXCLUDED.total_amount,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT branch_id, product_id, status_code, application_count, total_amount
+            FROM public.t_application_aggregate
+            """;
+
+    // One statement, so the grouped scan and the counters come from the same snapshot
+    private static final String COMPARE_SQL = """
+            SELECT COALESCE(b.branch_id, a.branch_id) AS branch_id,
+                   COALESCE(b.product_id, a.product_id) AS product_id,
+                   COALESCE(b.status_code, a.status_code) AS status_code,
+                   COALESCE(b.application_count, 0) AS expected_count,
+                   COALESCE(b.total_amount, 0) AS expected_amount,
+                   COALESCE(a.application_count, 0) AS stored_count,
+                   COALESCE(a.total_amount, 0) AS stored_amount
+            FROM (
+                SELECT COALESCE(branch_id, 0) AS branch_id, COALESCE(product_id, 0) AS product_id, status_code,
+                       COUNT(*) AS application_count, COALESCE(SUM(loan_amount), 0) AS total_amount
+                FROM public.t_loan_application
+                WHERE status_code IS NOT NULL
+                GROUP BY 1, 2, 3
+            ) b
+            FULL OUTER JOIN public.t_application_aggregate a
+                ON a.branch_id = b.branch_id AND a.product_id = b.product_id AND a.status_code = b.status_code
+            """;
+
+    // Only other reconciliations take this lock; counter writers never wait for it
+    private static final String RECONCILIATION_LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(hashtext('t_application_aggregate'))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void addDeltas(List<AggregateRow> deltas) {
+        write(ADD_DELTA_SQL, deltas);
+    }
+
+    public List<AggregateRow> findByBranch(long branchId) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE branch_id = ? AND application_count <> 0\n"
+                + "ORDER BY status_code, product_id", ApplicationAggregateJdbcRepository::mapRow, branchId);
+    }
+
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM public.t_application_aggregate)", Boolean.class));
+    }
+
+    /**
+     * Every counter key with its value recomputed from t_loan_application next to the
+     * stored one, read with one grouped scan. Keys missing on either side read as zero.
+     */
+    public List<CounterComparison> compareWithBaseTable() {
+        return jdbcTemplate.query(COMPARE_SQL, (rs, rowNum) -> new CounterComparison(
+                rs.getLong("branch_id"),
+                rs.getLong("product_id"),
+                rs.getString("status_code"),
+                rs.getLong("expected_count"),
+                rs.getBigDecimal("expected_amount"),
+                rs.getLong("stored_count"),
+                rs.getBigDecimal("stored_amount")));
+    }
+
+    /**
+     * Serializes reconciliations until the current transaction ends, so two of them
+     * never apply the same correction twice. Counter writes are not blocked.
+     */
+    public void lockForReconciliation() {
+        jdbcTemplate.queryForObject(RECONCILIATION_LOCK_SQL, Object.class);
+    }
+
+    private void write(String sql, List<AggregateRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.branchId());
+            ps.setLong(2, row.productId());
+            ps.setString(3, row.statusCode());
+            ps.setLong(4, row.applicationCount());
+            ps.setBigDecimal(5, row.totalAmount());
+            ps.setTimestamp(6, now);
+        });
+    }
+
+    private static AggregateRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new AggregateRow(
+                rs.getLong("branch_id"),
+                rs.getLong("product_id"),
+                rs.getString("status_code"),
+                rs.getLong("application_count"),
+                rs.getBigDecimal("total_amount"));
+    }
+
+    public record AggregateRow(long branchId, long productId, String statusCode, long applicationCount,
+                               BigDecimal totalAmount) {
+    }
+
+    public record CounterComparison(long branchId, long productId, String statusCode, long expectedCount,
+                                    BigDecimal expectedAmount, long storedCount, BigDecimal storedAmount) {
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.los.infrastructure.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Set-based writes to t_loan_approval for deciding many approvals at once.
+ *
+ * Rows are locked in id order before they are validated, so two bulk decisions
+ * over overlapping ids cannot deadlock and a single decision racing a bulk one
+ * waits for it and then finds the row already decided. Decisions are written
+ * with one batched conditional UPDATE and new approvals with one batched INSERT.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalBatchJdbcRepository {
+
+    private static final String LOCK_SQL = """
+            SELECT id, loan_application_id, approval_level, decision_code, claimed_by, claim_expires_at
+            FROM public.t_loan_approval
+            WHERE id = ANY(?)
+            ORDER BY id
+            FOR UPDATE
+            """;
+
+    private static final String DECIDE_SQL = """
+            UPDATE public.t_loan_approval
+            SET decision_code = ?, approved_at = ?, approved_by = ?, remark = ?, version = version + 1
+            WHERE id = ? AND decision_code = ?
+              AND (claimed_by IS NULL OR claimed_by = ? OR claim_expires_at <= ?)
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO public.t_loan_approval
+                (loan_application_id, approval_level, approver_role, decision_code, remark,
+                 created_at, created_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Locks the approvals with these ids until the transaction ends and returns
+     * them in id order; ids without a row are left out.
+     */
+    public List<LockedApproval> lockByIds(Collection<Long> approvalIds) {
+        if (approvalIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(LOCK_SQL);
+            ps.setArray(1, connection.createArrayOf("int8", approvalIds.toArray()));
+            return ps;
+        }, (rs, rowNum) -> {
+            Timestamp claimExpiresAt = rs.getTimestamp("claim_expires_at");
+            return new LockedApproval(
+                    rs.getLong("id"),
+                    rs.getObject("loan_application_id", Long.class),
+                    rs.getObject("approval_level", Integer.class),
+                    rs.getString("decision_code"),
+                    rs.getString("claimed_by"),
+                    claimExpiresAt != null ? claimExpiresAt.toInstant() : null);
+        });
+    }
+
+    /**
+     * Records each decision if its approval is still in expectedStatusCode and
+     * not claimed by another approver. Returns whether each decision was
+     * written, in order; a driver that does not report row counts reports none
+     * as written.
+     */
+    public boolean[] decideIfCurrent(List<DecisionUpdate> decisions, String expectedStatusCode) {
+        if (decisions.isEmpty()) {
+            return new boolean[0];
+        }
+        int[] counts = jdbcTemplate.batchUpdate(DECIDE_SQL, decisions, decisions.size(), (ps, decision) -> {
+            Timestamp decidedAt = Timestamp.from(decision.decidedAt());
+            ps.setString(1, decision.statusCode());
+            ps.setTimestamp(2, decidedAt);
+            ps.setString(3, decision.decidedBy());
+            ps.setString(4, decision.remarks());
+            ps.setLong(5, decision.approvalId());
+            ps.setString(6, expectedStatusCode);
+            ps.setString(7, decision.decidedBy());
+            ps.setTimestamp(8, decidedAt);
+        })[0];
+        boolean[] written = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            // Only a reported single-row update counts; SUCCESS_NO_INFO (-2) could hide a skipped row
+            written[i] = counts[i] == 1;
+        }
+        return written;
+    }
+
+    public void insertAll(List<NewApproval> approvals) {
+        if (approvals.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, approvals, approvals.size(), (ps, approval) -> {
+            ps.setLong(1, approval.loanApplicationId());
+            ps.setInt(2, approval.approvalLevel());
+            ps.setString(3, approval.approverRole());
+            ps.setString(4, approval.statusCode());
+            ps.setString(5, approval.remarks());
+            ps.setTimestamp(6, Timestamp.from(approval.createdAt()));
+            ps.setString(7, approval.createdBy());
+        });
+    }
+
+    public record LockedApproval(long id, Long loanApplicationId, Integer approvalLevel, String statusCode,
+                                 String claimedBy, Instant claimExpiresAt) {
+    }
+
+    public record DecisionUpdate(long approvalId, String statusCode, Instant decidedAt, String decidedBy,
+                                 String remarks) {
+    }
+
+    public record NewApproval(long loanApplicationId, int approvalLevel, String approverRole, String statusCode,
+                              String remarks, Instant createdAt, String createdBy) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.los.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.los.domain.policy.CfgApprovalLimit;
+
+@Repository
+public interface ApprovalLimitRepository extends JpaRepository<CfgApprovalLimit, Long> {
+}
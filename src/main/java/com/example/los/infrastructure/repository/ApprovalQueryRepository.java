@@ -0,0 +1,192 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Approvals joined with their loan application in one query.
+ *
+ * Approver queues are keyset-paginated oldest first on (created_at, id) and
+ * served by idx_loan_approval_queue on t_loan_approval; the approval history of
+ * an application is read by loan_application_id. Only the columns of
+ * {@link ApprovalRow} are read.
+ *
+ * Approvers take work from a queue by claiming it: the oldest unclaimed or
+ * expired rows are locked with FOR UPDATE SKIP LOCKED and leased to the
+ * approver in one statement, so concurrent claims never block on or hand out
+ * the same row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ApprovalQueryRepository {
+
+    private static final String COLUMNS = """
+            SELECT a.id, a.loan_application_id, a.approval_level, a.approver_role, a.decision_code, a.remark,
+                   a.created_at, a.created_by, a.approved_at, a.approved_by, a.claimed_by, a.claim_expires_at,
+                   l.status_code AS application_status, l.loan_amount, l.branch_id
+            """;
+
+    private static final String QUEUE_SQL = COLUMNS + """
+            FROM public.t_loan_approval a
+            JOIN public.t_loan_application l ON l.id = a.loan_application_id
+            WHERE a.approver_role = ?
+              AND a.decision_code = ?
+              AND a.created_at IS NOT NULL
+            """;
+
+    private static final String HISTORY_SQL = COLUMNS + """
+            FROM public.t_loan_approval a
+            JOIN public.t_loan_application l ON l.id = a.loan_application_id
+            WHERE a.loan_application_id = ?
+            ORDER BY a.id
+            """;
+
+    private static final String BY_IDS_SQL = COLUMNS + """
+            FROM public.t_loan_approval a
+            JOIN public.t_loan_application l ON l.id = a.loan_application_id
+            WHERE a.id = ANY(?)
+            ORDER BY a.created_at, a.id
+            """;
+
+    private static final String CLAIM_CANDIDATES_SQL = """
+            SELECT a.id
+            FROM public.t_loan_approval a
+            JOIN public.t_loan_application l ON l.id = a.loan_application_id
+            WHERE a.approver_role = ?
+              AND a.decision_code = ?
+              AND a.created_at IS NOT NULL
+              AND (a.claimed_by IS NULL OR a.claim_expires_at <= ?)
+            """;
+
+    private static final String RELEASE_SQL = """
+            UPDATE public.t_loan_approval
+            SET claimed_by = NULL, claim_expires_at = NULL, version = version + 1
+            WHERE id = ? AND decision_code = ? AND claimed_by = ? AND claim_expires_at > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to limit approvals of a role in a status, oldest first, starting after
+     * the given key (both null for the first page). A branchId limits the queue
+     * to that branch's applications.
+     */
+    public List<ApprovalRow> findQueuePage(String approverRole, String statusCode, Long branchId,
+                                           Instant afterCreatedAt, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(QUEUE_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(approverRole);
+        args.add(statusCode);
+        if (branchId != null) {
+            sql.append("  AND l.branch_id = ?\n");
+            args.add(branchId);
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append("  AND (a.created_at, a.id) > (?, ?)\n");
+            args.add(Timestamp.from(afterCreatedAt));
+            args.add(afterId);
+        }
+        sql.append("ORDER BY a.created_at, a.id\nLIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), ApprovalQueryRepository::mapRow, args.toArray());
+    }
+
+    /**
+     * All approvals of an application in the order they were created.
+     */
+    public List<ApprovalRow> findByLoanApplicationId(long loanApplicationId) {
+        return jdbcTemplate.query(HISTORY_SQL, ApprovalQueryRepository::mapRow, loanApplicationId);
+    }
+
+    /**
+     * Leases up to limit of the oldest approvals of a role in a status that
+     * nobody holds, or whose lease expired at now, to claimedBy until expiresAt.
+     * Rows locked by a concurrent claim are skipped. Returns the claimed ids.
+     */
+    public List<Long> claimNext(String approverRole, String statusCode, Long branchId, String claimedBy,
+                                Instant now, Instant expiresAt, int limit) {
+        StringBuilder candidates = new StringBuilder(CLAIM_CANDIDATES_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(claimedBy);
+        args.add(Timestamp.from(expiresAt));
+        args.add(approverRole);
+        args.add(statusCode);
+        args.add(Timestamp.from(now));
+        if (branchId != null) {
+            candidates.append("  AND l.branch_id = ?\n");
+            args.add(branchId);
+        }
+        candidates.append("ORDER BY a.created_at, a.id\nLIMIT ?\nFOR UPDATE OF a SKIP LOCKED");
+        args.add(limit);
+
+        String sql = "UPDATE public.t_loan_approval\n"
+                + "SET claimed_by = ?, claim_expires_at = ?, version = version + 1\n"
+                + "WHERE id IN (" + candidates + ")\n"
+                + "RETURNING id";
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    /**
+     * Gives a claimed approval in a status back to the queue. Returns false when
+     * claimedBy does not hold an unexpired claim on it.
+     */
+    public boolean release(long approvalId, String statusCode, String claimedBy, Instant now) {
+        return jdbcTemplate.update(RELEASE_SQL, approvalId, statusCode, claimedBy, Timestamp.from(now)) == 1;
+    }
+
+    /**
+     * The approvals with these ids, oldest first.
+     */
+    public List<ApprovalRow> findByIds(List<Long> approvalIds) {
+        if (approvalIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(BY_IDS_SQL);
+            ps.setArray(1, connection.createArrayOf("int8", approvalIds.toArray()));
+            return ps;
+        }, ApprovalQueryRepository::mapRow);
+    }
+
+    private static ApprovalRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new ApprovalRow(
+                rs.getLong("id"),
+                rs.getObject("loan_application_id", Long.class),
+                rs.getObject("approval_level", Integer.class),
+                rs.getString("approver_role"),
+                rs.getString("decision_code"),
+                rs.getString("remark"),
+                toInstant(rs.getTimestamp("created_at")),
+                rs.getString("created_by"),
+                toInstant(rs.getTimestamp("approved_at")),
+                rs.getString("approved_by"),
+                rs.getString("claimed_by"),
+                toInstant(rs.getTimestamp("claim_expires_at")),
+                rs.getString("application_status"),
+                rs.getBigDecimal("loan_amount"),
+                rs.getObject("branch_id", Long.class));
+    }
+
+    private static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+
+    public record ApprovalRow(long id, Long loanApplicationId, Integer approvalLevel, String approverRole,
+                              String statusCode, String remarks, Instant createdAt, String createdBy,
+                              Instant approvedAt, String approvedBy, String claimedBy, Instant claimExpiresAt,
+                              String applicationStatusCode,
+                              BigDecimal loanAmount, Long branchId) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.los.infrastructure.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.los.domain.entity.TBatchCheckpoint;
+
+/**
+ * Checkpoints of restartable batch jobs, one row per job and run date. A run is
+ * owned by whoever claimed it last; progress and the final status are only
+ * written while the writer still owns the row, so instances firing the same
+ * schedule cannot overwrite each other.
+ */
+@Repository
+public interface BatchCheckpointRepository extends JpaRepository<TBatchCheckpoint, Long> {
+    
+    Optional<TBatchCheckpoint> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+    
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO public.t_batch_checkpoint " +
+                   "(job_name, run_date, last_processed_id, processed_count, started_at, updated_at) " +
+                   "VALUES (:jobName, :runDate, 0, 0, :now, :now) " +
+                   "ON CONFLICT (job_name, run_date) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName,
+                       @Param("runDate") LocalDate runDate,
+                       @Param("now") Instant now);
+    
+    // Takes over a run that is not completed and has no owner, or whose owner stopped reporting progress
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TBatchCheckpoint c SET c.ownerId = :ownerId, c.statusCode = :statusCode, " +
+           "c.heartbeatAt = :now, c.updatedAt = :now " +
+           "WHERE c.jobName = :jobName AND c.runDate = :runDate " +
+           "AND (c.statusCode IS NULL OR c.statusCode <> :completedStatusCode) " +
+           "AND (c.ownerId IS NULL OR c.heartbeatAt IS NULL OR c.heartbeatAt < :staleBefore)")
+    int claim(@Param("jobName") String jobName,
+              @Param("runDate") LocalDate runDate,
+              @Param("ownerId") String ownerId,
+              @Param("statusCode") String statusCode,
+              @Param("completedStatusCode") String completedStatusCode,
+              @Param("now") Instant now,
+              @Param("staleBefore") Instant staleBefore);
+    
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TBatchCheckpoint c SET c.lastProcessedId = :lastProcessedId, " +
+           "c.processedCount = :processedCount, c.heartbeatAt = :now, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.ownerId = :ownerId")
+    int recordProgress(@Param("id") Long id,
+                       @Param("ownerId") String ownerId,
+                       @Param("lastProcessedId") Long lastProcessedId,
+                       @Param("processedCount") Long processedCount,
+                       @Param("now") Instant now);
+    
+    // Sets the final status and gives up ownership so the run can be claimed again
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TBatchCheckpoint c SET c.statusCode = :statusCode, c.ownerId = NULL, c.updatedAt = :now " +
+           "WHERE c.id = :id AND c.ownerId = :ownerId")
+    int release(@Param("id") Long id,
+                @Param("ownerId") String ownerId,
+                @Param("statusCode") String statusCode,
+                @Param("now") Instant now);
+}
@@ -0,0 +1,66 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Everything the auto-decision rules need about an application, read in one
+ * query: its product limits, its collateral, the customer's other committed
+ * loans and their unpaid past-due installments.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DecisionFactsRepository {
+
+    private static final String FACTS_SQL = """
+            SELECT l.loan_amount, p.status_code AS product_status, p.min_amount, p.max_amount,
+                   (SELECT COALESCE(SUM(c.collateral_value), 0)
+                    FROM public.t_loan_collateral c
+                    WHERE c.loan_application_id = l.id) AS collateral_value,
+                   (SELECT COALESCE(SUM(o.loan_amount), 0)
+                    FROM public.t_loan_application o
+                    WHERE o.customer_id = l.customer_id AND o.id <> l.id
+                      AND o.status_code IN ('APPROVED', 'DISBURSED', 'ACTIVE', 'DEFAULTED')) AS customer_exposure,
+                   (SELECT COUNT(*)
+                    FROM public.t_loan_repayment_schedule s
+                    JOIN public.t_loan_application o ON o.id = s.loan_application_id
+                    WHERE o.customer_id = l.customer_id AND o.id <> l.id
+                      AND s.due_date < ? AND s.payment_status_code IN ('PENDING', 'OVERDUE')) AS overdue_installments
+            FROM public.t_loan_application l
+            LEFT JOIN public.m_product p ON p.id = l.product_id
+            WHERE l.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Facts of an application as of a day; empty when there is no such application.
+     */
+    public Optional<ApplicationFacts> findFacts(long loanApplicationId, LocalDate asOf) {
+        List<ApplicationFacts> facts = jdbcTemplate.query(FACTS_SQL, (rs, rowNum) -> new ApplicationFacts(
+                rs.getBigDecimal("loan_amount"),
+                rs.getString("product_status"),
+                rs.getBigDecimal("min_amount"),
+                rs.getBigDecimal("max_amount"),
+                rs.getBigDecimal("collateral_value"),
+                rs.getBigDecimal("customer_exposure"),
+                rs.getInt("overdue_installments")), Date.valueOf(asOf), loanApplicationId);
+        return facts.stream().findFirst();
+    }
+
+    /**
+     * Product columns are null when the application has no product.
+     */
+    public record ApplicationFacts(BigDecimal loanAmount, String productStatus, BigDecimal productMinAmount,
+                                   BigDecimal productMaxAmount, BigDecimal collateralValue,
+                                   BigDecimal customerExposure, int overdueInstallments) {
+    }
+}
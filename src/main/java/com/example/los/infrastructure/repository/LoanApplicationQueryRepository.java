@@ -0,0 +1,100 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keyset-paginated listing of loan applications.
+ *
+ * Pages are ordered newest first on (created_at, id) and continue strictly after
+ * the last row of the previous page, so every page costs the same however deep
+ * the caller has scrolled. Only the columns of {@link ApplicationSummary} are
+ * read, never the whole entity. Each equality filter has a composite index
+ * ending in (created_at, id) on t_loan_application that serves both the filter
+ * and the ordering; amount and date ranges are applied on top of it. Rows
+ * without created_at cannot be placed on the key and are not listed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoanApplicationQueryRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT id, application_no, customer_id, product_id, branch_id, loan_amount,
+                   tenure_month, status_code, created_at
+            FROM public.t_loan_application
+            WHERE created_at IS NOT NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Up to limit applications matching the filter, starting after the given key
+     * (both null for the first page).
+     */
+    public List<ApplicationSummary> findPage(ListingFilter filter, Instant afterCreatedAt, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        condition(sql, args, "status_code = ?", filter.statusCode());
+        condition(sql, args, "customer_id = ?", filter.customerId());
+        condition(sql, args, "branch_id = ?", filter.branchId());
+        condition(sql, args, "product_id = ?", filter.productId());
+        condition(sql, args, "loan_amount >= ?", filter.minAmount());
+        condition(sql, args, "loan_amount <= ?", filter.maxAmount());
+        condition(sql, args, "created_at >= ?", filter.createdFrom() != null ? Timestamp.from(filter.createdFrom()) : null);
+        condition(sql, args, "created_at < ?", filter.createdTo() != null ? Timestamp.from(filter.createdTo()) : null);
+        if (afterCreatedAt != null && afterId != null) {
+            sql.append("  AND (created_at, id) < (?, ?)\n");
+            args.add(Timestamp.from(afterCreatedAt));
+            args.add(afterId);
+        }
+        sql.append("ORDER BY created_at DESC, id DESC\nLIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), LoanApplicationQueryRepository::mapSummary, args.toArray());
+    }
+
+    private static void condition(StringBuilder sql, List<Object> args, String predicate, Object value) {
+        if (value != null) {
+            sql.append("  AND ").append(predicate).append('\n');
+            args.add(value);
+        }
+    }
+
+    private static ApplicationSummary mapSummary(ResultSet rs, int rowNum) throws SQLException {
+        return new ApplicationSummary(
+                rs.getLong("id"),
+                rs.getString("application_no"),
+                rs.getObject("customer_id", Long.class),
+                rs.getObject("product_id", Long.class),
+                rs.getObject("branch_id", Long.class),
+                rs.getBigDecimal("loan_amount"),
+                rs.getObject("tenure_month", Integer.class),
+                rs.getString("status_code"),
+                rs.getTimestamp("created_at").toInstant());
+    }
+
+    /**
+     * Optional listing criteria; null fields are not filtered on. createdTo is exclusive.
+     */
+    public record ListingFilter(String statusCode, Long customerId, Long branchId, Long productId,
+                                BigDecimal minAmount, BigDecimal maxAmount, Instant createdFrom, Instant createdTo) {
+    }
+
+    /**
+     * The columns of a loan application shown in listings.
+     */
+    public record ApplicationSummary(long id, String applicationNo, Long customerId, Long productId, Long branchId,
+                                     BigDecimal loanAmount, Integer tenureMonth, String statusCode,
+                                     Instant createdAt) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.example.los.infrastructure.repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.lifecycle.ApplicationSnapshot;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface LoanApplicationRepository extends JpaRepository<TLoanApplication, Long> {
@@ -19,19 +27,19 @@ public interface LoanApplicationRepository extends JpaRepository<TLoanApplicatio
     
     List<TLoanApplication> findByBranchId(Long branchId);
     
-    List<TLoanApplication> findByStatusCode(String statusCode);
+    List<TLoanApplication> findByStatusCode(ApplicationStatus statusCode);
     
     @Query("SELECT la FROM TLoanApplication la WHERE la.customerId = :customerId AND la.statusCode = :statusCode")
     List<TLoanApplication> findByCustomerIdAndStatusCode(@Param("customerId") Long customerId, 
-                                                        @Param("statusCode") String statusCode);
+                                                        @Param("statusCode") ApplicationStatus statusCode);
     
     @Query("SELECT la FROM TLoanApplication la WHERE la.productId = :productId AND la.statusCode = :statusCode")
     List<TLoanApplication> findByProductIdAndStatusCode(@Param("productId") Long productId, 
-                                                       @Param("statusCode") String statusCode);
+                                                       @Param("statusCode") ApplicationStatus statusCode);
     
     @Query("SELECT COUNT(la) FROM TLoanApplication la WHERE la.branchId = :branchId AND la.statusCode = :statusCode")
     long countByBranchIdAndStatusCode(@Param("branchId") Long branchId, 
-                                     @Param("statusCode") String statusCode);
+                                     @Param("statusCode") ApplicationStatus statusCode);
     
     @Query("SELECT la FROM TLoanApplication la WHERE la.loanAmount BETWEEN :minAmount AND :maxAmount")
     List<TLoanApplication> findByAppliedAmountBetween(@Param("minAmount") Double minAmount,
@@ -44,10 +52,59 @@ public interface LoanApplicationRepository extends JpaRepository<TLoanApplicatio
     @Query("SELECT la FROM TLoanApplication la WHERE la.customerId = :customerId ORDER BY la.createdAt DESC")
     List<TLoanApplication> findLatestByCustomerId(@Param("customerId") Long customerId);
     
-    @Query("SELECT SUM(la.loanAmount) FROM TLoanApplication la WHERE la.branchId = :branchId AND la.statusCode = 'APPROVED'")
-    Optional<Double> sumApprovedAmountByBranch(@Param("branchId") Long branchId);
+    @Query("SELECT SUM(la.loanAmount) FROM TLoanApplication la WHERE la.branchId = :branchId AND la.statusCode = :statusCode")
+    Optional<BigDecimal> sumAmountByBranchAndStatus(@Param("branchId") Long branchId,
+                                                   @Param("statusCode") ApplicationStatus statusCode);
+    
+    default Optional<BigDecimal> sumApprovedAmountByBranch(Long branchId) {
+        return sumAmountByBranchAndStatus(branchId, ApplicationStatus.APPROVED);
+    }
     
     @Query("SELECT COUNT(la) FROM TLoanApplication la WHERE la.statusCode = :statusCode AND la.createdAt >= :startDate")
-    long countByStatusCodeSinceDate(@Param("statusCode") String statusCode, 
+    long countByStatusCodeSinceDate(@Param("statusCode") ApplicationStatus statusCode, 
                                    @Param("startDate") java.time.Instant startDate);
+    
+    // Highest application number at or above issuedFrom matching the LIKE pattern; served from idx_loan_application_no
+    @Query("SELECT MAX(la.applicationNo) FROM TLoanApplication la " +
+           "WHERE la.applicationNo >= :issuedFrom AND la.applicationNo LIKE :pattern")
+    Optional<String> findLatestApplicationNo(@Param("issuedFrom") String issuedFrom, @Param("pattern") String pattern);
+    
+    // Empty when there is no such row
+    @Query("SELECT new com.example.los.domain.lifecycle.ApplicationSnapshot(la.statusCode, la.branchId, " +
+           "la.productId, la.loanAmount, la.createdAt) FROM TLoanApplication la WHERE la.id = :id")
+    Optional<ApplicationSnapshot> findSnapshotById(@Param("id") Long id);
+    
+    // Applications created in [from, until), for rebuilding the funnel counters of that window
+    @Query("SELECT new com.example.los.domain.lifecycle.ApplicationSnapshot(la.statusCode, la.branchId, " +
+           "la.productId, la.loanAmount, la.createdAt) FROM TLoanApplication la " +
+           "WHERE la.createdAt >= :from AND la.createdAt < :until AND la.statusCode IS NOT NULL")
+    List<ApplicationSnapshot> findSnapshotsCreatedBetween(@Param("from") java.time.Instant from,
+                                                          @Param("until") java.time.Instant until);
+    
+    // Locked until the transaction ends; taken in id order so concurrent callers cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT la FROM TLoanApplication la WHERE la.id IN :ids ORDER BY la.id")
+    List<TLoanApplication> lockAllById(@Param("ids") Collection<Long> ids);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TLoanApplication la SET la.statusCode = :newStatus, la.version = la.version + 1 " +
+           "WHERE la.id IN :ids AND la.statusCode = :expectedStatus")
+    int updateStatusesIfCurrent(@Param("ids") Collection<Long> ids,
+                                @Param("expectedStatus") ApplicationStatus expectedStatus,
+                                @Param("newStatus") ApplicationStatus newStatus);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TLoanApplication la SET la.statusCode = :newStatus, la.version = la.version + 1 " +
+           "WHERE la.id = :id AND la.statusCode = :expectedStatus")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("expectedStatus") ApplicationStatus expectedStatus,
+                              @Param("newStatus") ApplicationStatus newStatus);
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TLoanApplication la SET la.statusCode = :newStatus, la.loanAmount = :loanAmount, " +
+           "la.version = la.version + 1 WHERE la.id = :id AND la.statusCode = :expectedStatus")
+    int updateStatusAndAmountIfCurrent(@Param("id") Long id,
+                                       @Param("expectedStatus") ApplicationStatus expectedStatus,
+                                       @Param("newStatus") ApplicationStatus newStatus,
+                                       @Param("loanAmount") BigDecimal loanAmount);
 }
\ No newline at end of file
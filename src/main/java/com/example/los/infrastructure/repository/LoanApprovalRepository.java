@@ -1,29 +1,64 @@
 package com.example.los.infrastructure.repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.los.domain.entity.TLoanApproval;
+import com.example.los.domain.lifecycle.ApprovalStatus;
 
 @Repository
 public interface LoanApprovalRepository extends JpaRepository<TLoanApproval, Long> {
     
     List<TLoanApproval> findByLoanApplicationId(Long loanApplicationId);
     
-    List<TLoanApproval> findByLoanApplicationIdAndStatus(Long loanApplicationId, String status);
+    List<TLoanApproval> findByLoanApplicationIdAndStatus(Long loanApplicationId, ApprovalStatus status);
     
-    List<TLoanApproval> findByApproverRoleAndStatus(String approverRole, String status);
+    List<TLoanApproval> findByApproverRoleAndStatus(String approverRole, ApprovalStatus status);
     
     @Query("SELECT la FROM TLoanApproval la WHERE la.loanApplicationId = :loanApplicationId ORDER BY la.createdAt DESC")
     List<TLoanApproval> findLatestByLoanApplicationId(@Param("loanApplicationId") Long loanApplicationId);
     
-    @Query("SELECT la FROM TLoanApproval la WHERE la.approverRole = :approverRole AND la.status = 'PENDING' ORDER BY la.createdAt ASC")
-    List<TLoanApproval> findPendingByApproverRole(@Param("approverRole") String approverRole);
+    @Query("SELECT la FROM TLoanApproval la WHERE la.approverRole = :approverRole AND la.status = :status ORDER BY la.createdAt ASC")
+    List<TLoanApproval> findByApproverRoleAndStatusOldestFirst(@Param("approverRole") String approverRole,
+                                                               @Param("status") ApprovalStatus status);
     
-    @Query("SELECT COUNT(la) FROM TLoanApproval la WHERE la.loanApplicationId = :loanApplicationId AND la.status = 'APPROVED'")
-    long countApprovedByLoanApplicationId(@Param("loanApplicationId") Long loanApplicationId);
+    default List<TLoanApproval> findPendingByApproverRole(String approverRole) {
+        return findByApproverRoleAndStatusOldestFirst(approverRole, ApprovalStatus.PENDING);
+    }
+    
+    @Query("SELECT COUNT(la) FROM TLoanApproval la WHERE la.loanApplicationId = :loanApplicationId AND la.status = :status")
+    long countByLoanApplicationIdAndStatus(@Param("loanApplicationId") Long loanApplicationId,
+                                           @Param("status") ApprovalStatus status);
+    
+    default long countApprovedByLoanApplicationId(Long loanApplicationId) {
+        return countByLoanApplicationIdAndStatus(loanApplicationId, ApprovalStatus.APPROVED);
+    }
+    
+    // Empty when there is no such row or it has no status
+    @Query("SELECT la.status FROM TLoanApproval la WHERE la.id = :id")
+    Optional<ApprovalStatus> findStatusById(@Param("id") Long id);
+    
+    // Empty when nobody holds an unexpired claim on the row
+    @Query("SELECT la.claimedBy FROM TLoanApproval la WHERE la.id = :id AND la.claimExpiresAt > :now")
+    Optional<String> findActiveClaimHolder(@Param("id") Long id, @Param("now") Instant now);
+    
+    // Another approver's unexpired claim keeps the row from being decided
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TLoanApproval la SET la.status = :decision, la.approvedAt = :decidedAt, " +
+           "la.approvedBy = :decidedBy, la.remarks = :remarks, la.version = la.version + 1 " +
+           "WHERE la.id = :id AND la.status = :expectedStatus " +
+           "AND (la.claimedBy IS NULL OR la.claimedBy = :decidedBy OR la.claimExpiresAt <= :decidedAt)")
+    int decideIfCurrent(@Param("id") Long id,
+                        @Param("expectedStatus") ApprovalStatus expectedStatus,
+                        @Param("decision") ApprovalStatus decision,
+                        @Param("decidedAt") Instant decidedAt,
+                        @Param("decidedBy") String decidedBy,
+                        @Param("remarks") String remarks);
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.example.los.infrastructure.repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Relay-side access to t_outbox_event.
+ *
+ * Events are claimed oldest first with FOR UPDATE SKIP LOCKED, so several relay
+ * instances drain disjoint batches without waiting on each other. The row locks
+ * last until the caller's transaction ends; published rows are deleted in that
+ * transaction and failed rows are left for the next poll until they reach the
+ * attempt limit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private static final int MAX_ERROR_LENGTH = 1_000;
+
+    private static final String LOCK_BATCH_SQL = """
+            SELECT id, aggregate_id, event_type, topic, payload, attempts
+            FROM public.t_outbox_event
+            WHERE attempts < ?
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM public.t_outbox_event
+            WHERE id = ANY(?)
+            """;
+
+    private static final String RECORD_FAILURE_SQL = """
+            UPDATE public.t_outbox_event
+            SET attempts = attempts + 1, last_error = ?
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Locks and returns up to limit pending events not locked by another relay.
+     * Events that already failed maxAttempts times are parked and not returned.
+     */
+    public List<OutboxRecord> lockNextBatch(int limit, int maxAttempts) {
+        return jdbcTemplate.query(LOCK_BATCH_SQL, (rs, rowNum) -> new OutboxRecord(
+                        rs.getLong("id"),
+                        rs.getLong("aggregate_id"),
+                        rs.getString("event_type"),
+                        rs.getString("topic"),
+                        rs.getString("payload"),
+                        rs.getInt("attempts")),
+                maxAttempts, limit);
+    }
+
+    public int deleteByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(DELETE_SQL);
+            ps.setArray(1, connection.createArrayOf("int8", ids.toArray()));
+            return ps;
+        });
+    }
+
+    public void recordFailures(List<SendFailure> failures) {
+        if (failures.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(RECORD_FAILURE_SQL, failures, failures.size(), (ps, failure) -> {
+            String error = failure.error();
+            ps.setString(1, error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            ps.setLong(2, failure.id());
+        });
+    }
+
+    public record OutboxRecord(long id, long aggregateId, String eventType, String topic, String payload,
+                               int attempts) {
+    }
+
+    public record SendFailure(long id, String error) {
+    }
+}
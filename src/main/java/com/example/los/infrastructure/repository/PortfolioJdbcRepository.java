@@ -0,0 +1,64 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streaming reads over the loan portfolio.
+ *
+ * Rows are read through a forward-only cursor with a large fetch size and handed
+ * to the caller one at a time, so memory does not grow with the portfolio. On
+ * PostgreSQL the cursor only streams inside a transaction (auto-commit off).
+ */
+@Repository
+@RequiredArgsConstructor
+public class PortfolioJdbcRepository {
+
+    private static final String ACTIVE_LOANS_SQL = """
+            SELECT la.id, la.branch_id, la.product_id, la.loan_amount, la.tenure_month,
+                   COALESCE(la.interest_rate, p.interest_rate) AS interest_rate,
+                   COALESCE((SELECT MIN(d.disbursement_date) FROM public.t_loan_disbursement d
+                             WHERE d.loan_application_id = la.id),
+                            CAST(la.created_at AS DATE)) AS start_date
+            FROM public.t_loan_application la
+            LEFT JOIN public.m_product p ON p.id = la.product_id
+            WHERE la.status_code = 'ACTIVE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamActiveLoans(int fetchSize, Consumer<ActiveLoan> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(ACTIVE_LOANS_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (ResultSet rs) -> {
+            Date startDate = rs.getDate("start_date");
+            consumer.accept(new ActiveLoan(
+                    rs.getLong("id"),
+                    rs.getLong("branch_id"),
+                    rs.getLong("product_id"),
+                    rs.getBigDecimal("loan_amount"),
+                    rs.getInt("tenure_month"),
+                    rs.getBigDecimal("interest_rate"),
+                    startDate != null ? startDate.toLocalDate() : null));
+        });
+    }
+
+    /**
+     * An ACTIVE loan as needed for projection. Missing branch, product or tenure read as 0.
+     */
+    public record ActiveLoan(long id, long branchId, long productId, BigDecimal loanAmount, int tenureMonths,
+                             BigDecimal annualInterestRate, LocalDate startDate) {
+    }
+}
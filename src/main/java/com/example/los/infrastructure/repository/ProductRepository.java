@@ -1,5 +1,6 @@
 package com.example.los.infrastructure.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +25,10 @@ public interface ProductRepository extends JpaRepository<MProduct, Long> {
     @Query("SELECT p FROM MProduct p WHERE p.status = 'ACTIVE' AND p.minAmount <= :amount AND p.maxAmount >= :amount")
     List<MProduct> findActiveProductsForAmount(@Param("amount") Double amount);
     
+    // Active products accepting some amount between lower and upper
+    @Query("SELECT p FROM MProduct p WHERE p.status = 'ACTIVE' AND p.minAmount <= :upper AND p.maxAmount >= :lower")
+    List<MProduct> findActiveProductsOverlapping(@Param("lower") BigDecimal lower, @Param("upper") BigDecimal upper);
+    
     @Query("SELECT p FROM MProduct p WHERE p.status = 'ACTIVE' AND p.productType = :productType")
     List<MProduct> findActiveProductsByType(@Param("productType") String productType);
     
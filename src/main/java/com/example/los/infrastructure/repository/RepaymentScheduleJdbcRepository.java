@@ -0,0 +1,198 @@
+package com.example.los.infrastructure.repository;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.los.domain.entity.TLoanRepaymentSchedule;
+import com.example.los.infrastructure.config.RepaymentScheduleProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Set-based writes to t_loan_repayment_schedule.
+ *
+ * The entity uses IDENTITY keys, which makes Hibernate insert one row per
+ * statement regardless of hibernate.jdbc.batch_size, so schedules are written
+ * through JDBC instead: a batched INSERT for short tenures, and on PostgreSQL a
+ * single INSERT ... SELECT FROM unnest(arrays) for long ones. Both run inside the
+ * caller's transaction.
+ *
+ * The penalty sweep reads overdue installments here too, keyset-paginated on id
+ * through the partial index idx_repayment_schedule_unpaid_id, which returns
+ * unpaid rows already in id order.
+ */
+@Repository
+@Slf4j
+public class RepaymentScheduleJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO public.t_loan_repayment_schedule
+                (loan_application_id, installment_no, due_date, principal_amount, interest_amount,
+                 penalty_amount, total_amount, paid_principal, paid_interest, paid_penalty,
+                 payment_status_code, created_at)
+            VALUES (?, ?, ?, ?, ?, 0, ?, 0, 0, 0, ?, ?)
+            """;
+
+    private static final String UNNEST_INSERT_SQL = """
+            INSERT INTO public.t_loan_repayment_schedule
+                (loan_application_id, installment_no, due_date, principal_amount, interest_amount,
+                 penalty_amount, total_amount, paid_principal, paid_interest, paid_penalty,
+                 payment_status_code, created_at)
+            SELECT ?, r.installment_no, r.due_date, r.principal_amount, r.interest_amount,
+                   0, r.total_amount, 0, 0, 0, ?, ?
+            FROM unnest(?::int[], ?::date[], ?::numeric[], ?::numeric[], ?::numeric[])
+                 AS r(installment_no, due_date, principal_amount, interest_amount, total_amount)
+            """;
+
+    private static final String OVERDUE_PAGE_SQL = """
+            SELECT id, loan_application_id, due_date,
+                   total_amount - COALESCE(paid_principal, 0) - COALESCE(paid_interest, 0) AS outstanding
+            FROM public.t_loan_repayment_schedule
+            WHERE id > ?
+              AND payment_status_code IN ('PENDING', 'OVERDUE')
+              AND due_date < ?
+              AND total_amount > COALESCE(paid_principal, 0) + COALESCE(paid_interest, 0)
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String UPDATE_PENALTY_SQL = """
+            UPDATE public.t_loan_repayment_schedule
+            SET penalty_amount = ?, payment_status_code = 'OVERDUE'
+            WHERE id = ? AND payment_status_code IN ('PENDING', 'OVERDUE')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RepaymentScheduleProperties properties;
+    private volatile Boolean postgres;
+
+    public RepaymentScheduleJdbcRepository(JdbcTemplate jdbcTemplate, RepaymentScheduleProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Inserts all installments of one loan. Rows must share the same
+     * loanApplicationId, paymentStatusCode and createdAt.
+     */
+    public int insertSchedule(List<TLoanRepaymentSchedule> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        if (rows.size() >= properties.getBulkInsertThreshold() && isPostgres()) {
+            return insertWithUnnest(rows);
+        }
+        return insertWithBatch(rows);
+    }
+
+    private int insertWithBatch(List<TLoanRepaymentSchedule> rows) {
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, rows, properties.getBatchSize(), (ps, row) -> {
+            ps.setLong(1, row.getLoanApplicationId());
+            ps.setInt(2, row.getInstallmentNo());
+            ps.setDate(3, Date.valueOf(row.getDueDate()));
+            ps.setBigDecimal(4, row.getPrincipalAmount());
+            ps.setBigDecimal(5, row.getInterestAmount());
+            ps.setBigDecimal(6, row.getTotalAmount());
+            ps.setString(7, row.getPaymentStatusCode());
+            ps.setTimestamp(8, Timestamp.from(row.getCreatedAt()));
+        });
+        log.debug("Inserted {} repayment schedule rows in {} JDBC batches", rows.size(), counts.length);
+        return rows.size();
+    }
+
+    private int insertWithUnnest(List<TLoanRepaymentSchedule> rows) {
+        int size = rows.size();
+        Integer[] installmentNos = new Integer[size];
+        Date[] dueDates = new Date[size];
+        BigDecimal[] principals = new BigDecimal[size];
+        BigDecimal[] interests = new BigDecimal[size];
+        BigDecimal[] totals = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            TLoanRepaymentSchedule row = rows.get(i);
+            installmentNos[i] = row.getInstallmentNo();
+            dueDates[i] = Date.valueOf(row.getDueDate());
+            principals[i] = row.getPrincipalAmount();
+            interests[i] = row.getInterestAmount();
+            totals[i] = row.getTotalAmount();
+        }
+
+        TLoanRepaymentSchedule first = rows.get(0);
+        Integer inserted = jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement ps = connection.prepareStatement(UNNEST_INSERT_SQL)) {
+                ps.setLong(1, first.getLoanApplicationId());
+                ps.setString(2, first.getPaymentStatusCode());
+                ps.setTimestamp(3, Timestamp.from(first.getCreatedAt()));
+                ps.setArray(4, array(connection, "int4", installmentNos));
+                ps.setArray(5, array(connection, "date", dueDates));
+                ps.setArray(6, array(connection, "numeric", principals));
+                ps.setArray(7, array(connection, "numeric", interests));
+                ps.setArray(8, array(connection, "numeric", totals));
+                return ps.executeUpdate();
+            }
+        });
+        log.debug("Inserted {} repayment schedule rows with one unnest statement", inserted);
+        return inserted != null ? inserted : 0;
+    }
+
+    /**
+     * Next page of unpaid installments due before the cutoff with id greater than
+     * afterId, in id order.
+     */
+    public List<OverdueInstallment> findOverduePage(long afterId, LocalDate dueBefore, int limit) {
+        return jdbcTemplate.query(OVERDUE_PAGE_SQL, (rs, rowNum) -> new OverdueInstallment(
+                        rs.getLong("id"),
+                        rs.getLong("loan_application_id"),
+                        rs.getDate("due_date").toLocalDate(),
+                        rs.getBigDecimal("outstanding")),
+                afterId, Date.valueOf(dueBefore), limit);
+    }
+
+    /**
+     * Overwrites penalty_amount for each installment and marks it OVERDUE. Rows
+     * paid since they were read are left untouched. Returns the rows updated.
+     */
+    public int updatePenalties(List<PenaltyUpdate> updates, int batchSize) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_PENALTY_SQL, updates, batchSize, (ps, update) -> {
+            ps.setBigDecimal(1, update.penaltyAmount());
+            ps.setLong(2, update.id());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+                updated += count == PreparedStatement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+
+    private static Array array(Connection connection, String type, Object[] values) throws SQLException {
+        return connection.createArrayOf(type, values);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = jdbcTemplate.execute((Connection connection) ->
+                    "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return Boolean.TRUE.equals(result);
+    }
+
+    public record OverdueInstallment(long id, long loanApplicationId, LocalDate dueDate, BigDecimal outstanding) {
+    }
+
+    public record PenaltyUpdate(long id, BigDecimal penaltyAmount) {
+    }
+}
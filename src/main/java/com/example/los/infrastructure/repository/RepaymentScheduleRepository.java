@@ -0,0 +1,12 @@
+package com.example.los.infrastructure.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.los.domain.entity.TLoanRepaymentSchedule;
+
+@Repository
+public interface RepaymentScheduleRepository extends JpaRepository<TLoanRepaymentSchedule, Long> {
+    
+    boolean existsByLoanApplicationId(Long loanApplicationId);
+}
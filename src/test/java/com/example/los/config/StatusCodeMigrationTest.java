@@ -0,0 +1,51 @@
+package com.example.los.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.los.infrastructure.config.StatusCodeMigration;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusCodeMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testCodesThatOnlyDifferInCaseAreNormalized() {
+        when(jdbcTemplate.queryForList(contains("FROM t_loan_application ")))
+                .thenReturn(List.of(Map.of("id", 5L, "code", " submitted ")));
+        when(jdbcTemplate.queryForList(contains("FROM t_loan_approval "))).thenReturn(List.of());
+        when(jdbcTemplate.update(anyString(), eq("SUBMITTED"), eq(5L), eq(" submitted "))).thenReturn(1);
+
+        new StatusCodeMigration(jdbcTemplate).migrate();
+
+        verify(jdbcTemplate).update(contains("UPDATE t_loan_application SET status_code = ?"),
+                eq("SUBMITTED"), eq(5L), eq(" submitted "));
+    }
+
+    @Test
+    void testUnknownCodesFailWithTheirRowIds() {
+        when(jdbcTemplate.queryForList(contains("FROM t_loan_application ")))
+                .thenReturn(List.of(Map.of("id", 7L, "code", "LEGACY_HOLD")));
+        when(jdbcTemplate.queryForList(contains("FROM t_loan_approval ")))
+                .thenReturn(List.of(Map.of("id", 3L, "code", "MAYBE")));
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new StatusCodeMigration(jdbcTemplate).migrate());
+
+        assertTrue(e.getMessage().contains("t_loan_application.status_code has 1 rows: id 7 'LEGACY_HOLD'"));
+        assertTrue(e.getMessage().contains("t_loan_approval.decision_code has 1 rows: id 3 'MAYBE'"));
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.los.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository.DecisionUpdate;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovalBatchJdbcRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testOnlySingleRowUpdatesCountAsWritten() {
+        List<DecisionUpdate> decisions = List.of(decision(1L), decision(2L), decision(3L));
+        when(jdbcTemplate.batchUpdate(anyString(), eq(decisions), eq(3), any()))
+                .thenReturn(new int[][] {{1, 0, PreparedStatement.SUCCESS_NO_INFO}});
+
+        boolean[] written = new ApprovalBatchJdbcRepository(jdbcTemplate).decideIfCurrent(decisions, "PENDING");
+
+        assertArrayEquals(new boolean[] {true, false, false}, written);
+    }
+
+    private static DecisionUpdate decision(long approvalId) {
+        return new DecisionUpdate(approvalId, "APPROVED", Instant.parse("2026-03-02T09:00:00Z"), "manager", null);
+    }
+}
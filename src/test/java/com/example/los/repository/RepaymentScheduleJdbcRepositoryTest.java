@@ -0,0 +1,143 @@
+package com.example.los.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import com.example.los.domain.entity.TLoanRepaymentSchedule;
+import com.example.los.infrastructure.config.RepaymentScheduleProperties;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class RepaymentScheduleJdbcRepositoryTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private DatabaseMetaData metaData;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testShortScheduleIsWrittenAsJdbcBatch() throws Exception {
+        List<TLoanRepaymentSchedule> rows = rows(12);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<TLoanRepaymentSchedule>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        when(jdbcTemplate.batchUpdate(contains("VALUES (?, ?, ?, ?, ?, 0, ?, 0, 0, 0, ?, ?)"), eq(rows), eq(5),
+                setter.capture())).thenReturn(new int[3][]);
+
+        assertEquals(12, repository().insertSchedule(rows));
+
+        setter.getValue().setValues(statement, rows.get(3));
+        verify(statement).setLong(1, 9L);
+        verify(statement).setInt(2, 4);
+        verify(statement).setDate(3, Date.valueOf(LocalDate.of(2026, 5, 10)));
+        verify(statement).setBigDecimal(4, new BigDecimal("100.04"));
+        verify(statement).setBigDecimal(5, new BigDecimal("10.00"));
+        verify(statement).setBigDecimal(6, new BigDecimal("110.04"));
+        verify(statement).setString(7, "PENDING");
+        verify(statement).setTimestamp(8, Timestamp.from(CREATED_AT));
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    void testLongScheduleIsWrittenWithOneUnnestStatement() throws Exception {
+        List<TLoanRepaymentSchedule> rows = rows(120);
+        Map<String, Object[]> arrays = connectTo("PostgreSQL");
+        when(connection.prepareStatement(contains("FROM unnest("))).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(120);
+
+        assertEquals(120, repository().insertSchedule(rows));
+
+        verify(statement).setLong(1, 9L);
+        verify(statement).setString(2, "PENDING");
+        verify(statement).setTimestamp(3, Timestamp.from(CREATED_AT));
+        verify(statement, times(1)).executeUpdate();
+        Object[] installmentNos = arrays.get("int4");
+        Object[] dueDates = arrays.get("date");
+        assertEquals(120, installmentNos.length);
+        assertEquals(120, installmentNos[119]);
+        assertEquals(Date.valueOf(LocalDate.of(2036, 1, 10)), dueDates[119]);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList(), anyInt(), any());
+    }
+
+    @Test
+    void testLongScheduleFallsBackToBatchOnOtherDatabases() throws Exception {
+        List<TLoanRepaymentSchedule> rows = rows(120);
+        connectTo("H2");
+        when(jdbcTemplate.batchUpdate(anyString(), eq(rows), eq(5), any())).thenReturn(new int[24][]);
+
+        assertEquals(120, repository().insertSchedule(rows));
+
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object[]> connectTo(String databaseProductName) throws Exception {
+        Map<String, Object[]> arrays = new HashMap<>();
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, ConnectionCallback.class).doInConnection(connection));
+        when(connection.getMetaData()).thenReturn(metaData);
+        when(metaData.getDatabaseProductName()).thenReturn(databaseProductName);
+        lenient().when(connection.createArrayOf(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            arrays.put(invocation.getArgument(0), invocation.getArgument(1));
+            return mock(Array.class);
+        });
+        return arrays;
+    }
+
+    private RepaymentScheduleJdbcRepository repository() {
+        RepaymentScheduleProperties properties = new RepaymentScheduleProperties();
+        properties.setBatchSize(5);
+        properties.setBulkInsertThreshold(120);
+        return new RepaymentScheduleJdbcRepository(jdbcTemplate, properties);
+    }
+
+    private static List<TLoanRepaymentSchedule> rows(int tenureMonths) {
+        List<TLoanRepaymentSchedule> rows = new ArrayList<>(tenureMonths);
+        for (int i = 1; i <= tenureMonths; i++) {
+            TLoanRepaymentSchedule row = new TLoanRepaymentSchedule();
+            row.setLoanApplicationId(9L);
+            row.setInstallmentNo(i);
+            row.setDueDate(LocalDate.of(2026, 1, 10).plusMonths(i));
+            row.setPrincipalAmount(new BigDecimal("100.00").add(BigDecimal.valueOf(i, 2)));
+            row.setInterestAmount(new BigDecimal("10.00"));
+            row.setTotalAmount(row.getPrincipalAmount().add(row.getInterestAmount()));
+            row.setPaymentStatusCode("PENDING");
+            row.setCreatedAt(CREATED_AT);
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.los.application.dto.AggregateReconciliationResult;
+import com.example.los.application.service.ApplicationAggregateService;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository.AggregateRow;
+import com.example.los.infrastructure.repository.ApplicationAggregateJdbcRepository.CounterComparison;
+
+@ExtendWith(MockitoExtension.class)
+public class ApplicationAggregateServiceTest {
+
+    @Mock
+    private ApplicationAggregateJdbcRepository applicationAggregateJdbcRepository;
+
+    @Test
+    void testApprovalMovesOldAmountOutAndNewAmountIn() {
+        service().onTransition(new ApplicationTransition(5L, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.APPROVED,
+                3L, null, new BigDecimal("10000.00"), new BigDecimal("8000.00"), Instant.now()));
+
+        verify(applicationAggregateJdbcRepository).addDeltas(List.of(
+                new AggregateRow(3L, 0L, "APPROVED", 1, new BigDecimal("8000.00")),
+                new AggregateRow(3L, 0L, "UNDER_REVIEW", -1, new BigDecimal("-10000.00"))));
+    }
+
+    @Test
+    void testExactTotalsAcrossProducts() {
+        when(applicationAggregateJdbcRepository.findByBranch(3L)).thenReturn(List.of(
+                new AggregateRow(3L, 1L, "APPROVED", 2, new BigDecimal("0.10")),
+                new AggregateRow(3L, 2L, "APPROVED", 1, new BigDecimal("0.20")),
+                new AggregateRow(3L, 2L, "DRAFT", 4, new BigDecimal("99.99"))));
+
+        assertEquals(new BigDecimal("0.30"), service().totalAmount(3L, ApplicationStatus.APPROVED));
+    }
+
+    @Test
+    void testReconciliationAddsOnlyTheDriftOfDriftedCounters() {
+        when(applicationAggregateJdbcRepository.compareWithBaseTable()).thenReturn(List.of(
+                new CounterComparison(3L, 1L, "APPROVED", 2, new BigDecimal("300.0"), 2, new BigDecimal("300.00")),
+                new CounterComparison(3L, 1L, "DRAFT", 2, new BigDecimal("125.00"), 1, new BigDecimal("50.00")),
+                new CounterComparison(4L, 1L, "CANCELLED", 0, BigDecimal.ZERO, 1, new BigDecimal("70.00"))));
+
+        AggregateReconciliationResult result = service().reconcile();
+
+        assertEquals(3, result.getCheckedCount());
+        assertEquals(2, result.getCorrectedCount());
+        InOrder inOrder = inOrder(applicationAggregateJdbcRepository);
+        inOrder.verify(applicationAggregateJdbcRepository).lockForReconciliation();
+        inOrder.verify(applicationAggregateJdbcRepository).compareWithBaseTable();
+        inOrder.verify(applicationAggregateJdbcRepository).addDeltas(List.of(
+                new AggregateRow(3L, 1L, "DRAFT", 1, new BigDecimal("75.00")),
+                new AggregateRow(4L, 1L, "CANCELLED", -1, new BigDecimal("-70.00"))));
+    }
+
+    private ApplicationAggregateService service() {
+        return new ApplicationAggregateService(applicationAggregateJdbcRepository,
+                TransactionOperations.withoutTransaction(), new LoanApplicationProperties());
+    }
+}
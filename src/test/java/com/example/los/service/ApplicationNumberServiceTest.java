@@ -0,0 +1,112 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.example.los.application.service.ApplicationNumberService;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+
+public class ApplicationNumberServiceTest {
+
+    @Test
+    void testNumbersAreReadableAndOrderedThroughClockSteppingBack() {
+        // 2026-01-02T03:04:05.678Z
+        AtomicLong clock = new AtomicLong(1767323045678L);
+        ApplicationNumberService service = new ApplicationNumberService(42, clock::get);
+
+        String first = service.nextApplicationNumber();
+        String second = service.nextApplicationNumber();
+        clock.addAndGet(-5_000);
+        String afterStepBack = service.nextApplicationNumber();
+        clock.addAndGet(10_000);
+        String afterCatchUp = service.nextApplicationNumber();
+
+        assertEquals("APP-20260102030405678-0042-0000", first);
+        assertEquals("APP-20260102030405678-0042-0001", second);
+        assertEquals("APP-20260102030405678-0042-0002", afterStepBack);
+        assertEquals("APP-20260102030410678-0042-0000", afterCatchUp);
+    }
+
+    @Test
+    void testSequenceOverflowBorrowsNextMillisecond() {
+        ApplicationNumberService service = new ApplicationNumberService(7, () -> 1767323045678L);
+
+        String last = null;
+        for (int i = 0; i < 4097; i++) {
+            last = service.nextApplicationNumber();
+        }
+
+        assertEquals("APP-20260102030405679-0007-0000", last);
+    }
+
+    @Test
+    void testRestartResumesAfterNumbersIssuedAheadOfTheClock() {
+        LoanApplicationRepository repository = mock(LoanApplicationRepository.class);
+        when(repository.findLatestApplicationNo("APP-20260102020405678", "APP-_________________-0042-____"))
+                .thenReturn(Optional.of("APP-20260102030407001-0042-0005"));
+        // 2026-01-02T03:04:05.678Z, behind the last number issued before the restart
+        ApplicationNumberService service = new ApplicationNumberService(42, () -> 1767323045678L, repository);
+
+        service.resumeFromDatabase();
+
+        assertEquals("APP-20260102030407001-0042-0006", service.nextApplicationNumber());
+        assertEquals("APP-20260102030407001-0042-0007", service.nextApplicationNumber());
+    }
+
+    @Test
+    void testNodeIdIsRequiredOutsideDevelopmentProfiles() {
+        LoanApplicationProperties properties = new LoanApplicationProperties();
+        MockEnvironment environment = new MockEnvironment();
+
+        assertEquals(0, new ApplicationNumberService(properties, environment, null).getNodeId());
+        environment.setActiveProfiles("local");
+        assertEquals(0, new ApplicationNumberService(properties, environment, null).getNodeId());
+        environment.setActiveProfiles("prod");
+        assertThrows(IllegalStateException.class, () -> new ApplicationNumberService(properties, environment, null));
+        properties.setNodeId(3);
+        assertEquals(3, new ApplicationNumberService(properties, environment, null).getNodeId());
+    }
+
+    @Test
+    void testConcurrentCallersNeverCollide() throws Exception {
+        ApplicationNumberService service = new ApplicationNumberService(1, System::currentTimeMillis);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> numbers = new ArrayList<>(10_000);
+                    for (int i = 0; i < 10_000; i++) {
+                        numbers.add(service.nextApplicationNumber());
+                    }
+                    return numbers;
+                }));
+            }
+            Set<String> unique = new HashSet<>();
+            for (Future<List<String>> future : futures) {
+                List<String> numbers = future.get();
+                for (int i = 1; i < numbers.size(); i++) {
+                    assertTrue(numbers.get(i - 1).compareTo(numbers.get(i)) < 0);
+                }
+                unique.addAll(numbers);
+            }
+            assertEquals(80_000, unique.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
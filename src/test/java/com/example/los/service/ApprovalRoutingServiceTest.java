@@ -0,0 +1,74 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.service.ApprovalRoutingService;
+import com.example.los.application.workflow.ApprovalRoutingTable;
+import com.example.los.domain.policy.CfgApprovalLimit;
+import com.example.los.infrastructure.repository.ApprovalLimitRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovalRoutingServiceTest {
+
+    @Mock
+    private ApprovalLimitRepository approvalLimitRepository;
+
+    @Test
+    void testLevelsFollowConfiguredLimitsInAmountOrder() {
+        when(approvalLimitRepository.findAll()).thenReturn(List.of(
+                limit(3L, "CREDIT_COMMITTEE", null),
+                limit(1L, "BRANCH_MANAGER", "25000.00"),
+                limit(2L, "LOAN_OFFICER", "5000.00"),
+                limit(4L, null, "1.00")));
+        ApprovalRoutingService service = new ApprovalRoutingService(approvalLimitRepository);
+
+        assertEquals("LOAN_OFFICER", service.getApproverRoleForLevel(1));
+        assertEquals(List.of("LOAN_OFFICER"), service.getApprovalChain(new BigDecimal("5000.00")));
+        assertEquals(List.of("LOAN_OFFICER", "BRANCH_MANAGER"), service.getApprovalChain(new BigDecimal("5000.01")));
+        assertEquals(2, service.getNextApprovalLevel(1, new BigDecimal("25000")));
+        assertNull(service.getNextApprovalLevel(2, new BigDecimal("25000")));
+        assertEquals(3, service.getNextApprovalLevel(2, new BigDecimal("9999999999")));
+    }
+
+    @Test
+    void testBuiltInChainWithoutConfiguredLimits() {
+        when(approvalLimitRepository.findAll()).thenReturn(List.of());
+        ApprovalRoutingService service = new ApprovalRoutingService(approvalLimitRepository);
+
+        assertEquals(List.of("LOAN_OFFICER", "BRANCH_MANAGER", "REGIONAL_DIRECTOR", "CHIEF_CREDIT_OFFICER"),
+                service.getApprovalChain(new BigDecimal("200000.01")));
+        assertNull(service.getNextApprovalLevel(1, new BigDecimal("10000")));
+    }
+
+    @Test
+    void testUnchangedLimitsKeepTheCurrentTable() {
+        when(approvalLimitRepository.findAll())
+                .thenReturn(List.of(limit(1L, "LOAN_OFFICER", "5000.00"), limit(2L, "BRANCH_MANAGER", null)))
+                .thenReturn(List.of(limit(2L, "BRANCH_MANAGER", null), limit(1L, "LOAN_OFFICER", "5000.00")))
+                .thenReturn(List.of(limit(1L, "LOAN_OFFICER", "7500.00"), limit(2L, "BRANCH_MANAGER", null)));
+        ApprovalRoutingService service = new ApprovalRoutingService(approvalLimitRepository);
+        ApprovalRoutingTable first = service.reload();
+
+        assertSame(first, service.reload());
+        ApprovalRoutingTable changed = service.reload();
+        assertNotSame(first, changed);
+        assertEquals(750_000L, service.getTable().maxCentsForLevel(1));
+    }
+
+    private static CfgApprovalLimit limit(Long id, String roleCode, String maxAmount) {
+        CfgApprovalLimit limit = new CfgApprovalLimit();
+        limit.setId(id);
+        limit.setRoleCode(roleCode);
+        limit.setMaxAmount(maxAmount != null ? new BigDecimal(maxAmount) : null);
+        return limit;
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.ApprovalBulkDecisionRequest;
+import com.example.los.application.dto.ApprovalBulkDecisionResponse;
+import com.example.los.application.dto.ApprovalDecisionItem;
+import com.example.los.application.dto.ApprovalDecisionResult;
+import com.example.los.application.dto.ApprovalQueuePage;
+import com.example.los.application.paging.KeysetCursor;
+import com.example.los.application.service.ApprovalRoutingService;
+import com.example.los.application.service.ApprovalWorkflowService;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.InterestRateService;
+import com.example.los.application.service.RepaymentScheduleService;
+import com.example.los.application.service.StatusTransitionService;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.ApprovalDecision;
+import com.example.los.application.workflow.TransitionOutcome;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.config.ApprovalProperties;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository.LockedApproval;
+import com.example.los.infrastructure.repository.ApprovalQueryRepository;
+import com.example.los.infrastructure.repository.ApprovalQueryRepository.ApprovalRow;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+import com.example.los.infrastructure.repository.ProductRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ApprovalWorkflowServiceTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-02T09:00:00Z");
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private ApprovalQueryRepository approvalQueryRepository;
+
+    @Mock
+    private RepaymentScheduleService repaymentScheduleService;
+
+    @Mock
+    private StatusTransitionService statusTransitionService;
+
+    @Mock
+    private ApprovalRoutingService approvalRoutingService;
+
+    @Mock
+    private ApprovalBatchJdbcRepository approvalBatchJdbcRepository;
+
+    @Test
+    void testQueuePageFetchesOneExtraRowForNextCursor() {
+        when(approvalQueryRepository.findQueuePage("LOAN_OFFICER", "PENDING", 3L, null, null, 3)).thenReturn(List.of(
+                row(11L, 100L, "PENDING", T0),
+                row(12L, 101L, "PENDING", T0.plusSeconds(1)),
+                row(13L, 102L, "PENDING", T0.plusSeconds(2))));
+
+        ApprovalQueuePage page = service().getPendingApprovalsByRole("LOAN_OFFICER", 3L, null, 2);
+
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasMore());
+        assertEquals(List.of(100L, 101L), page.getItems().stream().map(item -> item.getLoanApplicationId()).toList());
+        assertEquals(new KeysetCursor(T0.plusSeconds(1), 12L), KeysetCursor.decode(page.getNextCursor()));
+        verifyNoInteractions(loanApplicationRepository);
+    }
+
+    @Test
+    void testCurrentLevelIsFirstPendingApproval() {
+        when(approvalQueryRepository.findByLoanApplicationId(100L)).thenReturn(List.of(
+                row(11L, 100L, "APPROVED", T0),
+                row(12L, 100L, "PENDING", T0.plusSeconds(60))));
+
+        assertEquals(12L, service().getCurrentApprovalLevel(100L).getId());
+    }
+
+    @Test
+    void testHistoryOfUnknownApplicationIsRejected() {
+        when(approvalQueryRepository.findByLoanApplicationId(404L)).thenReturn(List.of());
+        when(loanApplicationRepository.existsById(404L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> service().getApprovalHistory(404L));
+    }
+
+    @Test
+    void testBulkDecisionReportsEachItem() {
+        TLoanApplication loanApplication = new TLoanApplication();
+        loanApplication.setId(100L);
+        loanApplication.setStatusCode(ApplicationStatus.SUBMITTED);
+        loanApplication.setLoanAmount(new BigDecimal("5000.00"));
+        when(approvalBatchJdbcRepository.lockByIds(any())).thenReturn(List.of(
+                new LockedApproval(11L, 100L, 1, "PENDING", null, null),
+                new LockedApproval(12L, 101L, 1, "APPROVED", null, null)));
+        when(loanApplicationRepository.lockAllById(any())).thenReturn(List.of(loanApplication));
+        when(approvalRoutingService.getNextApprovalLevel(1, new BigDecimal("5000.00"))).thenReturn(null);
+        when(statusTransitionService.checkApplications(any()))
+                .thenAnswer(invocation -> applied(invocation.getArgument(0)));
+        when(statusTransitionService.transitionApplications(any()))
+                .thenAnswer(invocation -> applied(invocation.getArgument(0)));
+        when(statusTransitionService.decideApprovals(any())).thenReturn(List.of(
+                TransitionOutcome.applied(11L, ApprovalStatus.PENDING, ApprovalStatus.APPROVED, 1)));
+
+        ApprovalBulkDecisionResponse response = service().decideApprovals(ApprovalBulkDecisionRequest.builder()
+                .decidedBy("manager")
+                .items(List.of(
+                        ApprovalDecisionItem.builder().approvalId(11L).decision("APPROVED").build(),
+                        ApprovalDecisionItem.builder().approvalId(12L).decision("APPROVED").build(),
+                        ApprovalDecisionItem.builder().approvalId(13L).decision("MAYBE").build()))
+                .build());
+
+        assertEquals(1, response.getAppliedCount());
+        assertEquals(1, response.getConflictCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals("APPROVED", response.getResults().get(0).getLoanApplicationStatus());
+        assertEquals(ApprovalDecisionResult.CONFLICT, response.getResults().get(1).getResult());
+        verify(statusTransitionService, times(2)).transitionApplications(any());
+        verify(repaymentScheduleService).persistSchedule(eq(loanApplication), any());
+        verify(approvalBatchJdbcRepository).insertAll(List.of());
+    }
+
+    @Test
+    void testRefusedFinalStatusLeavesTheApplicationUntouched() {
+        TLoanApplication loanApplication = new TLoanApplication();
+        loanApplication.setId(100L);
+        loanApplication.setStatusCode(ApplicationStatus.SUBMITTED);
+        loanApplication.setLoanAmount(new BigDecimal("5000.00"));
+        when(approvalBatchJdbcRepository.lockByIds(any()))
+                .thenReturn(List.of(new LockedApproval(11L, 100L, 1, "PENDING", null, null)));
+        when(loanApplicationRepository.lockAllById(any())).thenReturn(List.of(loanApplication));
+        when(approvalRoutingService.getNextApprovalLevel(1, new BigDecimal("5000.00"))).thenReturn(null);
+        when(statusTransitionService.checkApplications(any())).thenAnswer(invocation -> {
+            List<ApplicationTransition> transitions = invocation.getArgument(0);
+            ApplicationTransition t = transitions.get(0);
+            return t.to() == ApplicationStatus.APPROVED
+                    ? List.of(TransitionOutcome.blocked(t.applicationId(), t.from(), t.to(), 1, "Product withdrawn"))
+                    : applied(transitions);
+        });
+        when(statusTransitionService.decideApprovals(List.of())).thenReturn(List.of());
+
+        ApprovalBulkDecisionResponse response = service().decideApprovals(ApprovalBulkDecisionRequest.builder()
+                .decidedBy("manager")
+                .items(List.of(ApprovalDecisionItem.builder().approvalId(11L).decision("APPROVED").build()))
+                .build());
+
+        assertEquals(1, response.getConflictCount());
+        assertTrue(response.getResults().get(0).getMessage().contains("Product withdrawn"));
+        verify(statusTransitionService, never()).transitionApplications(any());
+        assertEquals(ApplicationStatus.SUBMITTED, loanApplication.getStatusCode());
+    }
+
+    @Test
+    void testUnschedulableLoanDoesNotUndoTheRestOfTheBatch() {
+        TLoanApplication scheduled = approvable(100L, new BigDecimal("5000.00"));
+        scheduled.setInterestRate(new BigDecimal("9.5000"));
+        TLoanApplication subCent = approvable(101L, new BigDecimal("5000.005"));
+        subCent.setInterestRate(new BigDecimal("9.5000"));
+        TLoanApplication withoutRate = approvable(102L, new BigDecimal("7000.00"));
+        when(approvalBatchJdbcRepository.lockByIds(any())).thenReturn(List.of(
+                new LockedApproval(11L, 100L, 1, "PENDING", null, null),
+                new LockedApproval(12L, 101L, 1, "PENDING", null, null),
+                new LockedApproval(13L, 102L, 1, "PENDING", null, null)));
+        when(loanApplicationRepository.lockAllById(any())).thenReturn(List.of(scheduled, subCent, withoutRate));
+        when(approvalRoutingService.getNextApprovalLevel(eq(1), any())).thenReturn(null);
+        when(statusTransitionService.checkApplications(any()))
+                .thenAnswer(invocation -> applied(invocation.getArgument(0)));
+        when(statusTransitionService.transitionApplications(any()))
+                .thenAnswer(invocation -> applied(invocation.getArgument(0)));
+        when(statusTransitionService.decideApprovals(any())).thenAnswer(invocation -> {
+            List<ApprovalDecision> decisions = invocation.getArgument(0);
+            return decisions.stream()
+                    .map(d -> TransitionOutcome.applied(d.approvalId(), ApprovalStatus.PENDING, d.decision(), 1))
+                    .toList();
+        });
+        RepaymentScheduleJdbcRepository scheduleRows = mock(RepaymentScheduleJdbcRepository.class);
+        AnnuityFactorCache cache = new AnnuityFactorCache(new CalculationProperties());
+        RepaymentScheduleService schedules = new RepaymentScheduleService(
+                new CalculationService(new AmortizationEngine(cache), cache, new CalculationProperties()),
+                mock(InterestRateService.class), mock(ProductRepository.class),
+                mock(RepaymentScheduleRepository.class), scheduleRows);
+
+        ApprovalBulkDecisionResponse response = service(schedules).decideApprovals(ApprovalBulkDecisionRequest.builder()
+                .decidedBy("manager")
+                .items(List.of(
+                        ApprovalDecisionItem.builder().approvalId(11L).decision("APPROVED").build(),
+                        ApprovalDecisionItem.builder().approvalId(12L).decision("APPROVED").build(),
+                        ApprovalDecisionItem.builder().approvalId(13L).decision("APPROVED").build()))
+                .build());
+
+        assertEquals(3, response.getAppliedCount());
+        assertEquals(0, response.getFailedCount());
+        verify(scheduleRows, times(1)).insertSchedule(argThat(rows -> rows.size() == 12
+                && rows.get(0).getLoanApplicationId() == 100L));
+    }
+
+    private static TLoanApplication approvable(long id, BigDecimal loanAmount) {
+        TLoanApplication loanApplication = new TLoanApplication();
+        loanApplication.setId(id);
+        loanApplication.setStatusCode(ApplicationStatus.UNDER_REVIEW);
+        loanApplication.setLoanAmount(loanAmount);
+        loanApplication.setTenureMonth(12);
+        return loanApplication;
+    }
+
+    private static List<TransitionOutcome<ApplicationStatus>> applied(List<ApplicationTransition> transitions) {
+        return transitions.stream()
+                .map(t -> TransitionOutcome.applied(t.applicationId(), t.from(), t.to(), 1))
+                .toList();
+    }
+
+    private ApprovalWorkflowService service() {
+        return service(repaymentScheduleService);
+    }
+
+    private ApprovalWorkflowService service(RepaymentScheduleService repaymentScheduleService) {
+        return new ApprovalWorkflowService(loanApplicationRepository, null, repaymentScheduleService,
+                statusTransitionService, approvalQueryRepository, new ApprovalProperties(), approvalRoutingService,
+                null, approvalBatchJdbcRepository);
+    }
+
+    private static ApprovalRow row(long id, long loanApplicationId, String statusCode, Instant createdAt) {
+        return new ApprovalRow(id, loanApplicationId, 1, "LOAN_OFFICER", statusCode, null, createdAt, "clerk",
+                null, null, null, null, "SUBMITTED", new BigDecimal("5000.00"), 3L);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.decision.AutoDecision;
+import com.example.los.application.service.ApprovalRoutingService;
+import com.example.los.application.service.AutoDecisionService;
+import com.example.los.application.workflow.ApprovalRoutingTable;
+import com.example.los.domain.policy.CfgApprovalLimit;
+import com.example.los.infrastructure.config.ApprovalProperties;
+import com.example.los.infrastructure.repository.DecisionFactsRepository;
+import com.example.los.infrastructure.repository.DecisionFactsRepository.ApplicationFacts;
+
+@ExtendWith(MockitoExtension.class)
+public class AutoDecisionServiceTest {
+
+    @Mock
+    private DecisionFactsRepository decisionFactsRepository;
+
+    @Mock
+    private ApprovalRoutingService approvalRoutingService;
+
+    @Test
+    void testSmallCleanApplicationIsApproved() {
+        when(approvalRoutingService.getTable()).thenReturn(table("10000"));
+        when(decisionFactsRepository.findFacts(eq(1L), any())).thenReturn(Optional.of(facts("800.00", "0", 0)));
+
+        AutoDecision decision = service().decide(1L);
+
+        assertEquals(AutoDecision.Outcome.APPROVE, decision.outcome());
+        assertEquals("PRODUCT=PASS OVERDUE=PASS AMOUNT=PASS EXPOSURE=PASS LTV=PASS(unsecured)", decision.trace());
+    }
+
+    @Test
+    void testAmountAboveFirstLevelLimitIsReferred() {
+        when(approvalRoutingService.getTable()).thenReturn(table("1000"));
+        when(decisionFactsRepository.findFacts(eq(2L), any())).thenReturn(Optional.of(facts("1500.00", "3000.00", 0)));
+
+        AutoDecision decision = service().decide(2L);
+
+        assertEquals(AutoDecision.Outcome.REFER, decision.outcome());
+        assertTrue(decision.trace().contains("AMOUNT=REFER"));
+        assertTrue(decision.trace().contains("LTV=PASS(5000bp)"));
+    }
+
+    @Test
+    void testRepeatedArrearsAreRejected() {
+        when(approvalRoutingService.getTable()).thenReturn(table("10000"));
+        when(decisionFactsRepository.findFacts(eq(3L), any())).thenReturn(Optional.of(facts("800.00", "0", 3)));
+
+        assertEquals(AutoDecision.Outcome.REJECT, service().decide(3L).outcome());
+    }
+
+    @Test
+    void testProductChangesAreReferredNotRejected() {
+        when(approvalRoutingService.getTable()).thenReturn(table("10000"));
+        when(decisionFactsRepository.findFacts(eq(4L), any())).thenReturn(Optional.of(new ApplicationFacts(
+                new BigDecimal("800.00"), "INACTIVE", new BigDecimal("100.00"), new BigDecimal("50000.00"),
+                BigDecimal.ZERO, BigDecimal.ZERO, 0)));
+        when(decisionFactsRepository.findFacts(eq(5L), any())).thenReturn(Optional.of(new ApplicationFacts(
+                new BigDecimal("800.00"), null, null, null, BigDecimal.ZERO, BigDecimal.ZERO, 0)));
+        when(decisionFactsRepository.findFacts(eq(6L), any())).thenReturn(Optional.of(new ApplicationFacts(
+                new BigDecimal("800.00"), "ACTIVE", new BigDecimal("1000.00"), new BigDecimal("50000.00"),
+                BigDecimal.ZERO, BigDecimal.ZERO, 0)));
+        AutoDecisionService service = service();
+
+        for (long id = 4L; id <= 6L; id++) {
+            AutoDecision decision = service.decide(id);
+            assertEquals(AutoDecision.Outcome.REFER, decision.outcome(), "application " + id);
+            assertTrue(decision.trace().startsWith("PRODUCT=REFER"), decision.trace());
+        }
+    }
+
+    private AutoDecisionService service() {
+        return new AutoDecisionService(decisionFactsRepository, approvalRoutingService, new ApprovalProperties());
+    }
+
+    private static ApplicationFacts facts(String loanAmount, String collateralValue, int overdueInstallments) {
+        return new ApplicationFacts(new BigDecimal(loanAmount), "ACTIVE", new BigDecimal("100.00"),
+                new BigDecimal("50000.00"), new BigDecimal(collateralValue), BigDecimal.ZERO, overdueInstallments);
+    }
+
+    private static ApprovalRoutingTable table(String firstLevelLimit) {
+        CfgApprovalLimit limit = new CfgApprovalLimit();
+        limit.setId(1L);
+        limit.setRoleCode("LOAN_OFFICER");
+        limit.setMaxAmount(new BigDecimal(firstLevelLimit));
+        return ApprovalRoutingTable.compile(List.of(limit));
+    }
+}
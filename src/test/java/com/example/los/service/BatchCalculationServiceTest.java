@@ -0,0 +1,157 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.EMIBatchRequest;
+import com.example.los.application.dto.EMIBatchResponse;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMIScenarioResult;
+import com.example.los.application.service.BatchCalculationService;
+import com.example.los.application.service.CalculationService;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+/**
+ * Checks that the parallel quote grid places every scenario at its flattened index,
+ * reports failing cells in place and enforces the request limits.
+ */
+public class BatchCalculationServiceTest {
+
+    private final CalculationProperties properties = properties();
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(properties);
+
+    private final CalculationService calculationService =
+            new CalculationService(new AmortizationEngine(annuityFactorCache), annuityFactorCache, properties);
+
+    private final BatchCalculationService batchCalculationService = new BatchCalculationService(calculationService, properties);
+
+    @AfterEach
+    void tearDown() {
+        batchCalculationService.shutdown();
+    }
+
+    @Test
+    void testScenariosAreOrderedAmountRateTenure() {
+        List<BigDecimal> amounts = amounts("1000.00", "2500.00", "10000.00");
+        List<BigDecimal> rates = amounts("5.0000", "9.5000");
+        List<Integer> tenures = Arrays.asList(6, 12, 24, 36);
+
+        EMIBatchResponse response = batchCalculationService.calculateEMIBatch(EMIBatchRequest.builder()
+                .principalAmounts(amounts)
+                .annualInterestRates(rates)
+                .tenureMonths(tenures)
+                .build());
+
+        int rateCount = rates.size();
+        int tenureCount = tenures.size();
+        assertEquals(amounts.size() * rateCount * tenureCount, response.getScenarioCount());
+        assertEquals(0, response.getFailedCount());
+        for (int i = 0; i < response.getResults().size(); i++) {
+            EMIScenarioResult result = response.getResults().get(i);
+            BigDecimal amount = amounts.get(i / (rateCount * tenureCount));
+            BigDecimal rate = rates.get((i / tenureCount) % rateCount);
+            int tenure = tenures.get(i % tenureCount);
+
+            assertEquals(amount, result.getPrincipalAmount(), "amount of cell " + i);
+            assertEquals(rate, result.getAnnualInterestRate(), "rate of cell " + i);
+            assertEquals(tenure, result.getTenureMonths(), "tenure of cell " + i);
+            assertEquals(calculationService.calculateEMISummary(EMICalculationRequest.builder()
+                    .principalAmount(amount)
+                    .annualInterestRate(rate)
+                    .tenureMonths(tenure)
+                    .build()).getEmi(), result.getEmi(), "EMI of cell " + i);
+            assertNull(result.getRepaymentSchedule());
+        }
+    }
+
+    @Test
+    void testFailingCellsKeepTheirPosition() {
+        EMIBatchResponse response = batchCalculationService.calculateEMIBatch(EMIBatchRequest.builder()
+                .principalAmounts(amounts("5000.00", "-1.00"))
+                .annualInterestRates(amounts("7.0000"))
+                .tenureMonths(Arrays.asList(12, null, 1_201))
+                .build());
+
+        List<EMIScenarioResult> results = response.getResults();
+        assertEquals(6, response.getScenarioCount());
+        assertEquals(5, response.getFailedCount());
+        assertNull(results.get(0).getError());
+        assertNotNull(results.get(0).getEmi());
+        assertEquals("Tenure is required", results.get(1).getError());
+        assertEquals("Tenure must not exceed 1200 months", results.get(2).getError());
+        for (int i = 3; i < 6; i++) {
+            assertNotNull(results.get(i).getError(), "cell " + i);
+            assertEquals(new BigDecimal("-1.00"), results.get(i).getPrincipalAmount());
+        }
+    }
+
+    @Test
+    void testFullSchedulesAreReturnedPerCell() {
+        EMIBatchResponse response = batchCalculationService.calculateEMIBatch(EMIBatchRequest.builder()
+                .principalAmounts(amounts("12000.00"))
+                .annualInterestRates(amounts("6.0000", "12.0000"))
+                .tenureMonths(Arrays.asList(12, 24))
+                .startDate(LocalDate.of(2026, 1, 15))
+                .summaryOnly(false)
+                .build());
+
+        List<EMIScenarioResult> results = response.getResults();
+        assertEquals(12, results.get(0).getRepaymentSchedule().size());
+        assertEquals(24, results.get(1).getRepaymentSchedule().size());
+        assertEquals(12, results.get(2).getRepaymentSchedule().size());
+        assertEquals(24, results.get(3).getRepaymentSchedule().size());
+    }
+
+    @Test
+    void testScenarioLimitIsEnforced() {
+        EMIBatchRequest request = EMIBatchRequest.builder()
+                .principalAmounts(amounts("1000.00", "2000.00", "3000.00"))
+                .annualInterestRates(amounts("5.0000", "6.0000", "7.0000"))
+                .tenureMonths(Arrays.asList(12, 24, 36))
+                .build();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> batchCalculationService.calculateEMIBatch(request));
+        assertTrue(e.getMessage().contains("27 cells"));
+    }
+
+    @Test
+    void testScheduleRowLimitAppliesOnlyToFullSchedules() {
+        EMIBatchRequest request = EMIBatchRequest.builder()
+                .principalAmounts(amounts("1000.00", "2000.00"))
+                .annualInterestRates(amounts("5.0000"))
+                .tenureMonths(Arrays.asList(240, 360, 1_201))
+                .summaryOnly(false)
+                .build();
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> batchCalculationService.calculateEMIBatch(request));
+        assertTrue(e.getMessage().contains("1200 installments"));
+
+        request.setSummaryOnly(true);
+        assertEquals(2, batchCalculationService.calculateEMIBatch(request).getFailedCount());
+    }
+
+    private static CalculationProperties properties() {
+        CalculationProperties properties = new CalculationProperties();
+        properties.getBatch().setParallelism(2);
+        properties.getBatch().setSplitThreshold(2);
+        properties.getBatch().setMaxScenarios(24);
+        properties.getBatch().setMaxScheduleRows(1_000);
+        return properties;
+    }
+
+    private static List<BigDecimal> amounts(String... values) {
+        return Arrays.stream(values).map(BigDecimal::new).toList();
+    }
+}
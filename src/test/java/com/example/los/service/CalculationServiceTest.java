@@ -0,0 +1,158 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.EMICalculationResponse;
+import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.application.service.CalculationService;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+/**
+ * Checks the fixed-point amortization engine against the exact BigDecimal formula
+ * it replaced.
+ */
+public class CalculationServiceTest {
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(new CalculationProperties());
+
+    private final AmortizationEngine amortizationEngine = new AmortizationEngine(annuityFactorCache);
+
+    private final CalculationService calculationService =
+            new CalculationService(amortizationEngine, annuityFactorCache, new CalculationProperties());
+
+    @Test
+    void testEmiMatchesExactFormula() {
+        Random random = new Random(42);
+        for (int i = 0; i < 2000; i++) {
+            BigDecimal principal = BigDecimal.valueOf(100 + random.nextInt(50_000_000), 2);
+            BigDecimal annualRate = BigDecimal.valueOf(1 + random.nextInt(360_000), 4);
+            int tenure = 1 + random.nextInt(480);
+
+            EMICalculationResponse response = calculationService.calculateEMI(request(principal, annualRate, tenure));
+
+            assertEquals(referenceEmi(principal, annualRate, tenure), response.getEmi(),
+                    () -> "EMI for " + principal + " @ " + annualRate + "% x " + tenure);
+        }
+    }
+
+    @Test
+    void testScheduleMatchesExactFormula() {
+        BigDecimal principal = new BigDecimal("250000.00");
+        BigDecimal annualRate = new BigDecimal("7.2500");
+        int tenure = 360;
+
+        List<RepaymentSchedule> schedule = calculationService
+                .calculateEMI(request(principal, annualRate, tenure))
+                .getRepaymentSchedule();
+
+        BigDecimal emi = referenceEmi(principal, annualRate, tenure);
+        BigDecimal monthlyRate = monthlyRate(annualRate);
+        BigDecimal balance = principal;
+        assertEquals(tenure, schedule.size());
+        for (RepaymentSchedule row : schedule) {
+            BigDecimal interest = balance.multiply(monthlyRate).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal principalPart = row.getInstallmentNumber() == tenure ? balance : emi.subtract(interest);
+            balance = balance.subtract(principalPart).max(BigDecimal.ZERO);
+
+            assertEquals(0, interest.compareTo(row.getInterestComponent()));
+            assertEquals(0, principalPart.compareTo(row.getPrincipalComponent()));
+            assertEquals(0, balance.compareTo(row.getRemainingBalance()));
+        }
+        assertEquals(0, BigDecimal.ZERO.compareTo(schedule.get(tenure - 1).getRemainingBalance()));
+    }
+
+    @Test
+    void testScheduleRangeMatchesFullSchedule() {
+        EMICalculationRequest request = request(new BigDecimal("98765.43"), new BigDecimal("11.25"), 240);
+        List<RepaymentSchedule> full = calculationService.calculateEMI(request).getRepaymentSchedule();
+
+        List<RepaymentSchedule> range = calculationService.streamRepaymentSchedule(request, 120, 131).toList();
+
+        assertEquals(full.subList(119, 131), range);
+    }
+
+    @Test
+    void testSubCentPrincipalUsesExactPath() {
+        BigDecimal principal = new BigDecimal("12345.6789");
+        BigDecimal annualRate = new BigDecimal("9.5");
+
+        EMICalculationResponse response = calculationService.calculateEMI(request(principal, annualRate, 24));
+
+        assertEquals(referenceEmi(principal, annualRate, 24), response.getEmi());
+    }
+
+    @Test
+    void testSubCentScheduleRangeMatchesFullSchedule() {
+        EMICalculationRequest request = request(new BigDecimal("12345.6789"), new BigDecimal("9.5"), 24);
+
+        List<RepaymentSchedule> full = calculationService.calculateEMI(request).getRepaymentSchedule();
+        List<RepaymentSchedule> range = calculationService.streamRepaymentSchedule(request, 10, 30).toList();
+
+        assertEquals(24, full.size());
+        assertEquals(0, full.get(23).getRemainingBalance().signum());
+        assertEquals(full.subList(9, 24), range);
+    }
+
+    @Test
+    void testTenureAboveConfiguredMaximumIsRejected() {
+        EMICalculationRequest request = request(new BigDecimal("5000.00"), new BigDecimal("10"), 1_201);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> calculationService.streamRepaymentSchedule(request, Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> calculationService.calculateEMISummary(request));
+    }
+
+    @Test
+    void testZeroRateAmortizesStraightLine() {
+        EMICalculationResponse response = calculationService.calculateEMI(
+                request(new BigDecimal("1000.00"), BigDecimal.ZERO, 3));
+
+        assertEquals(new BigDecimal("333.33"), response.getEmi());
+        assertEquals(new BigDecimal("333.34"), response.getRepaymentSchedule().get(2).getEmi());
+    }
+
+    @Test
+    void testRepeatedQuotesHitFactorCache() {
+        EMICalculationRequest request = request(new BigDecimal("5000.00"), new BigDecimal("14.4"), 36);
+
+        BigDecimal first = calculationService.calculateEMISummary(request).getEmi();
+        long misses = annuityFactorCache.stats().missCount();
+        BigDecimal second = calculationService.calculateEMISummary(request).getEmi();
+
+        assertEquals(first, second);
+        assertEquals(misses, annuityFactorCache.stats().missCount());
+        assertTrue(annuityFactorCache.stats().hitCount() > 0);
+    }
+
+    private EMICalculationRequest request(BigDecimal principal, BigDecimal annualRate, int tenure) {
+        return EMICalculationRequest.builder()
+                .principalAmount(principal)
+                .annualInterestRate(annualRate)
+                .tenureMonths(tenure)
+                .startDate(LocalDate.of(2025, 1, 31))
+                .build();
+    }
+
+    private BigDecimal monthlyRate(BigDecimal annualRate) {
+        return annualRate.divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP)
+                .divide(BigDecimal.valueOf(100), 10, RoundingMode.HALF_UP);
+    }
+
+    private BigDecimal referenceEmi(BigDecimal principal, BigDecimal annualRate, int tenure) {
+        BigDecimal monthlyRate = monthlyRate(annualRate);
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(tenure);
+        return principal.multiply(monthlyRate).multiply(growth)
+                .divide(growth.subtract(BigDecimal.ONE), 2, RoundingMode.HALF_UP);
+    }
+}
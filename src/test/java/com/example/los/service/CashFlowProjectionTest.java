@@ -0,0 +1,69 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.calculation.CashFlowProjection;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.application.service.CalculationService;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+public class CashFlowProjectionTest {
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(new CalculationProperties());
+
+    private final AmortizationEngine amortizationEngine = new AmortizationEngine(annuityFactorCache);
+
+    private final CalculationService calculationService =
+            new CalculationService(amortizationEngine, annuityFactorCache, new CalculationProperties());
+
+    @Test
+    void testProjectionMatchesScheduleInsideHorizon() {
+        LocalDate firstPayment = LocalDate.of(2025, 3, 31);
+        List<RepaymentSchedule> schedule = calculationService.calculateEMI(EMICalculationRequest.builder()
+                .principalAmount(new BigDecimal("48000.00"))
+                .annualInterestRate(new BigDecimal("10.5"))
+                .tenureMonths(36)
+                .startDate(firstPayment)
+                .build()).getRepaymentSchedule();
+
+        // Starts after 10 installments were due and ends before the loan does
+        CashFlowProjection projection = new CashFlowProjection(YearMonth.of(2026, 1), 12);
+        projection.addLoan(amortizationEngine, 3L, 9L, 4_800_000L,
+                amortizationEngine.monthlyRateUnits(new BigDecimal("10.5")), 36, firstPayment);
+
+        CashFlowProjection.Series series = projection.getSeries().get(new CashFlowProjection.SeriesKey(3L, 9L));
+        for (int m = 0; m < 12; m++) {
+            RepaymentSchedule row = schedule.get(10 + m);
+            assertEquals(YearMonth.of(2026, 1).plusMonths(m), YearMonth.from(row.getPaymentDate()));
+            assertEquals(row.getPrincipalComponent(), AmortizationEngine.fromCents(series.getPrincipal()[m]));
+            assertEquals(row.getInterestComponent(), AmortizationEngine.fromCents(series.getInterest()[m]));
+        }
+    }
+
+    @Test
+    void testMergeAddsBucketsAndCounts() {
+        YearMonth start = YearMonth.of(2026, 1);
+        CashFlowProjection first = new CashFlowProjection(start, 6);
+        CashFlowProjection second = new CashFlowProjection(start, 6);
+        first.addLoan(amortizationEngine, 1L, 1L, 600_000L, 0L, 6, LocalDate.of(2026, 1, 15));
+        second.addLoan(amortizationEngine, 1L, 1L, 300_000L, 0L, 3, LocalDate.of(2026, 4, 15));
+        second.skipLoan();
+
+        first.merge(second);
+
+        long[] principal = first.getSeries().get(new CashFlowProjection.SeriesKey(1L, 1L)).getPrincipal();
+        assertArrayEquals(new long[] {100_000L, 100_000L, 100_000L, 200_000L, 200_000L, 200_000L}, principal);
+        assertEquals(2, first.getLoanCount());
+        assertEquals(1, first.getSkippedLoanCount());
+    }
+}
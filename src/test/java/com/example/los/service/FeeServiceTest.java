@@ -0,0 +1,103 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.FeeBatchRequest;
+import com.example.los.application.dto.FeeBatchResponse;
+import com.example.los.application.dto.FeeCalculationRequest;
+import com.example.los.application.dto.FeeCalculationResponse;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.FeeService;
+import com.example.los.domain.policy.CfgFee;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.example.los.infrastructure.config.PricingProperties;
+import com.example.los.infrastructure.repository.FeeRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class FeeServiceTest {
+
+    @Mock
+    private FeeRepository feeRepository;
+
+    @Test
+    void testCompiledFeesMatchProcessingFeeFormula() {
+        when(feeRepository.findAll()).thenReturn(List.of(
+                fee(1L, 7L, "PROCESSING", "1.25", "PERCENTAGE"),
+                fee(2L, 7L, "DOCUMENTATION", "15.00", "FIXED"),
+                fee(3L, 7L, "PROCESSING", "10.00", "FIXED"),
+                fee(4L, 7L, "INSURANCE", "0.35", "UNKNOWN")));
+        FeeService feeService = new FeeService(feeRepository, new PricingProperties());
+        AnnuityFactorCache cache = new AnnuityFactorCache(new CalculationProperties());
+        CalculationService calculationService = new CalculationService(
+                new AmortizationEngine(cache), cache, new CalculationProperties());
+
+        BigDecimal amount = new BigDecimal("12345.67");
+        FeeCalculationResponse response = feeService.calculateFees(request(7L, amount));
+
+        BigDecimal processing = calculationService.calculateProcessingFee(amount, new BigDecimal("1.25"), BigDecimal.ZERO)
+                .add(new BigDecimal("10.00"));
+        assertEquals(List.of("PROCESSING", "DOCUMENTATION"), List.copyOf(response.getFees().keySet()));
+        assertEquals(processing, response.getFees().get("PROCESSING"));
+        assertEquals(processing.add(new BigDecimal("15.00")), response.getTotalFee());
+        assertEquals(response.getTotalFee(), feeService.calculateTotalFee(7L, amount));
+        assertEquals(new BigDecimal("0.00"), feeService.calculateTotalFee(8L, amount));
+    }
+
+    @Test
+    void testBatchUsesOneSnapshotAndReportsInvalidItems() {
+        when(feeRepository.findAll()).thenReturn(List.of(fee(1L, 7L, "PROCESSING", "2.00", "PERCENTAGE")));
+        FeeService feeService = new FeeService(feeRepository, new PricingProperties());
+
+        FeeBatchResponse response = feeService.calculateFeesBatch(FeeBatchRequest.builder()
+                .items(List.of(
+                        request(7L, new BigDecimal("1000.00")),
+                        request(7L, new BigDecimal("-5")),
+                        request(7L, new BigDecimal("0.125"))))
+                .totalsOnly(true)
+                .build());
+
+        assertEquals(3, response.getItemCount());
+        assertEquals(1, response.getFailedCount());
+        assertEquals(new BigDecimal("20.00"), response.getResults().get(0).getTotalFee());
+        assertNull(response.getResults().get(0).getFees());
+        assertNotNull(response.getResults().get(1).getError());
+        assertEquals(new BigDecimal("0.00"), response.getResults().get(2).getTotalFee());
+    }
+
+    @Test
+    void testReloadSwapsCompiledSchedules() {
+        when(feeRepository.findAll())
+                .thenReturn(List.of(fee(1L, 7L, "PROCESSING", "50.00", "FIXED")))
+                .thenReturn(List.of(fee(1L, 7L, "PROCESSING", "75.00", "FIXED")));
+        FeeService feeService = new FeeService(feeRepository, new PricingProperties());
+
+        assertEquals(new BigDecimal("50.00"), feeService.calculateTotalFee(7L, new BigDecimal("1000")));
+        feeService.reload();
+        assertEquals(new BigDecimal("75.00"), feeService.calculateTotalFee(7L, new BigDecimal("1000")));
+    }
+
+    private FeeCalculationRequest request(Long productId, BigDecimal amount) {
+        return FeeCalculationRequest.builder().productId(productId).loanAmount(amount).build();
+    }
+
+    private CfgFee fee(Long id, Long productId, String type, String amount, String method) {
+        CfgFee fee = new CfgFee();
+        fee.setId(id);
+        fee.setProductId(productId);
+        fee.setFeeTypeCode(type);
+        fee.setAmount(new BigDecimal(amount));
+        fee.setCalculationMethod(method);
+        return fee;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.example.los.application.funnel.FunnelCounters;
+import com.example.los.application.funnel.FunnelCounters.Bucket;
+import com.example.los.application.funnel.FunnelCounters.Delta;
+import com.example.los.application.funnel.FunnelCounters.Resolution;
+import com.example.los.application.service.FunnelCounterService;
+import com.example.los.domain.lifecycle.ApplicationSnapshot;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.infrastructure.config.FunnelProperties;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class FunnelCounterServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Test
+    void testWindowUsesHourBucketsForWholeHours() {
+        // 10:58 to 12:03, all within the minute retention
+        long from = 10 * 60 + 58;
+        long to = 12 * 60 + 3;
+
+        List<Bucket> buckets = FunnelCounters.covering("SUBMITTED", from, to, 0);
+
+        assertEquals(List.of(
+                new Bucket(Resolution.MINUTE, from, "SUBMITTED"),
+                new Bucket(Resolution.MINUTE, from + 1, "SUBMITTED"),
+                new Bucket(Resolution.HOUR, 11, "SUBMITTED"),
+                new Bucket(Resolution.MINUTE, 12 * 60, "SUBMITTED"),
+                new Bucket(Resolution.MINUTE, 12 * 60 + 1, "SUBMITTED"),
+                new Bucket(Resolution.MINUTE, 12 * 60 + 2, "SUBMITTED"),
+                new Bucket(Resolution.MINUTE, 12 * 60 + 3, "SUBMITTED")), buckets);
+        assertEquals(new Bucket(Resolution.HOUR, 10, "SUBMITTED"),
+                FunnelCounters.covering("SUBMITTED", from, to, 11 * 60).get(0));
+    }
+
+    @Test
+    void testDrainMovesStatusWithinCreationBuckets() {
+        FunnelCounters counters = new FunnelCounters();
+        counters.add(125, "DRAFT", 1);
+        counters.add(125, "DRAFT", -1);
+        counters.add(125, "SUBMITTED", 1);
+        counters.add(61, "SUBMITTED", 1);
+
+        List<Delta> deltas = counters.drain();
+
+        assertEquals(4, deltas.size());
+        assertTrue(deltas.contains(new Delta(new Bucket(Resolution.MINUTE, 125, "SUBMITTED"), 1)));
+        assertTrue(deltas.contains(new Delta(new Bucket(Resolution.MINUTE, 61, "SUBMITTED"), 1)));
+        assertTrue(deltas.contains(new Delta(new Bucket(Resolution.HOUR, 2, "SUBMITTED"), 1)));
+        assertTrue(deltas.contains(new Delta(new Bucket(Resolution.HOUR, 1, "SUBMITTED"), 1)));
+        assertTrue(deltas.stream().noneMatch(delta -> delta.bucket().status().equals("DRAFT")));
+        assertTrue(counters.drain().isEmpty());
+
+        counters.restore(deltas);
+        assertEquals(1, counters.pending(new Bucket(Resolution.MINUTE, 125, "SUBMITTED")));
+    }
+
+    @Test
+    void testCountsInDatabaseUntilCountersAreStarted() {
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        Instant since = now.minusSeconds(600);
+        FunnelCounterService service = new FunnelCounterService(redisTemplate, loanApplicationRepository,
+                new FunnelProperties(), Clock.fixed(now, ZoneOffset.UTC));
+        when(loanApplicationRepository.countByStatusCodeSinceDate(ApplicationStatus.SUBMITTED, since)).thenReturn(4L);
+
+        assertEquals(4L, service.countSince(ApplicationStatus.SUBMITTED, since));
+        assertEquals(0L, service.countSince(ApplicationStatus.SUBMITTED, now.plusSeconds(120)));
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void testDatabaseFallbackCountsTheSameFlooredWindow() {
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        FunnelCounterService service = new FunnelCounterService(redisTemplate, loanApplicationRepository,
+                new FunnelProperties(), Clock.fixed(now, ZoneOffset.UTC));
+        when(loanApplicationRepository.countByStatusCodeSinceDate(eq(ApplicationStatus.SUBMITTED), any()))
+                .thenReturn(1L);
+
+        service.countSince(ApplicationStatus.SUBMITTED, Instant.parse("2026-03-01T11:50:30Z"));
+        service.countSince(ApplicationStatus.SUBMITTED, Instant.parse("2026-02-27T09:40:10Z"));
+
+        verify(loanApplicationRepository).countByStatusCodeSinceDate(ApplicationStatus.SUBMITTED,
+                Instant.parse("2026-03-01T11:50:00Z"));
+        // Past the minute retention the buckets start at the hour
+        verify(loanApplicationRepository).countByStatusCodeSinceDate(ApplicationStatus.SUBMITTED,
+                Instant.parse("2026-02-27T09:00:00Z"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMissingMarkerFallsBackToTheDatabase() {
+        Instant now = Instant.parse("2026-03-01T12:00:00Z");
+        FunnelCounterService service = new FunnelCounterService(redisTemplate, loanApplicationRepository,
+                new FunnelProperties(), Clock.fixed(now, ZoneOffset.UTC));
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get("los:funnel:counted-from")).thenReturn(String.valueOf(epochMinute(now) - 120));
+        service.startCounting();
+        Instant since = now.minusSeconds(300);
+        when(redisTemplate.executePipelined(any(SessionCallback.class)))
+                .thenReturn(Arrays.asList(String.valueOf(epochMinute(now) - 120), "3", null, "1", null, null, null))
+                .thenReturn(Arrays.asList(null, null, null, null, null, null, null));
+        when(loanApplicationRepository.countByStatusCodeSinceDate(ApplicationStatus.SUBMITTED, since)).thenReturn(9L);
+
+        assertEquals(4L, service.countSince(ApplicationStatus.SUBMITTED, since));
+        assertEquals(9L, service.countSince(ApplicationStatus.SUBMITTED, since));
+        assertEquals(9L, service.countSince(ApplicationStatus.SUBMITTED, since));
+
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testReconcileRebuildsRecentBucketsFromTheDatabase() {
+        Instant now = Instant.parse("2026-03-01T12:00:30Z");
+        FunnelProperties properties = new FunnelProperties();
+        properties.setReconcileWindow(Duration.ofMinutes(30));
+        FunnelCounterService service = new FunnelCounterService(redisTemplate, loanApplicationRepository,
+                properties, Clock.fixed(now, ZoneOffset.UTC));
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(eq("los:funnel:reconcile"), anyString(), eq(properties.getReconcileInterval())))
+                .thenReturn(true);
+        when(values.get("los:funnel:counted-from")).thenReturn(null);
+        Instant created = Instant.parse("2026-03-01T11:45:10Z");
+        when(loanApplicationRepository.findSnapshotsCreatedBetween(Instant.parse("2026-03-01T11:00:00Z"), now))
+                .thenReturn(List.of(snapshot(ApplicationStatus.SUBMITTED, created),
+                        snapshot(ApplicationStatus.SUBMITTED, created), snapshot(ApplicationStatus.APPROVED, created)));
+        RedisOperations<String, String> pipeline = mock(RedisOperations.class);
+        HashOperations<String, Object, Object> hashes = mock(HashOperations.class);
+        when(pipeline.opsForHash()).thenReturn(hashes);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation ->
+                invocation.getArgument(0, SessionCallback.class).execute(pipeline));
+
+        service.reconcile();
+
+        ArgumentCaptor<Map<Object, Object>> fields = ArgumentCaptor.forClass(Map.class);
+        verify(hashes).putAll(eq("los:funnel:m:" + epochMinute(created)), fields.capture());
+        assertEquals("2", fields.getValue().get("SUBMITTED"));
+        assertEquals("1", fields.getValue().get("APPROVED"));
+        assertEquals("0", fields.getValue().get("DRAFT"));
+        verify(hashes).putAll(eq("los:funnel:m:" + epochMinute(now)), argThat(map -> "0".equals(map.get("SUBMITTED"))));
+        verify(hashes).putAll(eq("los:funnel:h:" + epochMinute(created) / 60),
+                argThat(map -> "2".equals(map.get("SUBMITTED"))));
+        verify(values).set("los:funnel:counted-from",
+                String.valueOf(epochMinute(Instant.parse("2026-03-01T11:00:00Z"))));
+    }
+
+    private static ApplicationSnapshot snapshot(ApplicationStatus status, Instant createdAt) {
+        return new ApplicationSnapshot(status, 1L, 1L, BigDecimal.TEN, createdAt);
+    }
+
+    private static long epochMinute(Instant instant) {
+        return instant.getEpochSecond() / 60;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.service.InterestRateService;
+import com.example.los.domain.policy.CfgInterestRate;
+import com.example.los.infrastructure.repository.InterestRateRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class InterestRateServiceTest {
+
+    @Mock
+    private InterestRateRepository interestRateRepository;
+
+    @InjectMocks
+    private InterestRateService interestRateService;
+
+    @Test
+    void testResolvesTenureBandAndEffectivePeriod() {
+        when(interestRateRepository.findAll()).thenReturn(List.of(
+                rate(1L, 1L, 1, 36, "8.0000", "1.5000", LocalDate.of(2025, 1, 1), LocalDate.of(2025, 6, 30)),
+                rate(2L, 1L, 1, 36, "7.5000", "1.5000", LocalDate.of(2025, 7, 1), null),
+                rate(3L, 1L, 37, 120, "9.0000", null, LocalDate.of(2025, 1, 1), null)));
+
+        assertEquals(new BigDecimal("9.5000"), interestRateService.getAnnualRate(1L, 24, LocalDate.of(2025, 6, 30)));
+        assertEquals(new BigDecimal("9.0000"), interestRateService.getAnnualRate(1L, 24, LocalDate.of(2025, 7, 1)));
+        assertEquals(new BigDecimal("9.0000"), interestRateService.getAnnualRate(1L, 37, LocalDate.of(2026, 3, 1)));
+        assertTrue(interestRateService.resolve(1L, 121, LocalDate.of(2025, 7, 1)).isEmpty());
+        assertTrue(interestRateService.resolve(1L, 24, LocalDate.of(2024, 12, 31)).isEmpty());
+        assertTrue(interestRateService.resolve(2L, 24, LocalDate.of(2025, 7, 1)).isEmpty());
+    }
+
+    @Test
+    void testOverlapPrefersLatestEffectiveFromThenNarrowerBand() {
+        when(interestRateRepository.findAll()).thenReturn(List.of(
+                rate(1L, 5L, null, null, "10.0000", "0", LocalDate.of(2025, 1, 1), null),
+                rate(2L, 5L, 12, 24, "8.0000", "0", LocalDate.of(2025, 1, 1), null),
+                rate(3L, 5L, 1, 60, "6.0000", "0", LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31))));
+
+        assertEquals(new BigDecimal("10.0000"), interestRateService.getAnnualRate(5L, 6, LocalDate.of(2025, 2, 1)));
+        assertEquals(new BigDecimal("8.0000"), interestRateService.getAnnualRate(5L, 18, LocalDate.of(2025, 2, 1)));
+        assertEquals(new BigDecimal("6.0000"), interestRateService.getAnnualRate(5L, 18, LocalDate.of(2025, 3, 15)));
+        assertEquals(new BigDecimal("8.0000"), interestRateService.getAnnualRate(5L, 18, LocalDate.of(2025, 4, 1)));
+        assertEquals(new BigDecimal("10.0000"), interestRateService.getAnnualRate(5L, 240, LocalDate.of(2025, 3, 15)));
+    }
+
+    @Test
+    void testReloadSwapsIndex() {
+        when(interestRateRepository.findAll())
+                .thenReturn(List.of(rate(1L, 1L, 1, 12, "5.0000", "0", null, null)))
+                .thenReturn(List.of(rate(1L, 1L, 1, 12, "6.0000", "0", null, null)));
+
+        assertEquals(new BigDecimal("5.0000"), interestRateService.getAnnualRate(1L, 12, LocalDate.now()));
+        interestRateService.reload();
+        assertEquals(new BigDecimal("6.0000"), interestRateService.getAnnualRate(1L, 12, LocalDate.now()));
+        verify(interestRateRepository, times(2)).findAll();
+    }
+
+    private CfgInterestRate rate(Long id, Long productId, Integer minTenure, Integer maxTenure, String baseRate,
+                                 String riskPremium, LocalDate from, LocalDate to) {
+        CfgInterestRate rate = new CfgInterestRate();
+        rate.setId(id);
+        rate.setProductId(productId);
+        rate.setMinTenure(minTenure);
+        rate.setMaxTenure(maxTenure);
+        rate.setBaseRate(new BigDecimal(baseRate));
+        rate.setRiskPremium(riskPremium != null ? new BigDecimal(riskPremium) : null);
+        rate.setEffectiveFrom(from);
+        rate.setEffectiveTo(to);
+        return rate;
+    }
+}
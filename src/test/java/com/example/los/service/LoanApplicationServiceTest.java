@@ -0,0 +1,171 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.dto.LoanApplicationBulkRequest;
+import com.example.los.application.dto.LoanApplicationBulkResponse;
+import com.example.los.application.dto.LoanApplicationFilter;
+import com.example.los.application.dto.LoanApplicationPage;
+import com.example.los.application.dto.LoanApplicationRequest;
+import com.example.los.application.dto.LoanApplicationResponse;
+import com.example.los.application.service.ApplicationAggregateService;
+import com.example.los.application.service.ApplicationNumberService;
+import com.example.los.application.service.FeeService;
+import com.example.los.application.service.FunnelCounterService;
+import com.example.los.application.service.InterestRateService;
+import com.example.los.application.service.LoanApplicationService;
+import com.example.los.domain.entity.MProduct;
+import com.example.los.domain.entity.TCustomer;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.CustomerRepository;
+import com.example.los.infrastructure.repository.LoanApplicationQueryRepository;
+import com.example.los.infrastructure.repository.LoanApplicationQueryRepository.ApplicationSummary;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+import com.example.los.infrastructure.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class LoanApplicationServiceTest {
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private LoanApplicationQueryRepository loanApplicationQueryRepository;
+
+    @Mock
+    private CustomerRepository customerRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InterestRateService interestRateService;
+
+    @Mock
+    private FeeService feeService;
+
+    @Mock
+    private ApplicationAggregateService applicationAggregateService;
+
+    @Mock
+    private FunnelCounterService funnelCounterService;
+
+    @Test
+    void testBulkIntakeLoadsReferencesOnceAndPartiallySucceeds() {
+        TCustomer customer = new TCustomer();
+        customer.setId(1L);
+        MProduct product = new MProduct();
+        product.setId(7L);
+        product.setProductCode("PL");
+        product.setStatus("ACTIVE");
+        product.setMinAmount(new BigDecimal("1000"));
+        product.setMaxAmount(new BigDecimal("50000"));
+
+        when(customerRepository.findAllById(any())).thenReturn(List.of(customer));
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+        when(interestRateService.resolve(anyLong(), anyInt(), any())).thenReturn(Optional.empty());
+        when(feeService.calculateTotalFee(anyLong(), any())).thenReturn(new BigDecimal("10.00"));
+        when(loanApplicationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TLoanApplication> saved = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < saved.size(); i++) {
+                saved.get(i).setId(100L + i);
+            }
+            return saved;
+        });
+
+        LoanApplicationService service = service(new LoanApplicationProperties());
+        LoanApplicationBulkResponse response = service.createLoanApplications(new LoanApplicationBulkRequest(List.of(
+                item(1L, 7L, "5000"),
+                item(2L, 7L, "5000"),
+                item(1L, 7L, "90000"),
+                item(1L, 9L, "5000"),
+                item(1L, 7L, "20000"))));
+
+        assertEquals(5, response.getItemCount());
+        assertEquals(2, response.getCreatedCount());
+        assertEquals(3, response.getFailedCount());
+        assertEquals(100L, response.getResults().get(0).getId());
+        assertEquals("DRAFT", response.getResults().get(0).getStatusCode());
+        assertTrue(response.getResults().get(1).getRemarks().startsWith("Customer not found"));
+        assertTrue(response.getResults().get(2).getRemarks().contains("outside product limits"));
+        assertTrue(response.getResults().get(3).getRemarks().startsWith("Product not found"));
+        assertEquals(101L, response.getResults().get(4).getId());
+        assertNull(response.getResults().get(4).getRemarks());
+
+        verify(customerRepository, times(1)).findAllById(any());
+        verify(productRepository, times(1)).findAllById(any());
+        verify(customerRepository, never()).findById(any());
+        verify(loanApplicationRepository, times(1)).saveAll(anyList());
+        verify(applicationAggregateService).recordCreated(argThat(created -> created.size() == 2));
+    }
+
+    @Test
+    void testBulkIntakeRejectsOversizedBatch() {
+        LoanApplicationProperties properties = new LoanApplicationProperties();
+        properties.setMaxBulkSize(1);
+        LoanApplicationService service = service(properties);
+
+        assertThrows(IllegalArgumentException.class, () -> service.createLoanApplications(
+                new LoanApplicationBulkRequest(List.of(item(1L, 7L, "5000"), item(1L, 7L, "6000")))));
+        verifyNoInteractions(customerRepository, productRepository, loanApplicationRepository);
+    }
+
+    @Test
+    void testListingPagesOnCreatedAtAndIdKeyset() {
+        Instant createdAt = Instant.parse("2026-03-01T10:15:30.123456Z");
+        when(loanApplicationQueryRepository.findPage(any(), isNull(), isNull(), eq(3))).thenReturn(List.of(
+                summary(30L, createdAt.plusSeconds(5)), summary(29L, createdAt), summary(28L, createdAt)));
+        when(loanApplicationQueryRepository.findPage(any(), eq(createdAt), eq(29L), eq(3)))
+                .thenReturn(List.of(summary(28L, createdAt)));
+
+        LoanApplicationService service = service(new LoanApplicationProperties());
+        LoanApplicationFilter filter = LoanApplicationFilter.builder().statusCode("SUBMITTED").build();
+
+        LoanApplicationPage first = service.listLoanApplications(filter, null, 2);
+        assertEquals(List.of(30L, 29L), first.getItems().stream().map(LoanApplicationResponse::getId).toList());
+        assertTrue(first.isHasMore());
+        assertNotNull(first.getNextCursor());
+
+        LoanApplicationPage second = service.listLoanApplications(filter, first.getNextCursor(), 2);
+        assertEquals(List.of(28L), second.getItems().stream().map(LoanApplicationResponse::getId).toList());
+        assertFalse(second.isHasMore());
+        assertNull(second.getNextCursor());
+
+        assertThrows(IllegalArgumentException.class, () -> service.listLoanApplications(filter, "not-a-cursor", 2));
+        assertThrows(IllegalArgumentException.class, () -> service.listLoanApplications(filter, null, 10_000));
+    }
+
+    private LoanApplicationService service(LoanApplicationProperties properties) {
+        return new LoanApplicationService(loanApplicationRepository, loanApplicationQueryRepository, customerRepository,
+                productRepository, interestRateService, feeService,
+                new ApplicationNumberService(1, System::currentTimeMillis), null, applicationAggregateService,
+                funnelCounterService, properties);
+    }
+
+    private static ApplicationSummary summary(long id, Instant createdAt) {
+        return new ApplicationSummary(id, "APP-" + id, 1L, 7L, 3L, new BigDecimal("5000.00"), 12, "SUBMITTED", createdAt);
+    }
+
+    private static LoanApplicationRequest item(Long customerId, Long productId, String amount) {
+        return LoanApplicationRequest.builder()
+                .customerId(customerId)
+                .productId(productId)
+                .appliedAmount(new BigDecimal(amount))
+                .loanTermMonths(12)
+                .build();
+    }
+}
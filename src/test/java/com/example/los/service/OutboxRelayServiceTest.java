@@ -0,0 +1,151 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.los.application.service.OutboxRelayService;
+import com.example.los.application.service.OutboxService;
+import com.example.los.infrastructure.config.OutboxProperties;
+import com.example.los.infrastructure.repository.OutboxJdbcRepository;
+import com.example.los.infrastructure.repository.OutboxJdbcRepository.OutboxRecord;
+
+@ExtendWith(MockitoExtension.class)
+@EmbeddedKafka(partitions = 2, topics = OutboxRelayServiceTest.TOPIC)
+public class OutboxRelayServiceTest {
+
+    static final String TOPIC = "los.test.loan-application";
+
+    @Mock
+    private OutboxJdbcRepository outboxJdbcRepository;
+
+    @Test
+    void testPublishesLockedBatchKeyedByApplication(EmbeddedKafkaBroker broker) {
+        KafkaTemplate<String, String> kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(broker), new StringSerializer(), new StringSerializer()));
+        when(outboxJdbcRepository.lockNextBatch(100, 10)).thenReturn(List.of(
+                event(1L, 7L, "{\"toStatus\":\"SUBMITTED\"}"),
+                event(2L, 7L, "{\"toStatus\":\"UNDER_REVIEW\"}"),
+                event(3L, 8L, "{\"toStatus\":\"SUBMITTED\"}")));
+
+        int published = relay(kafkaTemplate).relayPending();
+
+        assertEquals(3, published);
+        verify(outboxJdbcRepository).deleteByIds(List.of(1L, 3L, 2L));
+        verify(outboxJdbcRepository).recordFailures(List.of());
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(broker, "outbox-relay-test", false);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer);
+            assertEquals(3, records.count());
+            int previousEventId = 0;
+            for (ConsumerRecord<String, String> record : records.records(TOPIC)) {
+                if ("7".equals(record.key())) {
+                    int eventId = Integer.parseInt(new String(record.headers().lastHeader("eventId").value(),
+                            StandardCharsets.UTF_8));
+                    assertTrue(eventId > previousEventId, "events of one application stay in order");
+                    previousEventId = eventId;
+                }
+            }
+            assertEquals(2, previousEventId);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUnacknowledgedEventsStayForTheNextPoll() {
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        CompletableFuture<SendResult<String, String>> acknowledged = CompletableFuture.completedFuture(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(acknowledged, CompletableFuture.failedFuture(new KafkaException("broker down")));
+        when(outboxJdbcRepository.lockNextBatch(100, 10)).thenReturn(List.of(event(1L, 7L, "{}"), event(2L, 8L, "{}")));
+
+        int published = relay(kafkaTemplate).relayPending();
+
+        assertEquals(1, published);
+        verify(outboxJdbcRepository).deleteByIds(List.of(1L));
+        verify(outboxJdbcRepository).recordFailures(argThat(failures -> failures.size() == 1
+                && failures.get(0).id() == 2L && failures.get(0).error().contains("broker down")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testLaterEventsOfAFailedApplicationAreHeldBack() {
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        CompletableFuture<SendResult<String, String>> acknowledged = CompletableFuture.completedFuture(null);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")), acknowledged);
+        when(outboxJdbcRepository.lockNextBatch(100, 10)).thenReturn(List.of(
+                event(1L, 7L, "{}"), event(2L, 8L, "{}"), event(3L, 7L, "{}")));
+
+        int published = relay(kafkaTemplate).relayPending();
+
+        // Event 3 is neither sent nor counted as an attempt, so it cannot overtake event 1
+        assertEquals(1, published);
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        verify(outboxJdbcRepository).deleteByIds(List.of(2L));
+        verify(outboxJdbcRepository).recordFailures(argThat(failures -> failures.size() == 1
+                && failures.get(0).id() == 1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testEventIsParkedAfterItsLastAllowedAttempt() {
+        KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("record too large")));
+        when(outboxJdbcRepository.lockNextBatch(100, 3)).thenReturn(List.of(
+                new OutboxRecord(4L, 9L, OutboxService.APPLICATION_STATUS_CHANGED, TOPIC, "{}", 2),
+                new OutboxRecord(5L, 10L, OutboxService.APPLICATION_STATUS_CHANGED, TOPIC, "{}", 0)));
+        OutboxRelayService relay = relay(kafkaTemplate, 3);
+
+        assertEquals(0, relay.relayPending());
+
+        // Both failures are counted; event 4 reaches the limit and is no longer locked by later polls
+        verify(outboxJdbcRepository).recordFailures(argThat(failures -> failures.size() == 2));
+        verify(outboxJdbcRepository, times(1)).lockNextBatch(100, 3);
+    }
+
+    private OutboxRelayService relay(KafkaTemplate<String, String> kafkaTemplate) {
+        return relay(kafkaTemplate, 10);
+    }
+
+    private OutboxRelayService relay(KafkaTemplate<String, String> kafkaTemplate, int maxAttempts) {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setBatchSize(100);
+        properties.setMaxAttempts(maxAttempts);
+        return new OutboxRelayService(outboxJdbcRepository, kafkaTemplate, TransactionOperations.withoutTransaction(),
+                properties);
+    }
+
+    private static OutboxRecord event(long id, long applicationId, String payload) {
+        return new OutboxRecord(id, applicationId, OutboxService.APPLICATION_STATUS_CHANGED, TOPIC, payload, 0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.service.OutboxService;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.ApprovalDecision;
+import com.example.los.domain.entity.TOutboxEvent;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.config.OutboxProperties;
+import com.example.los.infrastructure.repository.OutboxEventRepository;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+public class OutboxServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void testStatusChangePayload() {
+        service().onTransition(new ApplicationTransition(7L, ApplicationStatus.SUBMITTED,
+                ApplicationStatus.UNDER_REVIEW, 3L, null, new BigDecimal("5000.00"), new BigDecimal("5000.00"),
+                Instant.parse("2026-03-01T10:00:00Z")));
+
+        TOutboxEvent event = saved();
+        JsonNode payload = objectMapper.readTree(event.getPayload());
+        assertEquals(7L, event.getAggregateId());
+        assertEquals(OutboxService.APPLICATION_STATUS_CHANGED, payload.get("type").asString());
+        assertEquals("UNDER_REVIEW", payload.get("toStatus").asString());
+        assertTrue(payload.get("productId").isNull());
+        assertTrue(event.getPayload().contains("\"loanAmount\":5000.00"), event.getPayload());
+        assertEquals(event.getCreatedAt().toString(), payload.get("occurredAt").asString());
+    }
+
+    @Test
+    void testDecisionRemarksAreEscaped() {
+        Instant decidedAt = Instant.parse("2026-03-02T09:30:00Z");
+        service().onDecision(new ApprovalDecision(11L, 7L, 2, ApprovalStatus.REJECTED, "officer",
+                decidedAt, "Income \"unverified\"\n\tsee notes"));
+
+        JsonNode payload = objectMapper.readTree(saved().getPayload());
+        assertEquals("REJECTED", payload.get("decision").asString());
+        assertEquals("Income \"unverified\"\n\tsee notes", payload.get("remarks").asString());
+        assertEquals("2026-03-02T09:30:00Z", payload.get("decidedAt").asString());
+    }
+
+    private OutboxService service() {
+        return new OutboxService(outboxEventRepository, new OutboxProperties(), objectMapper);
+    }
+
+    private TOutboxEvent saved() {
+        ArgumentCaptor<TOutboxEvent> event = ArgumentCaptor.forClass(TOutboxEvent.class);
+        verify(outboxEventRepository).save(event.capture());
+        return event.getValue();
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.PenaltySweepResult;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.PenaltySweepService;
+import com.example.los.domain.entity.TBatchCheckpoint;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.example.los.infrastructure.config.PenaltySweepProperties;
+import com.example.los.infrastructure.repository.BatchCheckpointRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository.OverdueInstallment;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository.PenaltyUpdate;
+
+@ExtendWith(MockitoExtension.class)
+public class PenaltySweepServiceTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2026, 6, 30);
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(new CalculationProperties());
+
+    private final CalculationService calculationService =
+            new CalculationService(new AmortizationEngine(annuityFactorCache), annuityFactorCache,
+                    new CalculationProperties());
+
+    @Mock
+    private RepaymentScheduleJdbcRepository repaymentScheduleJdbcRepository;
+
+    @Mock
+    private BatchCheckpointRepository batchCheckpointRepository;
+
+    @Test
+    void testResumesFromTheCheckpointedId() {
+        claim(checkpoint(400L, 300L, "FAILED"), 1);
+        List<OverdueInstallment> page = installments(401, 3);
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(400L), eq(RUN_DATE), eq(3))).thenReturn(page);
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(403L), eq(RUN_DATE), eq(3))).thenReturn(List.of());
+        when(repaymentScheduleJdbcRepository.updatePenalties(anyList(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).size());
+        when(batchCheckpointRepository.recordProgress(eq(9L), anyString(), eq(403L), eq(303L), any())).thenReturn(1);
+        when(batchCheckpointRepository.release(eq(9L), anyString(), eq("COMPLETED"), any())).thenReturn(1);
+
+        PenaltySweepResult result = service(2).runSweep(RUN_DATE);
+
+        assertEquals("COMPLETED", result.getStatus());
+        assertEquals(400L, result.getResumedFromId());
+        assertEquals(3, result.getRowsScanned());
+        assertEquals(3, result.getRowsUpdated());
+        assertEquals(1, result.getPages());
+    }
+
+    @Test
+    void testInstallmentsOfALoanStayOnOneWorker() {
+        claim(checkpoint(0L, 0L, null), 1);
+        List<OverdueInstallment> page = installments(1, 40);
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(0L), eq(RUN_DATE), eq(40))).thenReturn(page);
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(40L), eq(RUN_DATE), eq(40))).thenReturn(List.of());
+        List<List<PenaltyUpdate>> batches = Collections.synchronizedList(new ArrayList<>());
+        when(repaymentScheduleJdbcRepository.updatePenalties(anyList(), anyInt())).thenAnswer(invocation -> {
+            List<PenaltyUpdate> updates = invocation.getArgument(0);
+            batches.add(updates);
+            return updates.size();
+        });
+        when(batchCheckpointRepository.recordProgress(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(batchCheckpointRepository.release(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+
+        PenaltySweepResult result = service(4).runSweep(RUN_DATE);
+
+        assertEquals(40, result.getRowsUpdated());
+        assertEquals(4, batches.size());
+        Map<Long, Integer> workerOfLoan = new HashMap<>();
+        for (int worker = 0; worker < batches.size(); worker++) {
+            for (PenaltyUpdate update : batches.get(worker)) {
+                Integer previous = workerOfLoan.putIfAbsent(loanOf(update.id()), worker);
+                assertTrue(previous == null || previous == worker, "loan " + loanOf(update.id()) + " split across workers");
+            }
+        }
+        assertEquals(7, workerOfLoan.size());
+    }
+
+    @Test
+    void testPenaltiesAreRecomputedFromTheRunDate() {
+        claim(checkpoint(0L, 0L, null), 1);
+        OverdueInstallment late = new OverdueInstallment(1L, 10L, RUN_DATE.minusDays(45), new BigDecimal("1000.00"));
+        OverdueInstallment recent = new OverdueInstallment(2L, 11L, RUN_DATE.minusDays(5), new BigDecimal("250.00"));
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(0L), eq(RUN_DATE), eq(2))).thenReturn(List.of(late, recent));
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(2L), eq(RUN_DATE), eq(2))).thenReturn(List.of());
+        List<PenaltyUpdate> written = Collections.synchronizedList(new ArrayList<>());
+        when(repaymentScheduleJdbcRepository.updatePenalties(anyList(), eq(500))).thenAnswer(invocation -> {
+            List<PenaltyUpdate> updates = invocation.getArgument(0);
+            written.addAll(updates);
+            return updates.size();
+        });
+        when(batchCheckpointRepository.recordProgress(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(1);
+        when(batchCheckpointRepository.release(anyLong(), anyString(), anyString(), any())).thenReturn(1);
+
+        service(1).runSweep(RUN_DATE);
+
+        assertEquals(List.of(
+                new PenaltyUpdate(1L, expectedPenalty(late, 45)),
+                new PenaltyUpdate(2L, expectedPenalty(recent, 5))), written);
+    }
+
+    @Test
+    void testRunClaimedByAnotherInstanceIsSkipped() {
+        TBatchCheckpoint checkpoint = checkpoint(800L, 800L, "RUNNING");
+        checkpoint.setOwnerId("other-instance");
+        claim(checkpoint, 0);
+
+        PenaltySweepResult result = service(2).runSweep(RUN_DATE);
+
+        assertEquals("RUNNING", result.getStatus());
+        verifyNoInteractions(repaymentScheduleJdbcRepository);
+        verify(batchCheckpointRepository, never()).recordProgress(anyLong(), anyString(), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void testSweepStopsWhenItsClaimIsTakenOver() {
+        claim(checkpoint(0L, 0L, null), 1);
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(0L), eq(RUN_DATE), eq(3))).thenReturn(installments(1, 3));
+        when(repaymentScheduleJdbcRepository.findOverduePage(eq(3L), eq(RUN_DATE), eq(3))).thenReturn(installments(4, 3));
+        when(repaymentScheduleJdbcRepository.updatePenalties(anyList(), anyInt()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).size());
+        when(batchCheckpointRepository.recordProgress(anyLong(), anyString(), anyLong(), anyLong(), any())).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> service(2).runSweep(RUN_DATE));
+
+        verify(repaymentScheduleJdbcRepository, never()).findOverduePage(eq(6L), any(), anyInt());
+        verify(batchCheckpointRepository).release(eq(9L), anyString(), eq("FAILED"), any());
+    }
+
+    private void claim(TBatchCheckpoint checkpoint, int claimed) {
+        when(batchCheckpointRepository.claim(eq("LATE_PAYMENT_PENALTY_SWEEP"), eq(RUN_DATE), anyString(),
+                eq("RUNNING"), eq("COMPLETED"), any(), any())).thenReturn(claimed);
+        when(batchCheckpointRepository.findByJobNameAndRunDate("LATE_PAYMENT_PENALTY_SWEEP", RUN_DATE))
+                .thenReturn(Optional.of(checkpoint));
+    }
+
+    private PenaltySweepService service(int workers) {
+        PenaltySweepProperties properties = new PenaltySweepProperties();
+        properties.setWorkers(workers);
+        properties.setPageSize(workers == 4 ? 40 : workers == 1 ? 2 : 3);
+        return new PenaltySweepService(repaymentScheduleJdbcRepository, batchCheckpointRepository,
+                calculationService, properties);
+    }
+
+    private BigDecimal expectedPenalty(OverdueInstallment installment, int daysLate) {
+        return calculationService.calculateLatePaymentPenalty(installment.outstanding(), BigDecimal.ZERO,
+                new BigDecimal("2.00"), daysLate).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static TBatchCheckpoint checkpoint(Long lastProcessedId, Long processedCount, String statusCode) {
+        TBatchCheckpoint checkpoint = new TBatchCheckpoint();
+        checkpoint.setId(9L);
+        checkpoint.setJobName("LATE_PAYMENT_PENALTY_SWEEP");
+        checkpoint.setRunDate(RUN_DATE);
+        checkpoint.setLastProcessedId(lastProcessedId);
+        checkpoint.setProcessedCount(processedCount);
+        checkpoint.setStatusCode(statusCode);
+        return checkpoint;
+    }
+
+    // Installments with consecutive ids, spread over loans 100-106
+    private static List<OverdueInstallment> installments(long firstId, int count) {
+        List<OverdueInstallment> installments = new ArrayList<>(count);
+        for (long id = firstId; id < firstId + count; id++) {
+            installments.add(new OverdueInstallment(id, loanOf(id), RUN_DATE.minusDays(10), new BigDecimal("500.00")));
+        }
+        return installments;
+    }
+
+    private static long loanOf(long installmentId) {
+        return 100 + installmentId % 7;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.ProductQuote;
+import com.example.los.application.dto.ProductQuoteResponse;
+import com.example.los.application.service.BatchCalculationService;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.FeeService;
+import com.example.los.application.service.InterestRateService;
+import com.example.los.application.service.ProductQuoteService;
+import com.example.los.domain.entity.MProduct;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.example.los.infrastructure.config.PricingProperties;
+import com.example.los.infrastructure.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ProductQuoteServiceTest {
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(new CalculationProperties());
+
+    private final CalculationService calculationService =
+            new CalculationService(new AmortizationEngine(annuityFactorCache), annuityFactorCache,
+                    new CalculationProperties());
+
+    private final BatchCalculationService batchCalculationService =
+            new BatchCalculationService(calculationService, new CalculationProperties());
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private InterestRateService interestRateService;
+
+    @Mock
+    private FeeService feeService;
+
+    @AfterEach
+    void tearDown() {
+        batchCalculationService.shutdown();
+    }
+
+    @Test
+    void testQuotesArePricedForTheExactAmount() {
+        when(productRepository.findActiveProductsOverlapping(new BigDecimal("100"), new BigDecimal("200")))
+                .thenReturn(List.of(product(1L, "100.00", "1000.00")));
+        when(interestRateService.resolve(anyLong(), anyInt(), any())).thenReturn(Optional.empty());
+        when(feeService.calculateTotalFee(1L, new BigDecimal("149.99"))).thenReturn(new BigDecimal("1.50"));
+
+        ProductQuoteResponse response = service().compareProducts(new BigDecimal("149.99"), 12);
+
+        ProductQuote quote = response.getQuotes().get(0);
+        assertEquals(calculationService.calculateEMISummary(EMICalculationRequest.builder()
+                .principalAmount(new BigDecimal("149.99"))
+                .annualInterestRate(new BigDecimal("12.0000"))
+                .tenureMonths(12)
+                .build()).getEmi(), quote.getEmi());
+        assertEquals(new BigDecimal("1.50"), quote.getTotalFees());
+    }
+
+    @Test
+    void testEligibilityUsesTheExactAmount() {
+        when(productRepository.findActiveProductsOverlapping(new BigDecimal("4900"), new BigDecimal("5000")))
+                .thenReturn(List.of(product(1L, "5000.00", "20000.00"), product(2L, "1000.00", "4950.00"),
+                        product(3L, "1000.00", "4960.00")));
+        when(interestRateService.resolve(anyLong(), anyInt(), any())).thenReturn(Optional.empty());
+        when(feeService.calculateTotalFee(anyLong(), any())).thenReturn(BigDecimal.ZERO);
+        ProductQuoteService service = service();
+
+        ProductQuoteResponse below = service.compareProducts(new BigDecimal("4960.00"), 24);
+        ProductQuoteResponse above = service.compareProducts(new BigDecimal("4960.01"), 24);
+
+        assertEquals(List.of(3L), below.getQuotes().stream().map(ProductQuote::getProductId).toList());
+        assertTrue(above.getQuotes().isEmpty());
+        verify(productRepository, times(1)).findActiveProductsOverlapping(any(), any());
+    }
+
+    private ProductQuoteService service() {
+        return new ProductQuoteService(productRepository, interestRateService, feeService, batchCalculationService,
+                new PricingProperties());
+    }
+
+    private static MProduct product(Long id, String minAmount, String maxAmount) {
+        MProduct product = new MProduct();
+        product.setId(id);
+        product.setProductCode("P" + id);
+        product.setInterestRate(new BigDecimal("12.0000"));
+        product.setMinAmount(new BigDecimal(minAmount));
+        product.setMaxAmount(new BigDecimal(maxAmount));
+        product.setTenureMonth(36);
+        product.setStatus("ACTIVE");
+        return product;
+    }
+}
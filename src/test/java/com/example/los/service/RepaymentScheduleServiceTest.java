@@ -0,0 +1,128 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.InterestRateService;
+import com.example.los.application.service.RepaymentScheduleService;
+import com.example.los.domain.entity.TLoanApplication;
+import com.example.los.domain.entity.TLoanRepaymentSchedule;
+import com.example.los.infrastructure.config.CalculationProperties;
+import com.example.los.infrastructure.repository.ProductRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleJdbcRepository;
+import com.example.los.infrastructure.repository.RepaymentScheduleRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class RepaymentScheduleServiceTest {
+
+    private static final LocalDate APPROVAL_DATE = LocalDate.of(2026, 1, 31);
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(new CalculationProperties());
+
+    private final CalculationService calculationService =
+            new CalculationService(new AmortizationEngine(annuityFactorCache), annuityFactorCache,
+                    new CalculationProperties());
+
+    @Mock
+    private InterestRateService interestRateService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private RepaymentScheduleRepository repaymentScheduleRepository;
+
+    @Mock
+    private RepaymentScheduleJdbcRepository repaymentScheduleJdbcRepository;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testScheduleRowsAreWrittenInOneCall() {
+        ArgumentCaptor<List<TLoanRepaymentSchedule>> rows = ArgumentCaptor.forClass(List.class);
+        when(repaymentScheduleJdbcRepository.insertSchedule(rows.capture())).thenReturn(24);
+
+        int inserted = service().persistSchedule(application(24), APPROVAL_DATE);
+
+        assertEquals(24, inserted);
+        List<TLoanRepaymentSchedule> written = rows.getValue();
+        assertEquals(24, written.size());
+        BigDecimal principal = BigDecimal.ZERO;
+        for (int i = 0; i < written.size(); i++) {
+            TLoanRepaymentSchedule row = written.get(i);
+            assertEquals(7L, row.getLoanApplicationId());
+            assertEquals(i + 1, row.getInstallmentNo());
+            assertEquals(LocalDate.of(2026, 2, 28).plusMonths(i), row.getDueDate());
+            assertEquals(row.getTotalAmount(), row.getPrincipalAmount().add(row.getInterestAmount()));
+            assertEquals("PENDING", row.getPaymentStatusCode());
+            assertSame(written.get(0).getCreatedAt(), row.getCreatedAt());
+            principal = principal.add(row.getPrincipalAmount());
+        }
+        assertEquals(new BigDecimal("12000.00"), principal);
+    }
+
+    @Test
+    void testApplicationWithoutTenureIsSkipped() {
+        assertEquals(0, service().persistSchedule(application(null), APPROVAL_DATE));
+
+        verifyNoInteractions(repaymentScheduleJdbcRepository, interestRateService, productRepository);
+    }
+
+    @Test
+    void testExistingScheduleIsKept() {
+        when(repaymentScheduleRepository.existsByLoanApplicationId(7L)).thenReturn(true);
+
+        assertEquals(0, service().persistSchedule(application(24), APPROVAL_DATE));
+
+        verify(repaymentScheduleJdbcRepository, never()).insertSchedule(any());
+    }
+
+    @Test
+    void testApplicationWithoutRateOrProductIsSkipped() {
+        TLoanApplication application = application(24);
+        application.setInterestRate(null);
+        application.setProductId(null);
+
+        assertEquals(0, service().persistSchedule(application, APPROVAL_DATE));
+
+        verifyNoInteractions(repaymentScheduleJdbcRepository, interestRateService, productRepository);
+    }
+
+    @Test
+    void testSubCentPrincipalIsSkipped() {
+        TLoanApplication application = application(24);
+        application.setLoanAmount(new BigDecimal("12000.005"));
+
+        assertEquals(0, service().persistSchedule(application, APPROVAL_DATE));
+
+        verify(repaymentScheduleJdbcRepository, never()).insertSchedule(any());
+    }
+
+    private RepaymentScheduleService service() {
+        return new RepaymentScheduleService(calculationService, interestRateService, productRepository,
+                repaymentScheduleRepository, repaymentScheduleJdbcRepository);
+    }
+
+    private static TLoanApplication application(Integer tenureMonths) {
+        TLoanApplication application = new TLoanApplication();
+        application.setId(7L);
+        application.setProductId(3L);
+        application.setLoanAmount(new BigDecimal("12000.00"));
+        application.setInterestRate(new BigDecimal("9.5000"));
+        application.setTenureMonth(tenureMonths);
+        return application;
+    }
+}
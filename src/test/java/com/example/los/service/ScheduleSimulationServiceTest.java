@@ -0,0 +1,153 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.los.application.calculation.AmortizationEngine;
+import com.example.los.application.calculation.AnnuityFactorCache;
+import com.example.los.application.dto.EMICalculationRequest;
+import com.example.los.application.dto.RepaymentSchedule;
+import com.example.los.application.dto.ScheduleEvent;
+import com.example.los.application.dto.ScheduleSimulationRequest;
+import com.example.los.application.dto.ScheduleSimulationResponse;
+import com.example.los.application.service.CalculationService;
+import com.example.los.application.service.ScheduleSimulationService;
+import com.example.los.infrastructure.config.CalculationProperties;
+
+public class ScheduleSimulationServiceTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("200000.00");
+    private static final BigDecimal RATE = new BigDecimal("8.50");
+    private static final int TENURE = 120;
+
+    private final CalculationProperties properties = new CalculationProperties();
+
+    private final AnnuityFactorCache annuityFactorCache = new AnnuityFactorCache(properties);
+
+    private final AmortizationEngine amortizationEngine = new AmortizationEngine(annuityFactorCache);
+
+    private final CalculationService calculationService =
+            new CalculationService(amortizationEngine, annuityFactorCache, properties);
+
+    private final ScheduleSimulationService simulationService =
+            new ScheduleSimulationService(calculationService, amortizationEngine, properties);
+
+    @Test
+    void testSuffixStartsFromBaseBalance() {
+        List<RepaymentSchedule> base = calculationService.calculateEMI(EMICalculationRequest.builder()
+                .principalAmount(PRINCIPAL)
+                .annualInterestRate(RATE)
+                .tenureMonths(TENURE)
+                .startDate(LocalDate.of(2025, 1, 31))
+                .build()).getRepaymentSchedule();
+
+        ScheduleSimulationResponse response = simulate(ScheduleEvent.builder()
+                .eventType(ScheduleSimulationService.PREPAYMENT)
+                .installmentNumber(18)
+                .amount(new BigDecimal("10000.00"))
+                .build());
+
+        RepaymentSchedule first = response.getRepaymentSchedule().get(0);
+        BigDecimal opening = base.get(16).getRemainingBalance().subtract(new BigDecimal("10000.00"));
+        assertEquals(18, first.getInstallmentNumber());
+        assertEquals(base.get(17).getPaymentDate(), first.getPaymentDate());
+        assertEquals(opening, first.getRemainingBalance().add(first.getPrincipalComponent()));
+        assertEquals(TENURE, response.getSimulatedTenureMonths());
+        assertTrue(response.getFinalEmi().compareTo(response.getBaseEmi()) < 0);
+        assertTrue(response.getInterestSaved().signum() > 0);
+    }
+
+    @Test
+    void testPrepaymentWithReducedTenureKeepsEmi() {
+        ScheduleSimulationResponse response = simulate(ScheduleEvent.builder()
+                .eventType(ScheduleSimulationService.PREPAYMENT)
+                .installmentNumber(24)
+                .amount(new BigDecimal("50000.00"))
+                .reduceTenure(true)
+                .build());
+
+        assertEquals(response.getBaseEmi(), response.getFinalEmi());
+        assertTrue(response.getSimulatedTenureMonths() < TENURE);
+        List<RepaymentSchedule> rows = response.getRepaymentSchedule();
+        assertEquals(0, rows.get(rows.size() - 1).getRemainingBalance().signum());
+    }
+
+    @Test
+    void testPaymentHolidayExtendsTenureAndCapitalisesInterest() {
+        ScheduleSimulationResponse response = simulate(ScheduleEvent.builder()
+                .eventType(ScheduleSimulationService.PAYMENT_HOLIDAY)
+                .installmentNumber(6)
+                .months(3)
+                .build());
+
+        List<RepaymentSchedule> rows = response.getRepaymentSchedule();
+        assertEquals(TENURE + 3, response.getSimulatedTenureMonths());
+        assertEquals(0, rows.get(0).getEmi().signum());
+        assertTrue(rows.get(2).getRemainingBalance().compareTo(rows.get(0).getRemainingBalance()) > 0);
+        assertTrue(response.getInterestSaved().signum() < 0);
+    }
+
+    @Test
+    void testVariantsReuseCachedBaseSchedule() {
+        simulate(ScheduleEvent.builder()
+                .eventType(ScheduleSimulationService.RATE_CHANGE)
+                .installmentNumber(36)
+                .annualInterestRate(new BigDecimal("9.75"))
+                .build());
+        ScheduleSimulationResponse payoff = simulate(ScheduleEvent.builder()
+                .eventType(ScheduleSimulationService.PREPAYMENT)
+                .installmentNumber(60)
+                .amount(new BigDecimal("999999.00"))
+                .build());
+
+        assertEquals(1, simulationService.cachedBaseSchedules());
+        assertEquals(59, payoff.getSimulatedTenureMonths());
+        assertTrue(payoff.getRepaymentSchedule().isEmpty());
+    }
+
+    @Test
+    void testRejectsUnknownEventType() {
+        assertThrows(IllegalArgumentException.class, () -> simulate(ScheduleEvent.builder()
+                .eventType("SKIP")
+                .installmentNumber(1)
+                .build()));
+    }
+
+    @Test
+    void testRejectsBaseTenureAboveMaximumBeforeTabulating() {
+        CalculationProperties limited = new CalculationProperties();
+        limited.getSimulation().setMaxTenureMonths(TENURE - 1);
+        ScheduleSimulationService service =
+                new ScheduleSimulationService(calculationService, amortizationEngine, limited);
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> service.simulate(ScheduleSimulationRequest.builder()
+                        .principalAmount(PRINCIPAL)
+                        .annualInterestRate(RATE)
+                        .tenureMonths(TENURE)
+                        .events(List.of(ScheduleEvent.builder()
+                                .eventType(ScheduleSimulationService.PREPAYMENT)
+                                .installmentNumber(1)
+                                .amount(new BigDecimal("1000.00"))
+                                .build()))
+                        .build()));
+
+        assertEquals("Tenure must not exceed 119 months", error.getMessage());
+        assertEquals(0, service.cachedBaseSchedules());
+    }
+
+    private ScheduleSimulationResponse simulate(ScheduleEvent... events) {
+        return simulationService.simulate(ScheduleSimulationRequest.builder()
+                .principalAmount(PRINCIPAL)
+                .annualInterestRate(RATE)
+                .tenureMonths(TENURE)
+                .startDate(LocalDate.of(2025, 1, 31))
+                .events(List.of(events))
+                .build());
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.los.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.los.application.service.StatusTransitionService;
+import com.example.los.application.workflow.ApplicationTransition;
+import com.example.los.application.workflow.TransitionGuard;
+import com.example.los.application.workflow.TransitionListener;
+import com.example.los.application.workflow.TransitionOutcome;
+import com.example.los.domain.lifecycle.ApplicationSnapshot;
+import com.example.los.domain.lifecycle.ApplicationStatus;
+import com.example.los.domain.lifecycle.ApprovalStatus;
+import com.example.los.infrastructure.config.LoanApplicationProperties;
+import com.example.los.infrastructure.repository.ApprovalBatchJdbcRepository;
+import com.example.los.infrastructure.repository.LoanApplicationRepository;
+import com.example.los.infrastructure.repository.LoanApprovalRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class StatusTransitionServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    @Mock
+    private LoanApplicationRepository loanApplicationRepository;
+
+    @Mock
+    private LoanApprovalRepository loanApprovalRepository;
+
+    @Mock
+    private ApprovalBatchJdbcRepository approvalBatchJdbcRepository;
+
+    @Test
+    void testLifecycleMatrix() {
+        assertTrue(ApplicationStatus.DRAFT.canTransitionTo(ApplicationStatus.SUBMITTED));
+        assertTrue(ApplicationStatus.UNDER_REVIEW.canTransitionTo(ApplicationStatus.APPROVED));
+        assertFalse(ApplicationStatus.SUBMITTED.canTransitionTo(ApplicationStatus.APPROVED));
+        assertFalse(ApplicationStatus.APPROVED.canTransitionTo(ApplicationStatus.APPROVED));
+        assertTrue(ApplicationStatus.REJECTED.isTerminal());
+        assertEquals(ApplicationStatus.UNDER_REVIEW, ApplicationStatus.fromCode("under_review"));
+        assertEquals(ApplicationStatus.UNKNOWN_DESCRIPTION, ApplicationStatus.describe("LEGACY"));
+        assertThrows(IllegalArgumentException.class, () -> ApplicationStatus.fromCode("LEGACY"));
+        assertFalse(ApprovalStatus.APPROVED.canTransitionTo(ApprovalStatus.REJECTED));
+    }
+
+    @Test
+    void testRetriesFromTheStatusThatWonTheRace() {
+        List<ApplicationTransition> fired = new ArrayList<>();
+        StatusTransitionService service = service(List.of(), List.of(fired::add));
+        when(loanApplicationRepository.findSnapshotById(5L))
+                .thenReturn(snapshot(ApplicationStatus.SUBMITTED), snapshot(ApplicationStatus.REQUIRES_MORE_INFO));
+        when(loanApplicationRepository.updateStatusIfCurrent(5L, ApplicationStatus.SUBMITTED,
+                ApplicationStatus.CANCELLED)).thenReturn(0);
+        when(loanApplicationRepository.updateStatusIfCurrent(5L, ApplicationStatus.REQUIRES_MORE_INFO,
+                ApplicationStatus.CANCELLED)).thenReturn(1);
+
+        TransitionOutcome<ApplicationStatus> outcome = service.transitionApplication(5L, ApplicationStatus.CANCELLED);
+
+        assertTrue(outcome.isApplied());
+        assertEquals(ApplicationStatus.REQUIRES_MORE_INFO, outcome.fromStatus());
+        assertEquals(2, outcome.attempts());
+        assertEquals(List.of(new ApplicationTransition(5L, ApplicationStatus.REQUIRES_MORE_INFO,
+                ApplicationStatus.CANCELLED, 3L, 4L, BigDecimal.TEN, BigDecimal.TEN, CREATED_AT)), fired);
+    }
+
+    @Test
+    void testSecondApproverSeesInvalidTransition() {
+        StatusTransitionService service = service(List.of(), List.of());
+        when(loanApplicationRepository.findSnapshotById(5L))
+                .thenReturn(snapshot(ApplicationStatus.UNDER_REVIEW), snapshot(ApplicationStatus.APPROVED));
+        when(loanApplicationRepository.updateStatusAndAmountIfCurrent(eq(5L), eq(ApplicationStatus.UNDER_REVIEW),
+                eq(ApplicationStatus.APPROVED), any())).thenReturn(0);
+
+        TransitionOutcome<ApplicationStatus> outcome = service.transitionApplication(5L, ApplicationStatus.APPROVED,
+                BigDecimal.TEN);
+
+        assertEquals(TransitionOutcome.Result.INVALID_TRANSITION, outcome.result());
+        assertEquals(ApplicationStatus.APPROVED, outcome.fromStatus());
+    }
+
+    @Test
+    void testGuardBlocksBeforeWriting() {
+        TransitionGuard noDisbursementOnWeekend = transition ->
+                transition.to() == ApplicationStatus.DISBURSED ? "Disbursement window closed" : null;
+        StatusTransitionService service = service(List.of(noDisbursementOnWeekend), List.of());
+        when(loanApplicationRepository.findSnapshotById(5L)).thenReturn(snapshot(ApplicationStatus.APPROVED));
+
+        TransitionOutcome<ApplicationStatus> outcome = service.transitionApplication(5L, ApplicationStatus.DISBURSED);
+
+        assertEquals(TransitionOutcome.Result.BLOCKED, outcome.result());
+        assertEquals("Disbursement window closed", outcome.reason());
+        verify(loanApplicationRepository, never()).updateStatusIfCurrent(any(), any(), any());
+    }
+
+    @Test
+    void testGivesUpAfterConfiguredAttempts() {
+        StatusTransitionService service = service(List.of(), List.of());
+        when(loanApplicationRepository.findSnapshotById(5L)).thenReturn(snapshot(ApplicationStatus.DRAFT));
+        when(loanApplicationRepository.updateStatusIfCurrent(5L, ApplicationStatus.DRAFT, ApplicationStatus.SUBMITTED))
+                .thenReturn(0);
+
+        TransitionOutcome<ApplicationStatus> outcome = service.transitionApplication(5L, ApplicationStatus.SUBMITTED);
+
+        assertEquals(TransitionOutcome.Result.CONFLICT, outcome.result());
+        assertEquals(3, outcome.attempts());
+        verify(loanApplicationRepository, times(3)).updateStatusIfCurrent(5L, ApplicationStatus.DRAFT,
+                ApplicationStatus.SUBMITTED);
+    }
+
+    @Test
+    void testApprovalDecidedOnlyOnce() {
+        StatusTransitionService service = service(List.of(), List.of());
+        when(loanApprovalRepository.decideIfCurrent(eq(9L), eq(ApprovalStatus.PENDING), eq(ApprovalStatus.APPROVED),
+                any(), eq("bob"), any())).thenReturn(0);
+        when(loanApprovalRepository.findStatusById(9L)).thenReturn(Optional.of(ApprovalStatus.REJECTED));
+
+        TransitionOutcome<ApprovalStatus> outcome = service.decideApproval(9L, ApprovalStatus.APPROVED, "bob", "ok");
+
+        assertEquals(TransitionOutcome.Result.INVALID_TRANSITION, outcome.result());
+        assertEquals(ApprovalStatus.REJECTED, outcome.fromStatus());
+    }
+
+    @Test
+    void testApprovalClaimedByAnotherApproverIsBlocked() {
+        StatusTransitionService service = service(List.of(), List.of());
+        when(loanApprovalRepository.decideIfCurrent(eq(9L), eq(ApprovalStatus.PENDING), eq(ApprovalStatus.APPROVED),
+                any(), eq("bob"), any())).thenReturn(0);
+        when(loanApprovalRepository.findStatusById(9L)).thenReturn(Optional.of(ApprovalStatus.PENDING));
+        when(loanApprovalRepository.findActiveClaimHolder(eq(9L), any())).thenReturn(Optional.of("alice"));
+
+        TransitionOutcome<ApprovalStatus> outcome = service.decideApproval(9L, ApprovalStatus.APPROVED, "bob", "ok");
+
+        assertEquals(TransitionOutcome.Result.BLOCKED, outcome.result());
+        assertEquals("Claimed by alice", outcome.reason());
+    }
+
+    @Test
+    void testBatchWritesOneUpdatePerStatusChange() {
+        List<ApplicationTransition> seen = new ArrayList<>();
+        StatusTransitionService service = service(List.of(), List.<TransitionListener>of(seen::add));
+        when(loanApplicationRepository.updateStatusesIfCurrent(List.of(1L, 3L), ApplicationStatus.UNDER_REVIEW,
+                ApplicationStatus.APPROVED)).thenReturn(2);
+
+        List<TransitionOutcome<ApplicationStatus>> outcomes = service.transitionApplications(List.of(
+                transition(1L, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.APPROVED),
+                transition(2L, ApplicationStatus.SUBMITTED, ApplicationStatus.APPROVED),
+                transition(3L, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.APPROVED)));
+
+        assertEquals(List.of(TransitionOutcome.Result.APPLIED, TransitionOutcome.Result.INVALID_TRANSITION,
+                TransitionOutcome.Result.APPLIED), outcomes.stream().map(TransitionOutcome::result).toList());
+        assertEquals(List.of(1L, 3L), seen.stream().map(ApplicationTransition::applicationId).toList());
+    }
+
+    @Test
+    void testMissingApprovalIsNotFound() {
+        StatusTransitionService service = service(List.of(), List.of());
+
+        assertEquals(TransitionOutcome.Result.NOT_FOUND,
+                service.decideApproval(10L, ApprovalStatus.APPROVED, "bob", "ok").result());
+    }
+
+    private static ApplicationTransition transition(Long id, ApplicationStatus from, ApplicationStatus to) {
+        return new ApplicationTransition(id, from, to, 3L, 4L, BigDecimal.TEN, BigDecimal.TEN, CREATED_AT);
+    }
+
+    private static Optional<ApplicationSnapshot> snapshot(ApplicationStatus status) {
+        return Optional.of(new ApplicationSnapshot(status, 3L, 4L, BigDecimal.TEN, CREATED_AT));
+    }
+
+    private StatusTransitionService service(List<TransitionGuard> guards, List<TransitionListener> listeners) {
+        LoanApplicationProperties properties = new LoanApplicationProperties();
+        return new StatusTransitionService(loanApplicationRepository, loanApprovalRepository,
+                approvalBatchJdbcRepository, properties, guards, listeners, List.of());
+    }
+}